@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookDTO;
+import example.BookRepository;
+import example.BookService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Covers the repository operations of the JDBC module, run with the GC profiler to report the allocation rate.
+ */
+@State(Scope.Benchmark)
+public class RepositoryOperations {
+
+    private static final int AUTHORS = 10;
+    private static final int BOOKS_PER_AUTHOR = 10;
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERTED = "Inserted";
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    AuthorRepository authorRepository;
+    BookService bookService;
+    List<Book> books;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.run();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+        this.bookService = applicationContext.getBean(BookService.class);
+        this.books = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            Author author = authorRepository.save(new Author("Author " + i));
+            for (int j = 0; j < BOOKS_PER_AUTHOR; j++) {
+                Book book = new Book("Book " + i + "-" + j, 100 + j * 100);
+                book.setAuthor(author);
+                books.add(book);
+            }
+        }
+        bookRepository.saveAll(books);
+    }
+
+    // The inserted rows are removed after every invocation so the measured operations always see the same dataset
+    @TearDown(Level.Invocation)
+    public void removeInserted() {
+        bookRepository.deleteByTitle(INSERTED);
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Book insert() {
+        return bookRepository.save(new Book(INSERTED, 100));
+    }
+
+    @Benchmark
+    public List<Book> batchInsert() {
+        return bookRepository.saveAll(newBooks());
+    }
+
+    @Benchmark
+    public void update() {
+        bookRepository.update(books.get(0).getId(), 200);
+    }
+
+    @Benchmark
+    public List<Book> batchUpdate() {
+        return bookRepository.updateAll(books);
+    }
+
+    @Benchmark
+    public void delete() {
+        bookRepository.delete(bookRepository.save(new Book(INSERTED, 100)));
+    }
+
+    @Benchmark
+    public void batchDelete() {
+        bookRepository.deleteAll(bookRepository.saveAll(newBooks()));
+    }
+
+    @Benchmark
+    public Book finder() {
+        return bookRepository.findByTitle("Book 5-5");
+    }
+
+    @Benchmark
+    public List<Book> joinedFetch() {
+        return bookRepository.listByPagesGreaterThan(500);
+    }
+
+    @Benchmark
+    public List<Author> joinedManyFetch() {
+        return authorRepository.listOrderById();
+    }
+
+    @Benchmark
+    public BookDTO dtoProjection() {
+        return bookRepository.searchByTitle("Book 5-5");
+    }
+
+    @Benchmark
+    public Page<Book> pagination() {
+        return bookRepository.findByPagesGreaterThan(300, Pageable.from(2, 10, Sort.of(Sort.Order.asc("title"))));
+    }
+
+    @Benchmark
+    public List<Book> specification() {
+        return bookRepository.findAll(pagesGreaterThan(500));
+    }
+
+    @Benchmark
+    public long streaming() {
+        return bookService.streamPages(300);
+    }
+
+    private static PredicateSpecification<Book> pagesGreaterThan(int pages) {
+        return (root, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("pages"), pages);
+    }
+
+    private static List<Book> newBooks() {
+        List<Book> newBooks = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            newBooks.add(new Book(INSERTED, i));
+        }
+        return newBooks;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RepositoryOperations.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -24,6 +24,8 @@ public class Book {
     private Long id;
     private String title;
     private int pages;
+    @ManyToOne
+    private Author author;
 
     public Book(String title, int pages) {
         this.title = title;
@@ -56,4 +58,12 @@ public class Book {
     public void setPages(int pages) {
         this.pages = pages;
     }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 original authors
+ * Copyright 2017-2022 original authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,32 @@
  */
 package example;
 
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Join;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 @JdbcRepository(dialect = Dialect.H2)
-public interface BookRepository extends CrudRepository<Book, Long> {
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> {
     Book findByTitle(String title);
+
+    BookDTO searchByTitle(String title);
+
+    Page<Book> findByPagesGreaterThan(int pages, Pageable pageable);
+
+    @Join("author")
+    List<Book> listByPagesGreaterThan(int pages);
+
+    Stream<Book> queryByPagesGreaterThan(int pages);
+
+    void update(@Id Long id, int pages);
+
+    void deleteByTitle(String title);
 }
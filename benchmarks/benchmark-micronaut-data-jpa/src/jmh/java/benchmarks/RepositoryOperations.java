@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import example.Book;
+import example.BookDTO;
+import example.BookRepository;
+import example.Manufacturer;
+import example.ManufacturerRepository;
+import example.Product;
+import example.ProductRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.jpa.repository.criteria.Specification;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Covers the repository operations of the Hibernate JPA module, run with the GC profiler to report the allocation rate.
+ */
+@State(Scope.Benchmark)
+public class RepositoryOperations {
+
+    private static final int MANUFACTURERS = 10;
+    private static final int BOOKS = 100;
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERTED = "Inserted";
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    ProductRepository productRepository;
+    List<Book> books;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.builder().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.productRepository = applicationContext.getBean(ProductRepository.class);
+        this.books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(new Book("Book " + i, 100 + (i % 10) * 100));
+        }
+        bookRepository.saveAll(books);
+        ManufacturerRepository manufacturerRepository = applicationContext.getBean(ManufacturerRepository.class);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < MANUFACTURERS; i++) {
+            Manufacturer manufacturer = new Manufacturer();
+            manufacturer.setName("Manufacturer " + i);
+            manufacturer = manufacturerRepository.save(manufacturer);
+            for (int j = 0; j < 10; j++) {
+                products.add(new Product("Product " + i + "-" + j, manufacturer));
+            }
+        }
+        productRepository.saveAll(products);
+    }
+
+    // The inserted rows are removed after every invocation so the measured operations always see the same dataset
+    @TearDown(Level.Invocation)
+    public void removeInserted() {
+        bookRepository.deleteByTitleLike(INSERTED);
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Book insert() {
+        return bookRepository.save(new Book(INSERTED, 100));
+    }
+
+    @Benchmark
+    public Iterable<Book> batchInsert() {
+        return bookRepository.saveAll(newBooks());
+    }
+
+    @Benchmark
+    public void update() {
+        bookRepository.update(books.get(0).getId(), 200);
+    }
+
+    @Benchmark
+    public Iterable<Book> batchUpdate() {
+        return bookRepository.updateAll(books);
+    }
+
+    @Benchmark
+    public void delete() {
+        bookRepository.delete(bookRepository.save(new Book(INSERTED, 100)));
+    }
+
+    @Benchmark
+    public void batchDelete() {
+        bookRepository.deleteAll(bookRepository.saveAll(newBooks()));
+    }
+
+    @Benchmark
+    public Book finder() {
+        return bookRepository.findByTitle("Book 55");
+    }
+
+    @Benchmark
+    public List<Product> joinedFetch() {
+        return productRepository.list();
+    }
+
+    @Benchmark
+    public BookDTO dtoProjection() {
+        return bookRepository.findOne("Book 55");
+    }
+
+    @Benchmark
+    public Page<Book> pagination() {
+        return bookRepository.findByTitleLike("Book%", Pageable.from(2, 10, Sort.of(Sort.Order.asc("title"))));
+    }
+
+    @Benchmark
+    public List<Book> specification() {
+        return bookRepository.findAll(pagesGreaterThan(500));
+    }
+
+    @Benchmark
+    public long streaming() {
+        try (Stream<Book> stream = bookRepository.queryByPagesGreaterThan(300)) {
+            return stream.mapToLong(Book::getPages).sum();
+        }
+    }
+
+    private static Specification<Book> pagesGreaterThan(int pages) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("pages"), pages);
+    }
+
+    private static List<Book> newBooks() {
+        List<Book> newBooks = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            newBooks.add(new Book(INSERTED, i));
+        }
+        return newBooks;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RepositoryOperations.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -17,11 +17,13 @@ package example;
 
 import io.micronaut.data.annotation.*;
 import io.micronaut.data.model.*;
+import io.micronaut.data.jpa.repository.JpaSpecificationExecutor;
 import io.micronaut.data.repository.CrudRepository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository // <1>
-public interface BookRepository extends CrudRepository<Book, Long> { // <2>
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> { // <2>
 // end::repository[]
 
     // tag::simple[]
@@ -111,6 +113,8 @@ public interface BookRepository extends CrudRepository<Book, Long> { // <2>
     List<Book> findNativeBooks(String title);
     // end::native[]
 
+    Stream<Book> queryByPagesGreaterThan(int pageCount);
+
 // tag::repository[]
 }
 // end::repository[]
@@ -15,10 +15,30 @@
  */
 package example;
 
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Join;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.mongodb.annotation.MongoRepository;
 import io.micronaut.data.repository.CrudRepository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @MongoRepository
 public interface BookRepository extends CrudRepository<Book, String> {
     Book findByTitle(String title);
+
+    BookDTO searchByTitle(String title);
+
+    Page<Book> findByPagesGreaterThan(int pages, Pageable pageable);
+
+    @Join("author")
+    List<Book> listByPagesGreaterThan(int pages);
+
+    Stream<Book> queryByPagesGreaterThan(int pages);
+
+    void update(@Id String id, int pages);
+
+    void deleteByTitle(String title);
 }
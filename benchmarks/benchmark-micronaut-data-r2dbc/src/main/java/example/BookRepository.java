@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Join;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.jpa.reactive.ReactorJpaSpecificationExecutor;
+import io.micronaut.data.repository.reactive.ReactorCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@R2dbcRepository(dialect = Dialect.H2)
+public interface BookRepository extends ReactorCrudRepository<Book, Long>, ReactorJpaSpecificationExecutor<Book> {
+    Mono<Book> findByTitle(String title);
+
+    Mono<BookDTO> searchByTitle(String title);
+
+    Mono<Page<Book>> findByPagesGreaterThan(int pages, Pageable pageable);
+
+    @Join("author")
+    Flux<Book> listByPagesGreaterThan(int pages);
+
+    Flux<Book> queryByPagesGreaterThan(int pages);
+
+    Mono<Long> update(@Id Long id, int pages);
+
+    Mono<Long> deleteByTitle(String title);
+}
@@ -907,6 +907,44 @@ public final class MongoQueryBuilder implements QueryBuilder {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Builds the keyset (seek) filter selecting the documents that follow the cursor in the order of the sort.
+     * The values of the cursor are represented by the query parameter placeholders with the index of the sort order.
+     *
+     * @param entity The root entity
+     * @param sort   The sort
+     * @return The filter
+     * @since 3.6.0
+     */
+    @NonNull
+    public String buildCursorFilter(@NonNull PersistentEntity entity, @NonNull Sort sort) {
+        ArgumentUtils.requireNonNull("entity", entity);
+        ArgumentUtils.requireNonNull("sort", sort);
+        List<Sort.Order> orders = sort.getOrderBy();
+        if (CollectionUtils.isEmpty(orders)) {
+            throw new IllegalArgumentException("Sort is empty");
+        }
+        String[] paths = new String[orders.size()];
+        for (int i = 0; i < paths.length; i++) {
+            String property = orders.get(i).getProperty();
+            PersistentPropertyPath propertyPath = entity.getPropertyPath(property);
+            if (propertyPath == null) {
+                throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
+            }
+            paths[i] = asPath(propertyPath.getAssociations(), propertyPath.getProperty());
+        }
+        List<Map<String, Object>> or = new ArrayList<>(paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            Map<String, Object> and = new LinkedHashMap<>();
+            for (int j = 0; j < i; j++) {
+                and.put(paths[j], singletonMap("$eq", singletonMap(QUERY_PARAMETER_PLACEHOLDER, j)));
+            }
+            and.put(paths[i], singletonMap(orders.get(i).isAscending() ? "$gt" : "$lt", singletonMap(QUERY_PARAMETER_PLACEHOLDER, i)));
+            or.add(and);
+        }
+        return toJsonString(or.size() == 1 ? or.get(0) : singletonMap("$or", or));
+    }
+
     private String toJsonString(Object obj) {
         StringBuilder sb = new StringBuilder();
         append(sb, obj);
@@ -48,6 +48,7 @@ import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
+import io.micronaut.data.runtime.operations.internal.AsyncExecutors;
 import io.micronaut.jdbc.spring.HibernatePresenceCondition;
 import io.micronaut.transaction.TransactionOperations;
 import jakarta.inject.Named;
@@ -73,7 +74,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -463,8 +463,8 @@ public class HibernateJpaOperations extends AbstractHibernateOperations<Session,
     }
 
     @NonNull
-    private ExecutorService newLocalThreadPool() {
-        this.executorService = Executors.newCachedThreadPool();
+    private ExecutorService newAsyncExecutor() {
+        this.executorService = AsyncExecutors.newExecutor(getApplicationContext(), executorService, null);
         return executorService;
     }
 
@@ -478,7 +478,7 @@ public class HibernateJpaOperations extends AbstractHibernateOperations<Session,
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            newAsyncExecutor()
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -56,6 +56,26 @@ public class DataJdbcConfiguration implements Named {
      */
     private boolean allowConnectionPerOperation;
 
+    /**
+     * The maximum number of entities executed in a single JDBC batch.
+     */
+    private int batchSize;
+
+    /**
+     * If true, the update of an entity only sets the columns changed since the entity was loaded or written.
+     */
+    private boolean dynamicUpdate;
+
+    /**
+     * If true, the total size of a page is read from a {@code COUNT(*) OVER()} column of the page query.
+     */
+    private boolean singleQueryPage;
+
+    /**
+     * If true, the batch insert of the entities is executed as multi-row inserts where the dialect supports it.
+     */
+    private boolean multiRowInsert;
+
     /**
      * The configuration.
      * @param name The configuration name
@@ -161,4 +181,84 @@ public class DataJdbcConfiguration implements Named {
     public void setAllowConnectionPerOperation(boolean allowConnectionPerOperation) {
         this.allowConnectionPerOperation = allowConnectionPerOperation;
     }
+
+    /**
+     * @return The maximum number of entities executed in a single JDBC batch, zero or a negative number executes all the entities in one batch
+     * @since 3.6.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of entities executed in a single JDBC batch. The batch operations with more entities
+     * are executed in multiple batches. Zero or a negative number executes all the entities in one batch.
+     *
+     * @param batchSize The batch size
+     * @since 3.6.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return Whether the update of an entity only sets the changed columns
+     * @since 3.6.0
+     */
+    public boolean isDynamicUpdate() {
+        return dynamicUpdate;
+    }
+
+    /**
+     * Sets whether the update of an entity only sets the changed columns. The state of the loaded and the written
+     * entities is kept and compared with the current state of an updated entity, the entities without a kept state
+     * and the custom update queries update all the columns.
+     *
+     * @param dynamicUpdate True if only the changed columns should be updated
+     * @since 3.6.0
+     */
+    public void setDynamicUpdate(boolean dynamicUpdate) {
+        this.dynamicUpdate = dynamicUpdate;
+    }
+
+    /**
+     * @return Whether the total size of a page is read from the page query
+     * @since 3.6.0
+     */
+    public boolean isSingleQueryPage() {
+        return singleQueryPage;
+    }
+
+    /**
+     * Sets whether the total size of a page is read from a {@code COUNT(*) OVER()} column added to the page query
+     * instead of a separate count query. The count query is still executed for an empty page after the first page
+     * and for the queries that cannot have the window column. The asynchronous and reactive repositories always
+     * execute the count query.
+     *
+     * @param singleQueryPage True if the page should be read with a single query
+     * @since 3.6.0
+     */
+    public void setSingleQueryPage(boolean singleQueryPage) {
+        this.singleQueryPage = singleQueryPage;
+    }
+
+    /**
+     * @return Whether the batch insert of the entities is executed as multi-row inserts
+     * @since 3.6.0
+     */
+    public boolean isMultiRowInsert() {
+        return multiRowInsert;
+    }
+
+    /**
+     * Sets whether the batch insert of the entities is executed as multi-row inserts
+     * {@code INSERT INTO table (...) VALUES (...), (...)} for the dialects supporting it instead of a batch
+     * of single-row inserts.
+     *
+     * @param multiRowInsert True if the multi-row inserts should be used
+     * @since 3.6.0
+     */
+    public void setMultiRowInsert(boolean multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+    }
 }
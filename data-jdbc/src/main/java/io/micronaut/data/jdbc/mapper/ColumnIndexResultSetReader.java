@@ -30,6 +30,7 @@ import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Date;
 
 /**
@@ -121,6 +122,47 @@ public final class ColumnIndexResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Nullable
+    @Override
+    public Object readJson(ResultSet resultSet, Integer index) {
+        try {
+            return readJsonColumn(resultSet, index);
+        } catch (SQLException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
+    /**
+     * Reads the JSON column with a single call to the driver, the binary columns as bytes and the other columns
+     * as strings.
+     *
+     * @param resultSet The result set
+     * @param index     The column index
+     * @return The bytes or the string of the column
+     * @throws SQLException If the column cannot be read
+     */
+    @Nullable
+    static Object readJsonColumn(ResultSet resultSet, int index) throws SQLException {
+        switch (resultSet.getMetaData().getColumnType(index)) {
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return resultSet.getBytes(index);
+            case Types.BLOB:
+                Blob blob = resultSet.getBlob(index);
+                if (blob == null) {
+                    return null;
+                }
+                try {
+                    return blob.getBytes(1, (int) blob.length());
+                } finally {
+                    blob.free();
+                }
+            default:
+                return resultSet.getString(index);
+        }
+    }
+
     @Override
     public int readInt(ResultSet resultSet, Integer index) {
         try {
@@ -23,6 +23,7 @@ import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.runtime.convert.DataConversionService;
+import io.micronaut.data.runtime.mapper.ColumnIndexResolver;
 import io.micronaut.data.runtime.mapper.ResultReader;
 
 import java.math.BigDecimal;
@@ -38,8 +39,9 @@ import java.util.Date;
  * @author graemerocher
  * @since 1.0.0
  */
-public final class ColumnNameResultSetReader implements ResultReader<ResultSet, String> {
+public final class ColumnNameResultSetReader implements ResultReader<ResultSet, String>, ColumnIndexResolver<ResultSet> {
     private final ConversionService<?> conversionService;
+    private final ColumnIndexResultSetReader columnIndexResultSetReader;
 
     public ColumnNameResultSetReader() {
         this(null);
@@ -54,6 +56,7 @@ public final class ColumnNameResultSetReader implements ResultReader<ResultSet,
     public ColumnNameResultSetReader(DataConversionService<?> conversionService) {
         // Backwards compatibility should be removed in the next version
         this.conversionService = conversionService == null ? ConversionService.SHARED : conversionService;
+        this.columnIndexResultSetReader = new ColumnIndexResultSetReader(conversionService);
     }
 
     @Override
@@ -61,6 +64,22 @@ public final class ColumnNameResultSetReader implements ResultReader<ResultSet,
         return conversionService;
     }
 
+    @Override
+    public int findColumnIndex(@NonNull ResultSet resultSet, @NonNull String columnName) {
+        try {
+            return resultSet.findColumn(columnName);
+        } catch (SQLException e) {
+            // Unknown column, the name lookup will report the error
+            return -1;
+        }
+    }
+
+    @NonNull
+    @Override
+    public ResultReader<ResultSet, Integer> getColumnIndexReader() {
+        return columnIndexResultSetReader;
+    }
+
     @Nullable
     @Override
     public Object readDynamic(@NonNull ResultSet resultSet, @NonNull String index, @NonNull DataType dataType) {
@@ -146,6 +165,16 @@ public final class ColumnNameResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Nullable
+    @Override
+    public Object readJson(ResultSet resultSet, String name) {
+        try {
+            return ColumnIndexResultSetReader.readJsonColumn(resultSet, resultSet.findColumn(name));
+        } catch (SQLException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
     @Override
     public int readInt(ResultSet resultSet, String name) {
         try {
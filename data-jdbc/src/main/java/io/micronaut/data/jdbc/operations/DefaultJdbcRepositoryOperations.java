@@ -38,10 +38,13 @@ import io.micronaut.data.jdbc.mapper.JdbcQueryStatement;
 import io.micronaut.data.jdbc.mapper.SqlResultConsumer;
 import io.micronaut.data.jdbc.runtime.ConnectionCallback;
 import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
@@ -73,8 +76,10 @@ import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
+import io.micronaut.data.runtime.operations.SingleQueryPageOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
+import io.micronaut.data.runtime.operations.internal.AsyncExecutors;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
@@ -85,6 +90,9 @@ import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.transaction.TransactionOperations;
 import io.micronaut.transaction.jdbc.DataSourceUtils;
 import io.micronaut.transaction.jdbc.DelegatingDataSource;
+import io.micronaut.transaction.jdbc.ReadReplicaRoutingDataSource;
+import io.micronaut.transaction.support.SynchronousTransactionState;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import jakarta.inject.Named;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,11 +117,12 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -132,6 +141,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         AsyncCapableRepository,
         ReactiveCapableRepository,
         AutoCloseable,
+        SingleQueryPageOperations,
         SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultJdbcRepositoryOperations.JdbcOperationContext> {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultJdbcRepositoryOperations.class);
     private final TransactionOperations<Connection> transactionOperations;
@@ -190,8 +200,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     @NonNull
-    private ExecutorService newLocalThreadPool() {
-        this.executorService = Executors.newCachedThreadPool();
+    private ExecutorService newAsyncExecutor() {
+        DataSource connectionPool = unwrapedDataSource instanceof ReadReplicaRoutingDataSource
+                ? ((ReadReplicaRoutingDataSource) unwrapedDataSource).getPrimaryDataSource() : unwrapedDataSource;
+        this.executorService = AsyncExecutors.newExecutor(getApplicationContext(), executorService, connectionPool);
         return executorService;
     }
 
@@ -227,6 +239,22 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return op.getEntity();
     }
 
+    @Override
+    public <T> List<T> updateBatch(JdbcOperationContext ctx, List<T> values, RuntimePersistentEntity<T> persistentEntity) {
+        if (!isSupportsBatchUpdate(persistentEntity, ctx.dialect)) {
+            return SyncCascadeOperations.SyncCascadeOperationsHelper.super.updateBatch(ctx, values, persistentEntity);
+        }
+        SqlStoredQuery<T, T> storedQuery = resolveEntityUpdate(
+                ctx.annotationMetadata,
+                ctx.repositoryType,
+                persistentEntity.getIntrospection().getBeanType(),
+                persistentEntity
+        );
+        JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, values, storedQuery);
+        op.update();
+        return op.getEntities();
+    }
+
     @Override
     public void persistManyAssociation(JdbcOperationContext ctx,
                                        RuntimeAssociation runtimeAssociation,
@@ -255,6 +283,41 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
     }
 
+    @Override
+    public void persistManyAssociationsBatch(JdbcOperationContext ctx,
+                                             RuntimeAssociation runtimeAssociation,
+                                             List<Object> values, RuntimePersistentEntity<Object> persistentEntity,
+                                             List<? extends Iterable<Object>> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        // The join table insert binds the parent identity, the rows of all the parents are added to the same batch
+        String query = resolveSqlInsertAssociation(ctx.repositoryType, runtimeAssociation, persistentEntity, values.get(0)).getQuery();
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing SQL query: {}", query);
+        }
+        try (PreparedStatement ps = ctx.connection.prepareStatement(query)) {
+            int batchSize = jdbcConfiguration.getBatchSize();
+            int batched = 0;
+            for (int i = 0; i < values.size(); i++) {
+                SqlStoredQuery<Object, ?> storedQuery = resolveSqlInsertAssociation(ctx.repositoryType, runtimeAssociation, persistentEntity, values.get(i));
+                for (Object child : children.get(i)) {
+                    if (ctx.persisted.contains(child)) {
+                        continue;
+                    }
+                    storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, ctx.dialect), null, child, null);
+                    ps.addBatch();
+                    if (++batched == batchSize) {
+                        ps.executeBatch();
+                        batched = 0;
+                    }
+                }
+            }
+            if (batched > 0) {
+                ps.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("SQL error executing INSERT: " + e.getMessage(), e);
+        }
+    }
+
     @NonNull
     @Override
     public ExecutorAsyncOperations async() {
@@ -265,7 +328,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            newAsyncExecutor()
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -283,6 +346,20 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Nullable
     @Override
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> pq) {
+        EntityCacheLookup<R> cacheLookup = lookupEntityCache(getSqlPreparedQuery(pq));
+        if (cacheLookup == null) {
+            return findOneNotCached(pq);
+        }
+        R result = cacheLookup.get();
+        if (result == null) {
+            result = findOneNotCached(pq);
+            cacheLookup.put(result);
+        }
+        return result;
+    }
+
+    @Nullable
+    private <T, R> R findOneNotCached(@NonNull PreparedQuery<T, R> pq) {
         return executeRead(connection -> {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
             RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
@@ -301,10 +378,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                                 jsonCodec,
                                 (loadedEntity, o) -> {
                                     if (loadedEntity.hasPostLoadEventListeners()) {
-                                        return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
-                                    } else {
-                                        return o;
+                                        o = triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
                                     }
+                                    snapshotEntity(loadedEntity, o);
+                                    return o;
                                 },
                                 conversionService);
                         SqlResultEntityTypeMapper.PushingMapper<ResultSet, R> oneMapper = mapper.readOneWithJoins();
@@ -371,13 +448,18 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T, R> Stream<R> findStream(@NonNull PreparedQuery<T, R> pq, Connection connection) {
+        return findStream(pq, connection, null);
+    }
+
+    private <T, R> Stream<R> findStream(@NonNull PreparedQuery<T, R> pq, Connection connection, @Nullable AtomicLong totalSize) {
         SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
 
         PreparedStatement ps;
         try {
-            ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
+            // The total size is read from the window count column
+            ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false, totalSize != null);
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
         } catch (Exception e) {
             throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
@@ -415,13 +497,47 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                             jsonCodec,
                             (loadedEntity, o) -> {
                                 if (loadedEntity.hasPostLoadEventListeners()) {
-                                    return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
-                                } else {
-                                    return o;
+                                    o = triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
                                 }
+                                snapshotEntity(loadedEntity, o);
+                                return o;
                             },
                             conversionService);
                     boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
+                    if (!onlySingleEndedJoins && isOrderedByRootId(preparedQuery)) {
+                        // The rows of the same entity are adjacent, emit the entity as soon as the id changes
+                        SqlResultEntityTypeMapper.IncrementalPushingMapper<ResultSet, R> incrementalMapper = entityTypeMapper.readAllWithJoinsIncrementally();
+                        spliterator = new Spliterators.AbstractSpliterator<R>(Long.MAX_VALUE,
+                                Spliterator.ORDERED | Spliterator.IMMUTABLE) {
+                            @Override
+                            public boolean tryAdvance(Consumer<? super R> action) {
+                                if (finished.get()) {
+                                    return false;
+                                }
+                                try {
+                                    while (rs.next()) {
+                                        R o = incrementalMapper.processRow(rs);
+                                        if (o != null) {
+                                            action.accept(o);
+                                            return true;
+                                        }
+                                    }
+                                } catch (SQLException e) {
+                                    throw new DataAccessException("Error retrieving next JDBC result: " + e.getMessage(), e);
+                                }
+                                R last = incrementalMapper.finish();
+                                closeResultSet(ps, rs, finished);
+                                if (last != null) {
+                                    action.accept(last);
+                                    return true;
+                                }
+                                return false;
+                            }
+                        };
+                        return StreamSupport.stream(spliterator, false).onClose(() -> {
+                            closeResultSet(ps, rs, finished);
+                        });
+                    }
                     // Cannot stream ResultSet for "many" joined query
                     if (!onlySingleEndedJoins) {
                         try {
@@ -446,6 +562,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         }
                         boolean hasNext = mapper.hasNext(rs);
                         if (hasNext) {
+                            if (totalSize != null && totalSize.get() == -1) {
+                                // Every row has the window column, it's read once
+                                totalSize.set(columnNameResultSetReader.readLong(rs, SqlQueryBuilder.WINDOW_COUNT_ALIAS));
+                            }
                             R o = mapper.map(rs, resultType);
                             if (sqlMappingConsumer != null) {
                                 sqlMappingConsumer.accept(rs, o);
@@ -524,6 +644,43 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         });
     }
 
+    @Nullable
+    @Override
+    public <T, R> Page<R> findPage(@NonNull PreparedQuery<T, R> pq, @NonNull Supplier<PreparedQuery<?, Number>> countQuery) {
+        if (!jdbcConfiguration.isSingleQueryPage()) {
+            return null;
+        }
+        SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        Pageable pageable = preparedQuery.getPageable();
+        AnnotationMetadata annotationMetadata = preparedQuery.getAnnotationMetadata();
+        if (pageable == Pageable.UNPAGED
+                || pageable instanceof CursoredPageable
+                || preparedQuery.isNative()
+                // The custom queries are executed as written and the custom count query can count differently
+                || annotationMetadata.stringValue(Query.class, DataMethod.META_MEMBER_RAW_QUERY).isPresent()
+                || annotationMetadata.stringValue(Query.class, DataMethod.META_MEMBER_RAW_COUNT_QUERY).isPresent()
+                || preparedQuery.getResultDataType() != DataType.ENTITY && !preparedQuery.isDtoProjection()
+                || !preparedQuery.getJoinFetchPaths().isEmpty()
+                || preparedQuery.getWindowCountQuery(null) == null) {
+            return null;
+        }
+        AtomicLong totalSize = new AtomicLong(-1);
+        List<R> content = executeRead(connection -> {
+            try (Stream<R> stream = findStream(preparedQuery, connection, totalSize)) {
+                return stream.collect(Collectors.toList());
+            }
+        });
+        if (totalSize.get() != -1) {
+            return Page.of(content, pageable, totalSize.get());
+        }
+        if (pageable.getOffset() == 0) {
+            return Page.of(content, pageable, 0);
+        }
+        // There is no row to read the total size from, the page is out of the range
+        Number n = findOne(countQuery.get());
+        return Page.of(content, pageable, n != null ? n.longValue() : 0);
+    }
+
     @NonNull
     @Override
     public Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
@@ -536,6 +693,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     if (QUERY_LOG.isTraceEnabled()) {
                         QUERY_LOG.trace("Update operation updated {} records", result);
                     }
+                    evictCachedEntities(preparedQuery.getPersistentEntity());
+                    invalidateQueryResults(preparedQuery.getPersistentEntity());
                     if (preparedQuery.isOptimisticLock()) {
                         checkOptimisticLocking(1, result);
                     }
@@ -682,6 +841,22 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         });
     }
 
+    @Override
+    protected boolean isDynamicUpdate() {
+        return jdbcConfiguration.isDynamicUpdate();
+    }
+
+    @Override
+    protected boolean isMultiRowInsert() {
+        return jdbcConfiguration.isMultiRowInsert();
+    }
+
+    @Override
+    protected SynchronousTransactionState findTransactionState() {
+        // The transaction manager of the data source binds the state to the unwrapped data source
+        return TransactionSynchronizationManager.getSynchronousTransactionState(unwrapedDataSource);
+    }
+
     private <I> I executeRead(Function<Connection, I> fn) {
         if (jdbcConfiguration.isTransactionPerOperation()) {
             return transactionOperations.executeRead(status -> fn.apply(status.getConnection()));
@@ -689,13 +864,20 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         if (!jdbcConfiguration.isAllowConnectionPerOperation() || transactionOperations.hasConnection()) {
             return fn.apply(transactionOperations.getConnection());
         }
-        try (Connection connection = unwrapedDataSource.getConnection()) {
+        try (Connection connection = getReadConnection()) {
             return fn.apply(connection);
         } catch (SQLException e) {
             throw new DataAccessException("Cannot get connection: " + e.getMessage(), e);
         }
     }
 
+    private Connection getReadConnection() throws SQLException {
+        if (unwrapedDataSource instanceof ReadReplicaRoutingDataSource) {
+            return ((ReadReplicaRoutingDataSource) unwrapedDataSource).getReadConnection();
+        }
+        return unwrapedDataSource.getConnection();
+    }
+
     private <I> I executeWrite(Function<Connection, I> fn) {
         if (jdbcConfiguration.isTransactionPerOperation()) {
             return transactionOperations.executeWrite(status -> fn.apply(status.getConnection()));
@@ -704,7 +886,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             return fn.apply(transactionOperations.getConnection());
         }
         try (Connection connection = unwrapedDataSource.getConnection()) {
-            return fn.apply(connection);
+            I result = fn.apply(connection);
+            if (unwrapedDataSource instanceof ReadReplicaRoutingDataSource) {
+                ((ReadReplicaRoutingDataSource) unwrapedDataSource).markWrite();
+            }
+            return result;
         } catch (SQLException e) {
             throw new DataAccessException("Cannot get connection: " + e.getMessage(), e);
         }
@@ -952,6 +1138,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         private final SqlStoredQuery<T, ?> storedQuery;
         private Integer rowsUpdated;
         private Map<QueryParameterBinding, Object> previousValues;
+        private boolean update;
 
         private JdbcEntityOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
             this(ctx, storedQuery, persistentEntity, entity, false);
@@ -970,6 +1157,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             previousValues = storedQuery.collectAutoPopulatedPreviousValues(entity);
         }
 
+        @Override
+        public void update() {
+            update = true;
+            super.update();
+        }
+
         private PreparedStatement prepare(Connection connection, SqlStoredQuery storedQuery) throws SQLException {
             if (storedQuery instanceof SqlPreparedQuery) {
                 ((SqlPreparedQuery) storedQuery).prepare(entity);
@@ -982,17 +1175,25 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     return connection.prepareStatement(this.storedQuery.getQuery(), hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
             } else {
-                return connection.prepareStatement(this.storedQuery.getQuery());
+                return connection.prepareStatement(storedQuery.getQuery());
             }
         }
 
         @Override
         protected void execute() throws SQLException {
+            SqlStoredQuery<T, ?> query = storedQuery;
+            if (update) {
+                query = resolveEntityDynamicUpdate(ctx.annotationMetadata, ctx.repositoryType, storedQuery, entity);
+                if (query == null) {
+                    // No column changed
+                    return;
+                }
+            }
             if (QUERY_LOG.isDebugEnabled()) {
-                QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
+                QUERY_LOG.debug("Executing SQL query: {}", query.getQuery());
             }
-            try (PreparedStatement ps = prepare(ctx.connection, storedQuery)) {
-                storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, ctx.dialect), null, entity, previousValues);
+            try (PreparedStatement ps = prepare(ctx.connection, query)) {
+                query.bindParameters(new JdbcParameterBinder(ctx.connection, ps, ctx.dialect), null, entity, previousValues);
                 rowsUpdated = ps.executeUpdate();
                 if (hasGeneratedId) {
                     try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
@@ -1010,6 +1211,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     checkOptimisticLocking(1, rowsUpdated);
                 }
             }
+            if (insert || update) {
+                snapshotEntity(persistentEntity, entity);
+            }
+            // Inserts are evicted as well: an upsert runs as an insert and can overwrite a cached row
+            evictCachedEntity(persistentEntity, entity);
+            invalidateQueryResults(persistentEntity);
         }
     }
 
@@ -1017,6 +1224,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
         private final SqlStoredQuery<T, ?> storedQuery;
         private int rowsUpdated;
+        private boolean update;
 
         private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
             this(ctx, persistentEntity, entities, storedQuery, false);
@@ -1040,63 +1248,131 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
         }
 
-        private PreparedStatement prepare(Connection connection) throws SQLException {
+        @Override
+        public void update() {
+            update = true;
+            super.update();
+        }
+
+        private PreparedStatement prepare(Connection connection, String query) throws SQLException {
             if (insert) {
                 Dialect dialect = storedQuery.getDialect();
                 if (hasGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
-                    return connection.prepareStatement(storedQuery.getQuery(), new String[]{persistentEntity.getIdentity().getPersistedName()});
+                    return connection.prepareStatement(query, new String[]{persistentEntity.getIdentity().getPersistedName()});
                 } else {
-                    return connection.prepareStatement(storedQuery.getQuery(), hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+                    return connection.prepareStatement(query, hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
             } else {
-                return connection.prepareStatement(storedQuery.getQuery());
-            }
-        }
-
-        private void setParameters(PreparedStatement stmt, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
-            for (Data d : entities) {
-                if (d.vetoed) {
-                    continue;
-                }
-                storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, stmt, ctx.dialect), null, d.entity, d.previousValues);
-                stmt.addBatch();
+                return connection.prepareStatement(query);
             }
         }
 
         @Override
         protected void execute() throws SQLException {
+            if (insert) {
+                int maxRows = getMaxMultiRowInsertRows(ctx.annotationMetadata, ctx.repositoryType, storedQuery);
+                int batchSize = jdbcConfiguration.getBatchSize();
+                if (batchSize > 0) {
+                    maxRows = Math.min(maxRows, batchSize);
+                }
+                if (maxRows > 1) {
+                    executeMultiRowInsert(maxRows);
+                    updateEntityStates();
+                    return;
+                }
+            }
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
-            try (PreparedStatement ps = prepare(ctx.connection)) {
-                setParameters(ps, storedQuery);
-                rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
-                if (hasGeneratedId) {
-                    RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    List<Object> ids = new ArrayList<>();
-                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                        while (generatedKeys.next()) {
-                            ids.add(columnIndexResultSetReader.readDynamic(generatedKeys, 1, identity.getDataType()));
-                        }
+            try (PreparedStatement ps = prepare(ctx.connection, storedQuery.getQuery())) {
+                int batchSize = jdbcConfiguration.getBatchSize();
+                List<Data> batch = new ArrayList<>(batchSize > 0 ? Math.min(batchSize, entities.size()) : entities.size());
+                int expected = 0;
+                for (Data d : entities) {
+                    if (d.vetoed) {
+                        continue;
                     }
-                    Iterator<Object> iterator = ids.iterator();
-                    for (Data d : entities) {
-                        if (d.vetoed) {
-                            continue;
-                        }
-                        if (!iterator.hasNext()) {
-                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                        } else {
-                            Object id = iterator.next();
-                            d.entity = updateEntityId((BeanProperty<T, Object>) identity.getProperty(), d.entity, id);
-                        }
+                    storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, ctx.dialect), null, d.entity, d.previousValues);
+                    ps.addBatch();
+                    batch.add(d);
+                    expected++;
+                    if (batch.size() == batchSize) {
+                        executeBatch(ps, batch);
+                        batch.clear();
                     }
                 }
+                if (!batch.isEmpty()) {
+                    executeBatch(ps, batch);
+                }
                 if (storedQuery.isOptimisticLock()) {
-                    int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
                     checkOptimisticLocking(expected, rowsUpdated);
                 }
             }
+            updateEntityStates();
+        }
+
+        private void updateEntityStates() {
+            if (insert || update) {
+                for (Data d : entities) {
+                    if (!d.vetoed) {
+                        snapshotEntity(persistentEntity, d.entity);
+                    }
+                }
+            }
+            // Inserts are evicted as well: an upsert runs as an insert and can overwrite a cached row
+            for (Data d : entities) {
+                if (!d.vetoed) {
+                    evictCachedEntity(persistentEntity, d.entity);
+                }
+            }
+            invalidateQueryResults(persistentEntity);
+        }
+
+        private void executeMultiRowInsert(int maxRows) throws SQLException {
+            List<Data> notVetoedEntities = entities.stream().filter(d -> !d.vetoed).collect(Collectors.toList());
+            for (List<Data> rows : multiRowInsertChunks(notVetoedEntities, maxRows)) {
+                String query = resolveEntityMultiRowInsert(ctx.annotationMetadata, ctx.repositoryType, persistentEntity, rows.size());
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = prepare(ctx.connection, query)) {
+                    // The parameters of the rows are bound in sequence by the same binder
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, ctx.dialect);
+                    for (Data d : rows) {
+                        storedQuery.bindParameters(binder, null, d.entity, d.previousValues);
+                    }
+                    rowsUpdated += ps.executeUpdate();
+                    if (hasGeneratedId) {
+                        updateGeneratedIds(ps, rows);
+                    }
+                }
+            }
+        }
+
+        private void executeBatch(PreparedStatement ps, List<Data> batch) throws SQLException {
+            rowsUpdated += Arrays.stream(ps.executeBatch()).sum();
+            if (hasGeneratedId) {
+                updateGeneratedIds(ps, batch);
+            }
+        }
+
+        private void updateGeneratedIds(PreparedStatement ps, List<Data> batch) throws SQLException {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            List<Object> ids = new ArrayList<>(batch.size());
+            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                while (generatedKeys.next()) {
+                    ids.add(columnIndexResultSetReader.readDynamic(generatedKeys, 1, identity.getDataType()));
+                }
+            }
+            Iterator<Object> iterator = ids.iterator();
+            for (Data d : batch) {
+                if (!iterator.hasNext()) {
+                    throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                } else {
+                    Object id = iterator.next();
+                    d.entity = updateEntityId((BeanProperty<T, Object>) identity.getProperty(), d.entity, id);
+                }
+            }
         }
 
     }
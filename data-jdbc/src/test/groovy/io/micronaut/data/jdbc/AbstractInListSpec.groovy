@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * Covers the padded and the array binding of the values of the IN lists.
+ */
+abstract class AbstractInListSpec extends Specification implements DatabaseTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(getProperties())
+
+    abstract InListItemRepository getRepository()
+
+    def setup() {
+        repository.saveAll(["A", "B", "C", "D", "E", "F"].collect { new InListItem(name: it) } + new InListItem(name: null))
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    @Unroll
+    void "test IN list of #names"() {
+        expect:
+        repository.findByNameInList(names)*.name.sort() == expected
+
+        where:
+        names                          | expected
+        ["A"]                          | ["A"]
+        ["A", "B", "C"]                | ["A", "B", "C"]
+        ["A", "C", "E", "F", "X"]      | ["A", "C", "E", "F"]
+        ["A", "A", "B"]                | ["A", "B"]
+        ["B", null]                    | ["B"]
+        [null]                         | []
+        (1..100).collect { "X" + it }  | []
+    }
+
+    @Unroll
+    void "test NOT IN list of #names"() {
+        expect:
+        repository.findByNameNotInList(names)*.name.sort() == expected
+
+        where:
+        names                 | expected
+        ["A"]                 | ["B", "C", "D", "E", "F"]
+        ["A", "B", "C"]       | ["D", "E", "F"]
+        ["A", "C", "E", "F"]  | ["B", "D"]
+        ["B", null]           | []
+    }
+
+    void "test two IN lists in the same query"() {
+        expect:
+        repository.findByNameInListOrNameInList(["A", "B", "C"], ["D", "E"])*.name.sort() == ["A", "B", "C", "D", "E"]
+        repository.findByNameInListOrNameInList(["A"], ["B"])*.name.sort() == ["A", "B"]
+    }
+}
+
+interface InListItemRepository extends CrudRepository<InListItem, Long> {
+
+    List<InListItem> findByNameInList(List<String> names)
+
+    List<InListItem> findByNameNotInList(List<String> names)
+
+    List<InListItem> findByNameInListOrNameInList(List<String> names, List<String> otherNames)
+}
+
+@MappedEntity
+class InListItem {
+
+    @Id
+    @GeneratedValue
+    Long id
+    @Nullable
+    String name
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.AutoPopulated
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+/**
+ * Covers the upsert methods inserting the new and updating the existing rows.
+ */
+abstract class AbstractUpsertSpec extends Specification implements DatabaseTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(getProperties())
+
+    abstract UpsertBookRepository getBookRepository()
+
+    abstract UpsertTagRepository getTagRepository()
+
+    def cleanup() {
+        bookRepository.deleteAll()
+        tagRepository.deleteAll()
+    }
+
+    void "test upsert inserts a new entity"() {
+        when:
+        def book = bookRepository.upsert(new UpsertBook(id: 1, title: "The Stand", pages: 1000))
+
+        then:
+        book.id == 1
+        bookRepository.count() == 1
+        bookRepository.findById(1L).get().title == "The Stand"
+        bookRepository.findById(1L).get().pages == 1000
+    }
+
+    void "test upsert updates an existing entity"() {
+        given:
+        bookRepository.save(new UpsertBook(id: 1, title: "The Stand", pages: 1000))
+
+        when:
+        bookRepository.upsert(new UpsertBook(id: 1, title: "The Stand: Complete Edition", pages: 1200))
+
+        then:
+        bookRepository.count() == 1
+        bookRepository.findById(1L).get().title == "The Stand: Complete Edition"
+        bookRepository.findById(1L).get().pages == 1200
+    }
+
+    void "test upsert all inserts and updates in a batch"() {
+        given:
+        bookRepository.saveAll([
+                new UpsertBook(id: 1, title: "The Stand", pages: 1000),
+                new UpsertBook(id: 2, title: "Carrie", pages: 200)
+        ])
+
+        when:
+        bookRepository.upsertAll([
+                new UpsertBook(id: 2, title: "Carrie (Revised)", pages: 250),
+                new UpsertBook(id: 3, title: "It", pages: 1100),
+                new UpsertBook(id: 4, title: "Misery", pages: 300)
+        ])
+
+        then:
+        bookRepository.count() == 4
+        bookRepository.findAll().sort { it.id }.collect { [it.id, it.title, it.pages] } == [
+                [1L, "The Stand", 1000],
+                [2L, "Carrie (Revised)", 250],
+                [3L, "It", 1100],
+                [4L, "Misery", 300]
+        ]
+    }
+
+    void "test upsert generates the missing auto-populated identity"() {
+        when:
+        def tag = tagRepository.upsert(new UpsertTag(name: "horror"))
+
+        then:
+        tag.id != null
+        tagRepository.findById(tag.id).get().name == "horror"
+
+        when:
+        def updated = tagRepository.upsert(new UpsertTag(id: tag.id, name: "thriller"))
+
+        then:
+        updated.id == tag.id
+        tagRepository.count() == 1
+        tagRepository.findById(tag.id).get().name == "thriller"
+
+        when:
+        def tags = tagRepository.upsertAll([new UpsertTag(id: tag.id, name: "suspense"), new UpsertTag(name: "fantasy")])
+
+        then:
+        tags.size() == 2
+        tags.every { it.id != null }
+        tags[0].id == tag.id
+        tagRepository.count() == 2
+        tagRepository.findById(tag.id).get().name == "suspense"
+        tagRepository.findById(tags[1].id).get().name == "fantasy"
+    }
+}
+
+interface UpsertBookRepository extends CrudRepository<UpsertBook, Long> {
+
+    UpsertBook upsert(UpsertBook book)
+
+    void upsertAll(Iterable<UpsertBook> books)
+}
+
+interface UpsertTagRepository extends CrudRepository<UpsertTag, UUID> {
+
+    UpsertTag upsert(UpsertTag tag)
+
+    List<UpsertTag> upsertAll(Iterable<UpsertTag> tags)
+}
+
+@MappedEntity
+class UpsertBook {
+
+    @Id
+    Long id
+    String title
+    int pages
+}
+
+@MappedEntity
+class UpsertTag {
+
+    @Id
+    @AutoPopulated
+    UUID id
+    String name
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Query
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.CursoredPageable
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2CursoredQuerySpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CursorItemRepository repository = applicationContext.getBean(CursorItemRepository)
+
+    def setup() {
+        repository.saveAll((1..6).collect { new CursorItem(name: "a" + it, score: it) } + new CursorItem(name: "b", score: 10))
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test the cursor predicate is added to the where clause of the query"() {
+        given:
+        def sort = Sort.of(Sort.Order.asc("score"), Sort.Order.asc("id"))
+
+        when:
+        def first = repository.findByNameLikeAndScoreGreaterThanEquals("a%", 2, CursoredPageable.from(2, sort))
+
+        then:
+        first*.name == ["a2", "a3"]
+
+        when: "the page number of the cursored pageable isn't used as an offset"
+        def last = first.last()
+        def second = repository.findByNameLikeAndScoreGreaterThanEquals("a%", 2, CursoredPageable.from(0, 2, [last.score, last.id], sort))
+
+        then:
+        second*.name == ["a4", "a5"]
+    }
+
+    void "test the cursor predicate is added to a query with an expanded IN list"() {
+        given:
+        def sort = Sort.of(Sort.Order.desc("score"), Sort.Order.desc("id"))
+        def names = ["a1", "a2", "a4", "a5", "b"]
+
+        when:
+        def first = repository.findByNameInList(names, CursoredPageable.from(2, sort))
+        def last = first.last()
+        def second = repository.findByNameInList(names, CursoredPageable.from(0, 2, [last.score, last.id], sort))
+
+        then:
+        first*.name == ["b", "a5"]
+        second*.name == ["a4", "a2"]
+    }
+
+    void "test the cursor predicate is added to a query without a where clause"() {
+        given:
+        def sort = Sort.of(Sort.Order.asc("name"))
+
+        when:
+        def page = repository.findAll(CursoredPageable.from(0, 3, ["a4"], sort))
+
+        then:
+        page.content*.name == ["a5", "a6", "b"]
+    }
+
+    void "test a raw query falls back to the offset of the page"() {
+        given:
+        def sort = Sort.of(Sort.Order.asc("score"), Sort.Order.asc("id"))
+
+        when:
+        def first = repository.findWithMinScore("a%", 2, CursoredPageable.from(2, sort))
+        def last = first.last()
+        def second = repository.findWithMinScore("a%", 2, CursoredPageable.from(1, 2, [last.score, last.id], sort))
+
+        then:
+        first*.name == ["a2", "a3"]
+        second*.name == ["a4", "a5"]
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CursorItemRepository extends CrudRepository<CursorItem, Long> {
+
+    List<CursorItem> findByNameLikeAndScoreGreaterThanEquals(String name, int score, Pageable pageable)
+
+    List<CursorItem> findByNameInList(List<String> names, Pageable pageable)
+
+    Page<CursorItem> findAll(Pageable pageable)
+
+    @Query("SELECT * FROM cursor_item WHERE name LIKE :prefix GROUP BY id, name, score HAVING score >= :minScore")
+    List<CursorItem> findWithMinScore(String prefix, int minScore, Pageable pageable)
+}
+
+@MappedEntity
+class CursorItem {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int score
+}
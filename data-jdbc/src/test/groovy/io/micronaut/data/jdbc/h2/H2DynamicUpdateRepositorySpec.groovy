@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.tck.entities.Book
+
+class H2DynamicUpdateRepositorySpec extends H2RepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.dynamic-update': "true"
+        ]
+    }
+
+    void "test update sets only the changed columns"() {
+        given:
+        def book = bookRepository.save(new Book(title: "The Stand", totalPages: 1000))
+        def first = bookRepository.findById(book.id).get()
+        def second = bookRepository.findById(book.id).get()
+
+        when:
+        first.title = "The Shining"
+        bookRepository.update(first)
+        second.totalPages = 500
+        bookRepository.update(second)
+        def result = bookRepository.findById(book.id).get()
+
+        then:
+        result.title == "The Shining"
+        result.totalPages == 500
+
+        when:
+        result.title = "The Stand"
+        bookRepository.update(result)
+
+        then:
+        bookRepository.findById(book.id).get().title == "The Stand"
+
+        cleanup:
+        bookRepository.deleteById(book.id)
+    }
+
+    void "test update after a rolled back update of the same instance"() {
+        given:
+        def book = bookRepository.save(new Book(title: "The Stand", totalPages: 1000))
+        def loaded = bookRepository.findById(book.id).get()
+
+        when:
+        loaded.title = "The Shining"
+        transactionManager.get().executeWrite { status ->
+            bookRepository.update(loaded)
+            status.setRollbackOnly()
+        }
+
+        then:
+        bookRepository.findById(book.id).get().title == "The Stand"
+
+        when:
+        bookRepository.update(loaded)
+
+        then:
+        bookRepository.findById(book.id).get().title == "The Shining"
+
+        cleanup:
+        bookRepository.deleteById(book.id)
+    }
+}
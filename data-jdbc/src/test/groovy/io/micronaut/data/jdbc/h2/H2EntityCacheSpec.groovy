@@ -0,0 +1,163 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.EntityCache
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcOperations
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.transaction.Transactional
+
+class H2EntityCacheSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CachedCurrencyRepository repository = applicationContext.getBean(CachedCurrencyRepository)
+
+    void "test find by id returns the cached entity"() {
+        given:
+        def currency = repository.save(new CachedCurrency(code: "EUR"))
+
+        when:
+        def loaded = repository.findById(currency.id).get()
+        repository.renameWithoutRepository(currency.id, "XXX")
+
+        then:
+        loaded.code == "EUR"
+        repository.findById(currency.id).get().is(loaded)
+        repository.findByCode("XXX").isPresent()
+
+        when:
+        repository.update(new CachedCurrency(id: currency.id, code: "USD"))
+
+        then:
+        !repository.findById(currency.id).get().is(loaded)
+        repository.findById(currency.id).get().code == "USD"
+
+        when:
+        def cached = repository.findById(currency.id).get()
+        repository.updateCode(currency.id, "GBP")
+
+        then:
+        repository.findById(currency.id).get().code == "GBP"
+        !repository.findById(currency.id).get().is(cached)
+
+        when:
+        repository.deleteById(currency.id)
+
+        then:
+        !repository.findById(currency.id).isPresent()
+    }
+
+    void "test upsert evicts the cached entity"() {
+        given:
+        def upsertRepository = applicationContext.getBean(CachedCountryRepository)
+        upsertRepository.upsert(new CachedCountry(code: "CZ", name: "Czechoslovakia"))
+        def cached = upsertRepository.findById("CZ").get()
+
+        when:
+        upsertRepository.upsert(new CachedCountry(code: "CZ", name: "Czechia"))
+
+        then:
+        cached.name == "Czechoslovakia"
+        !upsertRepository.findById("CZ").get().is(cached)
+        upsertRepository.findById("CZ").get().name == "Czechia"
+
+        when:
+        cached = upsertRepository.findById("CZ").get()
+        upsertRepository.upsertAll([new CachedCountry(code: "CZ", name: "Czech Republic"), new CachedCountry(code: "SK", name: "Slovakia")])
+
+        then:
+        !upsertRepository.findById("CZ").get().is(cached)
+        upsertRepository.findById("CZ").get().name == "Czech Republic"
+        upsertRepository.findById("SK").get().name == "Slovakia"
+
+        cleanup:
+        upsertRepository.deleteAll()
+    }
+
+    void "test the cache is not used in a transaction"() {
+        given:
+        def currency = repository.save(new CachedCurrency(code: "EUR"))
+        def cached = repository.findById(currency.id).get()
+        def transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+        when:
+        def uncommitted = transactionManager.executeWrite { status ->
+            repository.update(new CachedCurrency(id: currency.id, code: "USD"))
+            def loaded = repository.findById(currency.id).get()
+            status.setRollbackOnly()
+            return loaded
+        }
+
+        then:
+        uncommitted.code == "USD"
+        repository.findById(currency.id).get().code == "EUR"
+        !repository.findById(currency.id).get().is(uncommitted)
+        !repository.findById(currency.id).get().is(cached)
+
+        cleanup:
+        repository.deleteById(currency.id)
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+abstract class CachedCurrencyRepository implements CrudRepository<CachedCurrency, Long> {
+
+    private final JdbcOperations jdbcOperations
+
+    CachedCurrencyRepository(JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations
+    }
+
+    @Transactional
+    void renameWithoutRepository(Long id, String code) {
+        jdbcOperations.prepareStatement("UPDATE cached_currency SET code = ? WHERE id = ?", {
+            it.setString(1, code)
+            it.setLong(2, id)
+            it.executeUpdate()
+        })
+    }
+
+    abstract Optional<CachedCurrency> findByCode(String code)
+
+    abstract void updateCode(@Id Long id, String code)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CachedCountryRepository extends CrudRepository<CachedCountry, String> {
+
+    CachedCountry upsert(CachedCountry country)
+
+    void upsertAll(Iterable<CachedCountry> countries)
+}
+
+@MappedEntity
+@EntityCache(maxSize = 10, expireAfterWrite = "10m")
+class CachedCurrency {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String code
+}
+
+@MappedEntity
+@EntityCache(maxSize = 10, expireAfterWrite = "10m")
+class CachedCountry {
+
+    @Id
+    String code
+    String name
+}
@@ -0,0 +1,206 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.data.annotation.DateCreated
+import io.micronaut.data.annotation.DateUpdated
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.event.PostPersist
+import io.micronaut.data.annotation.event.PostRemove
+import io.micronaut.data.annotation.event.PostUpdate
+import io.micronaut.data.annotation.event.PrePersist
+import io.micronaut.data.annotation.event.PreRemove
+import io.micronaut.data.annotation.event.PreUpdate
+import io.micronaut.data.event.EntityEventContext
+import io.micronaut.data.event.EntityEventListener
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+class H2EntityEventPlanSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    PlannedItemRepository repository = applicationContext.getBean(PlannedItemRepository)
+
+    @Shared
+    PlannedItemListener listener = applicationContext.getBean(PlannedItemListener)
+
+    void cleanup() {
+        repository.deleteAll()
+        listener.counts.clear()
+    }
+
+    void "test the listeners and the timestamps are applied on every persist"() {
+        when:"Entities are persisted twice, the second time with the resolved plans"
+        def first = repository.saveAll([new PlannedItem(name: "A"), new PlannedItem(name: "B")])
+        def second = repository.saveAll([new PlannedItem(name: "C"), new PlannedItem(name: "D")])
+        def items = first + second
+
+        then:
+        items*.prePersisted == [1, 1, 1, 1]
+        items*.postPersisted == [1, 1, 1, 1]
+        items*.preUpdated == [0, 0, 0, 0]
+        listener.count("prePersist") == 4
+        listener.count("postPersist") == 4
+        items.every { it.dateCreated != null && it.dateCreated.nano == 0 }
+        items.every { it.dateUpdated != null }
+    }
+
+    void "test the listeners and the timestamps are applied on every update"() {
+        given:
+        def items = repository.saveAll([new PlannedItem(name: "A"), new PlannedItem(name: "B")])
+        def dateCreated = items*.dateCreated
+        def dateUpdated = items*.dateUpdated
+
+        when:
+        items.each { it.name = it.name + "1" }
+        repository.update(items[0])
+        repository.updateAll([items[1]])
+        items.each { it.name = it.name + "2" }
+        repository.updateAll(items)
+        def found = items.collect { repository.findById(it.id).get() }
+
+        then:
+        items*.preUpdated == [2, 2]
+        items*.postUpdated == [2, 2]
+        listener.count("preUpdate") == 4
+        listener.count("postUpdate") == 4
+        items*.dateCreated == dateCreated
+        [items, dateUpdated].transpose().every { item, previous -> !item.dateUpdated.isBefore(previous) }
+        found*.name == ["A12", "B12"]
+        found*.dateCreated == dateCreated
+    }
+
+    void "test the listeners are applied on every remove"() {
+        given:
+        def items = repository.saveAll([new PlannedItem(name: "A"), new PlannedItem(name: "B")])
+
+        when:
+        repository.delete(items[0])
+        repository.delete(items[1])
+
+        then:
+        items*.preRemoved == [1, 1]
+        items*.postRemoved == [1, 1]
+        listener.count("preRemove") == 2
+        listener.count("postRemove") == 2
+        repository.count() == 0
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PlannedItemRepository extends CrudRepository<PlannedItem, Long> {
+}
+
+@MappedEntity
+class PlannedItem {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @DateCreated(truncatedTo = ChronoUnit.SECONDS)
+    Instant dateCreated
+    @DateUpdated
+    LocalDateTime dateUpdated
+
+    private int prePersisted
+    private int postPersisted
+    private int preUpdated
+    private int postUpdated
+    private int preRemoved
+    private int postRemoved
+
+    @PrePersist
+    void onPrePersist() {
+        prePersisted++
+    }
+
+    @PostPersist
+    void onPostPersist() {
+        postPersisted++
+    }
+
+    @PreUpdate
+    void onPreUpdate() {
+        preUpdated++
+    }
+
+    @PostUpdate
+    void onPostUpdate() {
+        postUpdated++
+    }
+
+    @PreRemove
+    void onPreRemove() {
+        preRemoved++
+    }
+
+    @PostRemove
+    void onPostRemove() {
+        postRemoved++
+    }
+}
+
+@Singleton
+class PlannedItemListener implements EntityEventListener<PlannedItem> {
+
+    final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>()
+
+    int count(String event) {
+        return counts.get(event)?.get() ?: 0
+    }
+
+    @Override
+    boolean prePersist(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("prePersist")
+        return true
+    }
+
+    @Override
+    void postPersist(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("postPersist")
+    }
+
+    @Override
+    boolean preUpdate(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("preUpdate")
+        return true
+    }
+
+    @Override
+    void postUpdate(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("postUpdate")
+    }
+
+    @Override
+    boolean preRemove(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("preRemove")
+        return true
+    }
+
+    @Override
+    void postRemove(@NonNull EntityEventContext<PlannedItem> context) {
+        increment("postRemove")
+    }
+
+    private void increment(String event) {
+        counts.computeIfAbsent(event, e -> new AtomicInteger()).incrementAndGet()
+    }
+}
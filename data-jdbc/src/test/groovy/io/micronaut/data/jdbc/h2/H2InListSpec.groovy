@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.jdbc.AbstractInListSpec
+import io.micronaut.data.jdbc.InListItemRepository
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+
+class H2InListSpec extends AbstractInListSpec implements H2TestPropertyProvider {
+
+    @Override
+    InListItemRepository getRepository() {
+        return context.getBean(H2InListItemRepository)
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface H2InListItemRepository extends InListItemRepository {
+}
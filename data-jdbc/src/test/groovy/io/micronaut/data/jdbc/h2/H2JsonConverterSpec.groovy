@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.convert.ConversionContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.MappedProperty
+import io.micronaut.data.annotation.TypeDef
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.DataType
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.runtime.convert.AttributeConverter
+import io.micronaut.data.repository.CrudRepository
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2JsonConverterSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    JsonLabelRepository repository = applicationContext.getBean(JsonLabelRepository)
+
+    void "test a converted json property is read as a string"() {
+        given:
+        def saved = repository.save(new JsonLabelEntity(
+                label: new JsonLabel(text: "first"),
+                attributes: [color: "red"]
+        ))
+
+        when:
+        def loaded = repository.findById(saved.id).get()
+
+        then:
+        loaded.label.text == "first"
+        loaded.attributes == [color: "red"]
+
+        cleanup:
+        repository.deleteAll()
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface JsonLabelRepository extends CrudRepository<JsonLabelEntity, Long> {
+}
+
+@MappedEntity
+class JsonLabelEntity {
+
+    @Id
+    @GeneratedValue
+    Long id
+
+    @Nullable
+    @MappedProperty(type = DataType.JSON, converter = JsonLabelConverter)
+    JsonLabel label
+
+    @Nullable
+    @TypeDef(type = DataType.JSON)
+    Map<String, String> attributes
+}
+
+class JsonLabel {
+    String text
+}
+
+@Singleton
+class JsonLabelConverter implements AttributeConverter<JsonLabel, String> {
+
+    @Override
+    String convertToPersistedValue(JsonLabel entityValue, ConversionContext context) {
+        return entityValue == null ? null : '{"text":"' + entityValue.text + '"}'
+    }
+
+    @Override
+    JsonLabel convertToEntityValue(String persistedValue, ConversionContext context) {
+        if (persistedValue == null) {
+            return null
+        }
+        def text = persistedValue.substring(persistedValue.indexOf(':') + 2, persistedValue.lastIndexOf('"'))
+        return new JsonLabel(text: text)
+    }
+}
@@ -0,0 +1,192 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Query
+import io.micronaut.data.annotation.QueryCache
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcOperations
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.transaction.Transactional
+import java.util.concurrent.CompletableFuture
+
+class H2QueryCacheSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CachedSaleRepository repository = applicationContext.getBean(CachedSaleRepository)
+
+    void "test query results are cached until the entity is written"() {
+        given:
+        repository.saveAll([new CachedSale(region: "EU", amount: 10), new CachedSale(region: "US", amount: 20)])
+
+        expect:
+        repository.sumAmount() == 30
+        repository.countByRegion("EU") == 1
+        repository.countByRegion("US") == 1
+        repository.countByAmountGreaterThan(5).get() == 2
+
+        when:
+        repository.insertWithoutRepository("EU", 100)
+
+        then:
+        repository.sumAmount() == 30
+        repository.countByRegion("EU") == 1
+        repository.countByAmountGreaterThan(5).get() == 2
+
+        when:
+        repository.save(new CachedSale(region: "US", amount: 5))
+
+        then:
+        repository.sumAmount() == 135
+        repository.countByRegion("EU") == 2
+        repository.countByRegion("US") == 2
+        repository.countByAmountGreaterThan(5).get() == 3
+
+        when:
+        repository.deleteAll()
+
+        then:
+        repository.sumAmount() == 0
+        repository.countByRegion("EU") == 0
+        repository.countByAmountGreaterThan(5).get() == 0
+    }
+
+    void "test query results are cleared by cascaded writes"() {
+        given:
+        def orderRepository = applicationContext.getBean(CachedSaleOrderRepository)
+
+        expect:
+        repository.sumAmount() == 0
+
+        when:
+        orderRepository.save(new CachedSaleOrder(name: "First", sales: [new CachedSale(region: "EU", amount: 10)]))
+
+        then:
+        repository.sumAmount() == 10
+
+        cleanup:
+        repository.deleteAll()
+        orderRepository.deleteAll()
+    }
+
+    void "test cached collections and pages are read-only"() {
+        given:
+        repository.saveAll([new CachedSale(region: "EU", amount: 10), new CachedSale(region: "EU", amount: 20)])
+
+        when:
+        def sales = repository.findByRegion("EU")
+        sales.add(new CachedSale(region: "EU", amount: 30))
+
+        then:
+        thrown(UnsupportedOperationException)
+        repository.findByRegion("EU").size() == 2
+        repository.findByRegion("EU").is(repository.findByRegion("EU"))
+
+        when:
+        def page = repository.findByRegion("EU", Pageable.from(0, 10))
+        page.content.clear()
+
+        then:
+        thrown(UnsupportedOperationException)
+        repository.findByRegion("EU", Pageable.from(0, 10)).content.size() == 2
+
+        cleanup:
+        repository.deleteAll()
+    }
+
+    void "test query results read in a rolled back transaction are cleared"() {
+        given:
+        def transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+        when:
+        def uncommitted = transactionManager.executeWrite { status ->
+            repository.save(new CachedSale(region: "EU", amount: 10))
+            def sum = repository.sumAmount()
+            status.setRollbackOnly()
+            return sum
+        }
+
+        then:
+        uncommitted == 10
+        repository.sumAmount() == 0
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CachedSaleOrderRepository extends CrudRepository<CachedSaleOrder, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+abstract class CachedSaleRepository implements CrudRepository<CachedSale, Long> {
+
+    private final JdbcOperations jdbcOperations
+
+    CachedSaleRepository(JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations
+    }
+
+    @Transactional
+    void insertWithoutRepository(String region, long amount) {
+        jdbcOperations.prepareStatement("INSERT INTO cached_sale (region, amount) VALUES (?, ?)", {
+            it.setString(1, region)
+            it.setLong(2, amount)
+            it.executeUpdate()
+        })
+    }
+
+    @QueryCache
+    @Query("SELECT COALESCE(SUM(amount), 0) FROM cached_sale")
+    abstract Long sumAmount()
+
+    @QueryCache(maxSize = 10, expireAfterWrite = "10m")
+    abstract long countByRegion(String region)
+
+    @QueryCache
+    abstract CompletableFuture<Long> countByAmountGreaterThan(Long amount)
+
+    @QueryCache
+    abstract List<CachedSale> findByRegion(String region)
+
+    @QueryCache
+    abstract Page<CachedSale> findByRegion(String region, Pageable pageable)
+}
+
+@MappedEntity
+class CachedSale {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String region
+    Long amount
+    @Nullable
+    @Relation(Relation.Kind.MANY_TO_ONE)
+    CachedSaleOrder order
+}
+
+@MappedEntity
+class CachedSaleOrder {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "order", cascade = Relation.Cascade.PERSIST)
+    List<CachedSale> sales = []
+}
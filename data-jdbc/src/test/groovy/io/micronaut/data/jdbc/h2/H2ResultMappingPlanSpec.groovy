@@ -0,0 +1,133 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.data.annotation.Embeddable
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Query
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2ResultMappingPlanSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    PlanPetRepository petRepository = applicationContext.getBean(PlanPetRepository)
+
+    @Shared
+    PlanOwnerRepository ownerRepository = applicationContext.getBean(PlanOwnerRepository)
+
+    void setup() {
+        def fred = ownerRepository.save(new PlanOwner(name: "Fred"))
+        def joe = ownerRepository.save(new PlanOwner(name: "Joe"))
+        petRepository.saveAll([
+                new PlanPet(name: "A", owner: fred, tag: new PlanTag(color: "red", weight: 1)),
+                new PlanPet(name: "B", owner: joe, tag: new PlanTag(color: "green", weight: 2)),
+                new PlanPet(name: "C", owner: null, tag: new PlanTag(color: "blue", weight: null)),
+                new PlanPet(name: "D", owner: fred, tag: new PlanTag(color: "white", weight: 4))
+        ])
+    }
+
+    void cleanup() {
+        petRepository.deleteAll()
+        ownerRepository.deleteAll()
+    }
+
+    void "test the joined columns are read for every row"() {
+        when:
+        def pets = petRepository.listOrderByName()
+
+        then:
+        pets*.name == ["A", "B", "C", "D"]
+        pets*.owner*.name == ["Fred", "Joe", null, "Fred"]
+        pets[0].owner.id == pets[3].owner.id
+        pets*.tag*.color == ["red", "green", "blue", "white"]
+    }
+
+    void "test the embedded columns are read for every row"() {
+        when:
+        def pets = petRepository.findWithTag()
+
+        then:
+        pets*.name == ["A", "B", "C", "D"]
+        pets*.tag*.color == ["red", "green", "blue", "white"]
+        pets*.tag*.weight == [1, 2, null, 4]
+        pets*.owner*.name == [null, null, null, null]
+        pets[0].owner.id == pets[3].owner.id
+    }
+
+    void "test a missing column is reported and the next result set resolves its own columns"() {
+        when:
+        petRepository.findWithoutTag()
+
+        then:
+        def e = thrown(DataAccessException)
+        e.message.contains("[tag_color]")
+
+        when:
+        def pets = petRepository.findWithTag()
+
+        then:
+        pets*.tag*.color == ["red", "green", "blue", "white"]
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PlanOwnerRepository extends CrudRepository<PlanOwner, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PlanPetRepository extends CrudRepository<PlanPet, Long> {
+
+    @Join(value = "owner", type = Join.Type.LEFT_FETCH)
+    List<PlanPet> listOrderByName()
+
+    @Query("SELECT id, name, owner_id, tag_color, tag_weight FROM plan_pet ORDER BY name")
+    List<PlanPet> findWithTag()
+
+    @Query("SELECT id, name, owner_id FROM plan_pet ORDER BY name")
+    List<PlanPet> findWithoutTag()
+}
+
+@MappedEntity
+class PlanOwner {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@MappedEntity
+class PlanPet {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Nullable
+    @Relation(Relation.Kind.MANY_TO_ONE)
+    PlanOwner owner
+    @Relation(Relation.Kind.EMBEDDED)
+    PlanTag tag
+}
+
+@Embeddable
+class PlanTag {
+
+    String color
+    @Nullable
+    Integer weight
+}
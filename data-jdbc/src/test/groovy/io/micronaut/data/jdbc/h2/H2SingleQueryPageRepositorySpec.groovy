@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.model.Pageable
+
+import java.sql.Connection
+
+class H2SingleQueryPageRepositorySpec extends H2RepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.single-query-page': "true"
+        ]
+    }
+
+    void "test the total size of a page is read without a count query"() {
+        given:
+        savePersons(["Jeff", "James", "Fred", "Bob", "Joe"])
+        long countQueries = countQueryExecutions()
+
+        when:
+        def page = personRepository.findAll(Pageable.from(0, 2))
+
+        then:
+        page.content.size() == 2
+        page.totalSize == 5
+        countQueryExecutions() == countQueries
+
+        when:
+        def lastPage = personRepository.findAll(Pageable.from(2, 2))
+
+        then:
+        lastPage.content.size() == 1
+        lastPage.totalSize == 5
+        countQueryExecutions() == countQueries
+
+        when:
+        def emptyPage = personRepository.findAll(Pageable.from(5, 2))
+
+        then:
+        emptyPage.content.isEmpty()
+        emptyPage.totalSize == 5
+        countQueryExecutions() == countQueries + 1
+    }
+
+    private long countQueryExecutions() {
+        transactionManager.get().executeRead { status ->
+            Connection connection = status.connection
+            connection.createStatement().withCloseable { it.execute("SET QUERY_STATISTICS TRUE") }
+            connection.createStatement().withCloseable {
+                def rs = it.executeQuery("""SELECT COALESCE(SUM(EXECUTION_COUNT), 0) FROM INFORMATION_SCHEMA.QUERY_STATISTICS
+                        WHERE UPPER(SQL_STATEMENT) LIKE 'SELECT COUNT(*) FROM %PERSON%'""")
+                rs.next()
+                rs.getLong(1)
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.jdbc.AbstractUpsertSpec
+import io.micronaut.data.jdbc.UpsertBookRepository
+import io.micronaut.data.jdbc.UpsertTagRepository
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+
+class H2UpsertSpec extends AbstractUpsertSpec implements H2TestPropertyProvider {
+
+    @Override
+    UpsertBookRepository getBookRepository() {
+        return context.getBean(H2UpsertBookRepository)
+    }
+
+    @Override
+    UpsertTagRepository getTagRepository() {
+        return context.getBean(H2UpsertTagRepository)
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface H2UpsertBookRepository extends UpsertBookRepository {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface H2UpsertTagRepository extends UpsertTagRepository {
+}
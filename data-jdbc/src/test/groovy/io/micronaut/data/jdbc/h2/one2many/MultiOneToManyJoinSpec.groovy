@@ -100,6 +100,30 @@ class MultiOneToManyJoinSpec extends Specification implements H2TestPropertyProv
             category.productList[1].productOption[1].option.size() == 3
     }
 
+    void 'test cascade children of multiple parents'() {
+        given:
+            List<Category> categories = (1..3).collect { i ->
+                new Category(name: "C" + i, productList: [
+                        new Product(name: "P" + i + "A", productOption: [new ProductOption(name: "O" + i + "A")]),
+                        new Product(name: "P" + i + "B", productOption: [new ProductOption(name: "O" + i + "B")])
+                ])
+            }
+        when:
+            categoryRepository.saveAll(categories)
+            categories = categories.collect { categoryRepository.findById(it.id).get() }
+        then:
+            categories.size() == 3
+            categories.every { it.productList.size() == 2 }
+            categories.collect { it.productList*.name } == [["P1A", "P1B"], ["P2A", "P2B"], ["P3A", "P3B"]]
+            categories.collect { it.productList*.productOption*.name.flatten() } == [["O1A", "O1B"], ["O2A", "O2B"], ["O3A", "O3B"]]
+        when:
+            categories.each { it.productList.add(new Product(name: it.name + "N", productOption: [])) }
+            categoryRepository.updateAll(categories)
+            categories = categories.collect { categoryRepository.findById(it.id).get() }
+        then:
+            categories.collect { it.productList*.name } == [["P1A", "P1B", "C1N"], ["P2A", "P2B", "C2N"], ["P3A", "P3B", "C3N"]]
+    }
+
     void 'test joined collection should not be null'() {
         given:
             Category category = new Category(name: "Cats", productList: [])
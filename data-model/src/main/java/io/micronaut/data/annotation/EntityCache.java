@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the cache of the entities loaded by their id. The find by id of the JDBC and R2DBC repositories returns
+ * the cached instance, the entry is removed by the update and the delete of the entity and all the entries of the
+ * entity are removed by the update and delete queries of the entity.
+ *
+ * <p>The cached instances are shared, the cache is intended for read-mostly entities that are not modified
+ * after they are loaded.</p>
+ *
+ * @since 3.6.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface EntityCache {
+
+    /**
+     * @return The maximum number of cached entities
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return The duration after which a cached entity expires, for example {@code 10m}. Empty for no expiry.
+     */
+    String expireAfterWrite() default "";
+}
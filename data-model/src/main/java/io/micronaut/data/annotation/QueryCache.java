@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the cache of the results of a query method of a repository, keyed by the query and the values of the
+ * method parameters. The synchronous, asynchronous and reactive query methods are supported.
+ *
+ * <p>The cached results of the method are removed by the insert, update and delete methods of the repositories of
+ * the root entity of the method and of the entities whose table is referenced by the query.</p>
+ *
+ * <p>The cached results are shared by the callers. The collections, pages and slices are returned as read-only copies,
+ * the entities they contain shouldn't be modified.</p>
+ *
+ * @since 3.6.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface QueryCache {
+
+    /**
+     * @return The maximum number of cached results of the method
+     */
+    int maxSize() default 100;
+
+    /**
+     * @return The duration after which a cached result expires, for example {@code 10s} or {@code PT10S}. Empty for no expiry.
+     */
+    String expireAfterWrite() default "";
+}
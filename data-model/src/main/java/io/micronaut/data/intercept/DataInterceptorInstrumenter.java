@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Instruments the data interceptors, for example to record metrics. A data interceptor is resolved and instrumented
+ * once per repository method, if no instrumenter bean is present the interceptors are used as they are.
+ *
+ * @since 3.6.0
+ */
+public interface DataInterceptorInstrumenter {
+
+    /**
+     * Instruments the interceptor of a repository method.
+     *
+     * @param interceptor    The resolved interceptor
+     * @param context        The context of the first invocation of the method
+     * @param dataSourceName The data source name of the repository or null for the default data source
+     * @return The instrumented interceptor or the given interceptor
+     */
+    @NonNull
+    DataInterceptor<Object, Object> instrument(@NonNull DataInterceptor<Object, Object> interceptor,
+                                               @NonNull MethodInvocationContext<Object, Object> context,
+                                               @Nullable String dataSourceName);
+}
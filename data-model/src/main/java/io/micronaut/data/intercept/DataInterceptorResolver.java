@@ -50,10 +50,15 @@ import java.util.concurrent.ConcurrentHashMap;
 final class DataInterceptorResolver {
 
     private final BeanLocator locator;
+    @Nullable
+    private final DataInterceptorInstrumenter instrumenter;
     private final Map<RepositoryMethodKey, DataInterceptor<? super Object, ? super Object>> interceptors = new ConcurrentHashMap<>();
+    private final QueryResultCache queryResultCache;
 
-    DataInterceptorResolver(BeanLocator locator) {
+    DataInterceptorResolver(BeanLocator locator, @Nullable DataInterceptorInstrumenter instrumenter, QueryResultCache queryResultCache) {
         this.locator = locator;
+        this.instrumenter = instrumenter;
+        this.queryResultCache = queryResultCache;
     }
 
     DataInterceptor<Object, Object> resolve(@NonNull RepositoryMethodKey key,
@@ -75,7 +80,12 @@ final class DataInterceptorResolver {
                 });
 
             if (interceptorType != null && DataInterceptor.class.isAssignableFrom(interceptorType)) {
-                return findInterceptor(dataSourceName, operationsType, interceptorType);
+                DataInterceptor<Object, Object> interceptor = findInterceptor(dataSourceName, operationsType, interceptorType);
+                if (instrumenter != null) {
+                    // The instrumenter inspects the interceptor of the operation, the cached results aren't recorded
+                    interceptor = instrumenter.instrument(interceptor, context, dataSourceName);
+                }
+                return queryResultCache.apply(interceptor, context);
             }
 
             final String interceptorName = context.getAnnotationMetadata().stringValue(DataMethod.class, DataMethod.META_MEMBER_INTERCEPTOR).orElse(null);
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.QueryCache;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.Slice;
+import io.micronaut.transaction.support.TransactionSynchronization;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.BaseStream;
+
+/**
+ * The cache of the results of the query methods annotated with {@link QueryCache}. The results of a method are
+ * cached in a region of the method, keyed by the query and the parameter values. The regions depending on an entity
+ * are cleared when an insert, update or delete method of the entity completes. The repository operations clear
+ * the regions of every entity they write, including the cascaded entities, see {@link #invalidate(Class)}.
+ *
+ * <p>The results are shared by the callers of the method, the collections, pages and slices are returned as
+ * read-only copies.</p>
+ *
+ * @since 3.6.0
+ */
+@Internal
+@Singleton
+public final class QueryResultCache {
+
+    private final List<Region> regions = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Optional<String>> tableNames = new ConcurrentHashMap<>(10);
+
+    /**
+     * Applies the cache to the interceptor of a repository method. The results of the query methods annotated with
+     * {@link QueryCache} are cached and the insert, update and delete methods clear the regions of their entity.
+     *
+     * @param interceptor The interceptor
+     * @param context     The context of the method
+     * @return The interceptor applying the cache or the given interceptor
+     */
+    @NonNull
+    DataInterceptor<Object, Object> apply(@NonNull DataInterceptor<Object, Object> interceptor,
+                                          @NonNull MethodInvocationContext<Object, Object> context) {
+        DataMethod.OperationType operationType = context.enumValue(DataMethod.NAME, DataMethod.META_MEMBER_OPERATION_TYPE, DataMethod.OperationType.class)
+                .orElse(null);
+        Class<?> rootEntity = context.classValue(DataMethod.NAME, DataMethod.META_MEMBER_ROOT_ENTITY).orElse(null);
+        AnnotationValue<QueryCache> queryCache = context.getAnnotation(QueryCache.class);
+        if (queryCache != null) {
+            if (operationType != DataMethod.OperationType.QUERY && operationType != DataMethod.OperationType.COUNT
+                    && operationType != DataMethod.OperationType.EXISTS) {
+                throw new ConfigurationException("@QueryCache is only supported by query methods: " + context.getExecutableMethod());
+            }
+            int maxSize = queryCache.intValue("maxSize").orElse(100);
+            Duration expireAfterWrite = queryCache.stringValue("expireAfterWrite")
+                    .filter(StringUtils::isNotEmpty)
+                    .map(value -> parseDuration(context, value))
+                    .orElse(null);
+            Region region = new Region(rootEntity, context.stringValue(Query.class).orElse(null), maxSize, expireAfterWrite);
+            regions.add(region);
+            return new CachingDataInterceptor(interceptor, region);
+        }
+        if (rootEntity != null && (operationType == DataMethod.OperationType.INSERT
+                || operationType == DataMethod.OperationType.UPDATE || operationType == DataMethod.OperationType.DELETE)) {
+            return new InvalidatingDataInterceptor(interceptor, rootEntity);
+        }
+        return interceptor;
+    }
+
+    /**
+     * Whether any query method result is cached.
+     *
+     * @return true if there is a region
+     */
+    public boolean hasRegions() {
+        return !regions.isEmpty();
+    }
+
+    /**
+     * Clears the regions depending on the entity.
+     *
+     * @param entityType The entity type
+     */
+    public void invalidate(@NonNull Class<?> entityType) {
+        if (regions.isEmpty()) {
+            return;
+        }
+        String tableName = tableNames.computeIfAbsent(entityType, type -> {
+            try {
+                return Optional.of(PersistentEntity.of(type).getPersistedName());
+            } catch (RuntimeException e) {
+                // Not an introspected entity, only the regions of the root entity are cleared
+                return Optional.empty();
+            }
+        }).orElse(null);
+        for (Region region : regions) {
+            if (region.dependsOn(entityType, tableName)) {
+                region.clear();
+            }
+        }
+    }
+
+    private static Duration parseDuration(MethodInvocationContext<?, ?> context, String value) {
+        return ConversionService.SHARED.convert(value, Duration.class)
+                .orElseThrow(() -> new ConfigurationException("Invalid expireAfterWrite [" + value + "] of the query cache of: " + context.getExecutableMethod()));
+    }
+
+    /**
+     * The cached results are shared by the callers, the collections, pages and slices are copied into read-only ones.
+     *
+     * @param result The result
+     * @return The read-only result
+     */
+    @Nullable
+    private static Object readOnly(@Nullable Object result) {
+        if (result instanceof Page) {
+            Page<?> page = (Page<?>) result;
+            return Page.of(readOnlyList(page.getContent()), page.getPageable(), page.getTotalSize());
+        }
+        if (result instanceof Slice) {
+            Slice<?> slice = (Slice<?>) result;
+            return Slice.of(readOnlyList(slice.getContent()), slice.getPageable());
+        }
+        if (result instanceof List) {
+            return readOnlyList((List<?>) result);
+        }
+        if (result instanceof Set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>((Set<?>) result));
+        }
+        if (result instanceof Collection) {
+            return Collections.unmodifiableCollection(new ArrayList<>((Collection<?>) result));
+        }
+        return result;
+    }
+
+    private static <T> List<T> readOnlyList(List<T> list) {
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static boolean containsIdentifier(String query, String identifier) {
+        int length = identifier.length();
+        int index = 0;
+        while (true) {
+            index = indexOfIgnoreCase(query, identifier, index);
+            if (index == -1) {
+                return false;
+            }
+            int end = index + length;
+            if ((index == 0 || !isIdentifierPart(query.charAt(index - 1)))
+                    && (end == query.length() || !isIdentifierPart(query.charAt(end)))) {
+                return true;
+            }
+            index++;
+        }
+    }
+
+    private static int indexOfIgnoreCase(String value, String search, int fromIndex) {
+        int max = value.length() - search.length();
+        for (int i = fromIndex; i <= max; i++) {
+            if (value.regionMatches(true, i, search, 0, search.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * The cached results of a repository method, bounded by the number of results and the duration after write.
+     */
+    private static final class Region {
+
+        @Nullable
+        private final Class<?> rootEntity;
+        @Nullable
+        private final String query;
+        private final Map<Object, Entry> entries;
+        private final long expireAfterWriteNanos;
+        private final AtomicLong generation = new AtomicLong();
+        private final Map<Class<?>, Boolean> dependencies = new ConcurrentHashMap<>(4);
+
+        Region(@Nullable Class<?> rootEntity, @Nullable String query, int maxSize, @Nullable Duration expireAfterWrite) {
+            this.rootEntity = rootEntity;
+            this.query = query;
+            this.entries = new ConcurrentLinkedHashMap.Builder<Object, Entry>()
+                    .maximumWeightedCapacity(Math.max(1, maxSize))
+                    .build();
+            this.expireAfterWriteNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+        }
+
+        /**
+         * The region depends on its root entity and on the entities whose table is referenced by the query.
+         *
+         * @param entityType The entity type
+         * @param tableName  The table name of the entity
+         * @return Whether the region depends on the entity
+         */
+        boolean dependsOn(Class<?> entityType, @Nullable String tableName) {
+            if (entityType == rootEntity) {
+                return true;
+            }
+            return dependencies.computeIfAbsent(entityType, type ->
+                    query != null && tableName != null && containsIdentifier(query, tableName));
+        }
+
+        /**
+         * The generation is incremented by every invalidation, a result loaded before the invalidation isn't cached.
+         *
+         * @return The current generation
+         */
+        long getGeneration() {
+            return generation.get();
+        }
+
+        @Nullable
+        Entry get(Object key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (expireAfterWriteNanos > 0 && System.nanoTime() - entry.writeNanos >= expireAfterWriteNanos) {
+                entries.remove(key, entry);
+                return null;
+            }
+            return entry;
+        }
+
+        void put(Object key, @Nullable Object result, long loadGeneration) {
+            if (generation.get() == loadGeneration) {
+                entries.put(key, new Entry(result, System.nanoTime()));
+                if (generation.get() != loadGeneration) {
+                    // Invalidated concurrently
+                    entries.remove(key);
+                }
+            }
+        }
+
+        void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * The cached result.
+     */
+    private static final class Entry {
+        @Nullable
+        final Object result;
+        final long writeNanos;
+
+        Entry(@Nullable Object result, long writeNanos) {
+            this.result = result;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    /**
+     * The key of a cached result, the parameter values of the method. The query of the region is the stored query
+     * of the method, the parameter values include the pageable and the sort that change the executed query.
+     */
+    private static final class ResultKey {
+        private final Object[] parameterValues;
+        private final int hash;
+
+        ResultKey(Object[] parameterValues) {
+            this.parameterValues = parameterValues;
+            this.hash = Arrays.deepHashCode(parameterValues);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultKey)) {
+                return false;
+            }
+            ResultKey resultKey = (ResultKey) o;
+            return hash == resultKey.hash && Arrays.deepEquals(parameterValues, resultKey.parameterValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Returns the cached results of a query method.
+     */
+    private static final class CachingDataInterceptor implements DataInterceptor<Object, Object> {
+
+        private final DataInterceptor<Object, Object> interceptor;
+        private final Region region;
+
+        CachingDataInterceptor(DataInterceptor<Object, Object> interceptor, Region region) {
+            this.interceptor = interceptor;
+            this.region = region;
+        }
+
+        @Override
+        public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+            ResultKey key = new ResultKey(context.getParameterValues().clone());
+            Entry entry = region.get(key);
+            if (entry != null) {
+                return cachedResult(entry.result);
+            }
+            long generation = region.getGeneration();
+            Object result = interceptor.intercept(methodKey, context);
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).thenApply(value -> {
+                    Object readOnlyValue = readOnly(value);
+                    region.put(key, new CompletedValue(readOnlyValue), generation);
+                    return readOnlyValue;
+                });
+            }
+            if (result instanceof Publisher) {
+                Publisher<?> publisher = (Publisher<?>) result;
+                return Flux.defer(() -> {
+                    long subscribedGeneration = region.getGeneration();
+                    List<Object> values = new ArrayList<>();
+                    return Flux.from(publisher)
+                            .doOnNext(values::add)
+                            .doOnComplete(() -> region.put(key, new PublishedValues(values), subscribedGeneration));
+                });
+            }
+            if (result instanceof BaseStream || result instanceof Iterator) {
+                return result;
+            }
+            Object readOnlyResult = readOnly(result);
+            region.put(key, readOnlyResult, generation);
+            return readOnlyResult;
+        }
+
+        private Object cachedResult(@Nullable Object result) {
+            if (result instanceof CompletedValue) {
+                return CompletableFuture.completedFuture(((CompletedValue) result).value);
+            }
+            if (result instanceof PublishedValues) {
+                return Flux.fromIterable(((PublishedValues) result).values);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The value of a completion stage.
+     */
+    private static final class CompletedValue {
+        @Nullable
+        final Object value;
+
+        CompletedValue(@Nullable Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * The values of a publisher.
+     */
+    private static final class PublishedValues {
+        final List<Object> values;
+
+        PublishedValues(List<Object> values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Clears the regions of the entity once a write method completes and once the surrounding transaction completes.
+     */
+    private final class InvalidatingDataInterceptor implements DataInterceptor<Object, Object> {
+
+        private final DataInterceptor<Object, Object> interceptor;
+        private final Class<?> rootEntity;
+
+        InvalidatingDataInterceptor(DataInterceptor<Object, Object> interceptor, Class<?> rootEntity) {
+            this.interceptor = interceptor;
+            this.rootEntity = rootEntity;
+        }
+
+        @Override
+        public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+            Object result;
+            try {
+                result = interceptor.intercept(methodKey, context);
+            } catch (RuntimeException e) {
+                invalidate(rootEntity);
+                throw e;
+            }
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).whenComplete((value, throwable) -> invalidate(rootEntity));
+            }
+            if (result instanceof Publisher) {
+                return Flux.from((Publisher<?>) result).doFinally(signal -> invalidate(rootEntity));
+            }
+            invalidate(rootEntity);
+            invalidateAfterTransaction();
+            return result;
+        }
+
+        @SuppressWarnings("deprecation")
+        private void invalidateAfterTransaction() {
+            if (!regions.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(@NonNull Status status) {
+                        invalidate(rootEntity);
+                    }
+                });
+            }
+        }
+    }
+}
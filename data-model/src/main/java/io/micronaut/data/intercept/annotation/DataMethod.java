@@ -174,6 +174,29 @@ public @interface DataMethod {
      */
     String META_MEMBER_OPERATION_TYPE = "opType";
 
+    /**
+     * The member name that holds the properties the query is sorted by.
+     *
+     * @since 3.6.0
+     */
+    String META_MEMBER_SORT_PROPERTIES = "sortProperties";
+
+    /**
+     * The member name that holds the end of the top level where clause in the query parts, the keyset pagination
+     * predicate is added at this position.
+     *
+     * @since 3.6.0
+     */
+    String META_MEMBER_WHERE_CLAUSE_END = "whereClauseEnd";
+
+    /**
+     * The member name that holds the end of the selected columns in the query parts, the {@code COUNT(*) OVER()}
+     * window column of a single query page is added at this position.
+     *
+     * @since 3.6.0
+     */
+    String META_MEMBER_SELECTION_END = "selectionEnd";
+
     /**
      * @return The child interceptor to use for the method execution.
      */
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The page returned for a {@link CursoredPageable}. The total size is not computed, the page only carries
+ * the cursor of the next page.
+ *
+ * @param <T> The generic type
+ * @since 3.6.0
+ */
+public interface CursoredPage<T> extends Page<T> {
+
+    /**
+     * The total size is not computed for the cursored page.
+     *
+     * @return -1
+     */
+    @Override
+    default long getTotalSize() {
+        return -1;
+    }
+
+    /**
+     * The total number of pages is not computed for the cursored page.
+     *
+     * @return -1
+     */
+    @Override
+    default int getTotalPages() {
+        return -1;
+    }
+
+    @NonNull
+    @Override
+    CursoredPageable getPageable();
+
+    /**
+     * The values of the sort properties of the last row of this page.
+     *
+     * @return The cursor of the next page or the cursor of this page if the page is empty
+     */
+    @Nullable
+    List<Object> getNextCursor();
+
+    @NonNull
+    @Override
+    default CursoredPageable nextPageable() {
+        CursoredPageable pageable = getPageable();
+        return CursoredPageable.from(pageable.getNumber() + 1, pageable.getSize(), getNextCursor(), pageable.getSort());
+    }
+
+    @NonNull
+    @Override
+    default <T2> CursoredPage<T2> map(Function<T, T2> function) {
+        List<T2> content = getContent().stream().map(function).collect(Collectors.toList());
+        return new DefaultCursoredPage<>(content, getPageable(), getNextCursor());
+    }
+
+    /**
+     * Creates a cursored page from the given content.
+     *
+     * @param content    The content
+     * @param pageable   The pageable
+     * @param nextCursor The cursor of the next page
+     * @param <T>        The generic type
+     * @return The page
+     */
+    static @NonNull <T> CursoredPage<T> of(@NonNull List<T> content,
+                                           @NonNull CursoredPageable pageable,
+                                           @Nullable List<Object> nextCursor) {
+        return new DefaultCursoredPage<>(content, pageable, nextCursor);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Models keyset (seek) pagination. Instead of skipping the rows of the previous pages, the next page is selected by comparing
+ * the sort properties with the values of the last row of the previous page, the cursor.
+ *
+ * <p>The sort is required and it should be unique, usually by including the identity as the last order.
+ * The sort properties of the selected rows cannot be null.</p>
+ *
+ * <p>Implementations that don't support the cursor use the offset derived from the page number.</p>
+ *
+ * @since 3.6.0
+ */
+public interface CursoredPageable extends Pageable {
+
+    /**
+     * The values of the sort properties of the last row of the previous page, in the order of {@link #getOrderBy()}.
+     *
+     * @return The cursor or null for the first page
+     */
+    @Nullable
+    List<Object> getCursor();
+
+    /**
+     * Creates a new {@link CursoredPageable} for the first page.
+     *
+     * @param size The size
+     * @param sort The sort
+     * @return The pageable
+     */
+    static @NonNull CursoredPageable from(int size, @NonNull Sort sort) {
+        return new DefaultCursoredPageable(0, size, null, sort);
+    }
+
+    /**
+     * Creates a new {@link CursoredPageable} that follows the given cursor.
+     *
+     * @param page   The page
+     * @param size   The size
+     * @param cursor The cursor
+     * @param sort   The sort
+     * @return The pageable
+     */
+    static @NonNull CursoredPageable from(int page, int size, @Nullable List<Object> cursor, @NonNull Sort sort) {
+        return new DefaultCursoredPageable(page, size, cursor, sort);
+    }
+}
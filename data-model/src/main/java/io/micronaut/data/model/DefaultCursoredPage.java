@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Default implementation of {@link CursoredPage}.
+ *
+ * @param <T> The generic type
+ * @since 3.6.0
+ */
+final class DefaultCursoredPage<T> extends DefaultSlice<T> implements CursoredPage<T> {
+
+    @Nullable
+    private final List<Object> nextCursor;
+
+    /**
+     * Default constructor.
+     *
+     * @param content    The content
+     * @param pageable   The pageable
+     * @param nextCursor The cursor of the next page
+     */
+    DefaultCursoredPage(List<T> content, CursoredPageable pageable, @Nullable List<Object> nextCursor) {
+        super(content, pageable);
+        this.nextCursor = nextCursor;
+    }
+
+    @NonNull
+    @Override
+    public CursoredPageable getPageable() {
+        return (CursoredPageable) super.getPageable();
+    }
+
+    @Nullable
+    @Override
+    public List<Object> getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCursoredPage)) {
+            return false;
+        }
+        DefaultCursoredPage<?> that = (DefaultCursoredPage<?>) o;
+        return Objects.equals(nextCursor, that.nextCursor) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nextCursor, super.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultCursoredPage{" +
+                "nextCursor=" + nextCursor +
+                ",content=" + getContent() +
+                ",pageable=" + getPageable() +
+                '}';
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.ArgumentUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default cursored pageable implementation.
+ *
+ * @since 3.6.0
+ */
+final class DefaultCursoredPageable implements CursoredPageable {
+
+    private final int max;
+    private final int number;
+    @Nullable
+    private final List<Object> cursor;
+    private final Sort sort;
+
+    /**
+     * Default constructor.
+     *
+     * @param page   The page
+     * @param size   The size
+     * @param cursor The cursor
+     * @param sort   The sort
+     */
+    DefaultCursoredPageable(int page, int size, @Nullable List<Object> cursor, @NonNull Sort sort) {
+        ArgumentUtils.requireNonNull("sort", sort);
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index cannot be negative");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (!sort.isSorted()) {
+            throw new IllegalArgumentException("Cursored pagination requires a sort");
+        }
+        if (cursor != null && cursor.size() != sort.getOrderBy().size()) {
+            throw new IllegalArgumentException("The cursor must contain a value for every sort order");
+        }
+        this.max = size;
+        this.number = page;
+        this.cursor = cursor == null ? null : Collections.unmodifiableList(cursor);
+        this.sort = sort;
+    }
+
+    @Nullable
+    @Override
+    public List<Object> getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public int getSize() {
+        return max;
+    }
+
+    @Override
+    public int getNumber() {
+        return number;
+    }
+
+    @NonNull
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCursoredPageable)) {
+            return false;
+        }
+        DefaultCursoredPageable that = (DefaultCursoredPageable) o;
+        return max == that.max &&
+                number == that.number &&
+                Objects.equals(cursor, that.cursor) &&
+                Objects.equals(sort, that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(max, number, cursor, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultCursoredPageable{" +
+                "max=" + max +
+                ", number=" + number +
+                ", cursor=" + cursor +
+                ", sort=" + sort +
+                '}';
+    }
+}
@@ -895,6 +895,11 @@ public abstract class AbstractCriteriaBuilder implements PersistentEntityCriteri
     public <T> ParameterExpression<T> parameter(@NonNull Class<T> paramClass, @Nullable String name, @Nullable Object value) {
         return new ParameterExpressionImpl<T>(paramClass, name) {
 
+            @Override
+            public Object getValue() {
+                return value;
+            }
+
             @Override
             public QueryParameterBinding bind(BindingContext bindingContext) {
                 String name = bindingContext.getName() == null ? String.valueOf(bindingContext.getIndex()) : bindingContext.getName();
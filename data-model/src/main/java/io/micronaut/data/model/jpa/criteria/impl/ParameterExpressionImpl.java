@@ -16,6 +16,7 @@
 package io.micronaut.data.model.jpa.criteria.impl;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.query.BindingParameter;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.ParameterExpression;
@@ -50,6 +51,15 @@ public abstract class ParameterExpressionImpl<T> implements ParameterExpression<
         return name;
     }
 
+    /**
+     * @return The constant value of the parameter or null if the value is provided by binding
+     * @since 3.6.0
+     */
+    @Nullable
+    public Object getValue() {
+        return null;
+    }
+
     @Override
     public Integer getPosition() {
         return null;
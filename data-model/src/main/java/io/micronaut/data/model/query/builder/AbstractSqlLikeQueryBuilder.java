@@ -442,15 +442,28 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         }
 
         StringBuilder select = new StringBuilder(SELECT_CLAUSE);
-        buildSelectClause(query, queryState, select);
+        int selectionEnd = buildSelectClause(query, queryState, select);
         appendForUpdate(QueryPosition.AFTER_TABLE_NAME, query, select);
+        int[] selectionPosition = null;
+        if (queryState.getQueryParts().isEmpty() && canAppendColumn(query)) {
+            // The select clause is the start of the first query part
+            selectionPosition = new int[]{0, selectionEnd};
+        }
         queryState.getQuery().insert(0, select);
 
         QueryModel.Junction criteria = query.getCriteria();
 
+        int partsBeforeWhere = queryState.getQueryParts().size();
+        int lengthBeforeWhere = queryState.getQuery().length();
         if (!criteria.isEmpty() || annotationMetadata.hasStereotype(WhereSpecifications.class) || queryState.getEntity().getAnnotationMetadata().hasStereotype(WhereSpecifications.class)) {
             buildWhereClause(annotationMetadata, criteria, queryState);
         }
+        int[] whereClauseEnd = null;
+        if (queryState.getAdditionalRequiredParameters().isEmpty()) {
+            // The where condition is enclosed in brackets, a predicate can be appended with AND
+            boolean hasWhere = queryState.getQueryParts().size() != partsBeforeWhere || queryState.getQuery().length() != lengthBeforeWhere;
+            whereClauseEnd = new int[]{queryState.getQueryParts().size(), queryState.getQuery().length(), hasWhere ? 1 : 0};
+        }
 
         appendOrder(query, queryState);
         appendForUpdate(QueryPosition.END_OF_QUERY, query, queryState.getQuery());
@@ -461,10 +474,33 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
             queryState.getParameterBindings(),
             queryState.getAdditionalRequiredParameters(),
             query.getMax(),
-            query.getOffset()
+            query.getOffset(),
+            whereClauseEnd,
+            selectionPosition
         );
     }
 
+    /**
+     * Whether a column can be added after the selected columns. The rows of a distinct selection would no longer be
+     * distinct and the row locks don't allow the window functions.
+     *
+     * @param query The query
+     * @return true if a column can be added
+     */
+    private boolean canAppendColumn(QueryModel query) {
+        if (query.isForUpdate()) {
+            return false;
+        }
+        for (QueryModel.Projection projection : query.getProjections()) {
+            if (projection instanceof QueryModel.DistinctProjection
+                    || projection instanceof QueryModel.DistinctPropertyProjection
+                    || projection instanceof QueryModel.CountDistinctProjection) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get the table name for the given entity.
      *
@@ -577,7 +613,7 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         return new QueryState(query, allowJoins, useAlias);
     }
 
-    private void buildSelectClause(QueryModel query, QueryState queryState, StringBuilder queryString) {
+    private int buildSelectClause(QueryModel query, QueryState queryState, StringBuilder queryString) {
         String logicalName = queryState.getRootAlias();
         PersistentEntity entity = queryState.getEntity();
         buildSelect(
@@ -587,12 +623,14 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
             logicalName,
             entity
         );
+        int selectionEnd = queryString.length();
 
         String tableName = getTableName(entity);
         queryString.append(FROM_CLAUSE)
             .append(tableName)
             .append(getTableAsKeyword())
             .append(logicalName);
+        return selectionEnd;
     }
 
     /**
@@ -1401,49 +1439,7 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         Iterator<Sort.Order> i = orders.iterator();
         while (i.hasNext()) {
             Sort.Order order = i.next();
-            String property = order.getProperty();
-            PersistentPropertyPath path = entity.getPropertyPath(property);
-            if (path == null) {
-                throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
-            }
-            boolean ignoreCase = order.isIgnoreCase();
-            if (ignoreCase) {
-                buff.append("LOWER(");
-            }
-            if (path.getAssociations().isEmpty()) {
-                buff.append(getAliasName(entity));
-            } else {
-                StringJoiner joiner = new StringJoiner(".");
-                for (Association association : path.getAssociations()) {
-                    joiner.add(association.getName());
-                }
-                String joinAlias = getAliasName(new JoinPath(joiner.toString(), path.getAssociations().toArray(new Association[0]), Join.Type.DEFAULT, null));
-                if (!computePropertyPaths()) {
-                    if (!query.contains(" " + joinAlias + " ") && !query.endsWith(" " + joinAlias)) {
-                        // Special hack case for JPA, Hibernate can join the relation with cross join automatically when referenced by the property path
-                        // This probably should be removed in the future major version
-                        buff.append(getAliasName(entity)).append(DOT);
-                        StringJoiner pathJoiner = new StringJoiner(".");
-                        for (Association association : path.getAssociations()) {
-                            pathJoiner.add(association.getName());
-                        }
-                        buff.append(pathJoiner);
-                    } else {
-                        buff.append(joinAlias);
-                    }
-                } else {
-                    buff.append(joinAlias);
-                }
-            }
-            buff.append(DOT);
-            if (!computePropertyPaths()) {
-                buff.append(path.getProperty().getName());
-            } else {
-                buff.append(getColumnName(path.getProperty()));
-            }
-            if (ignoreCase) {
-                buff.append(")");
-            }
+            appendOrderProperty(buff, query, entity, order);
             buff.append(SPACE).append(order.getDirection());
             if (i.hasNext()) {
                 buff.append(",");
@@ -1458,6 +1454,64 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         );
     }
 
+    /**
+     * Appends the property reference of the sort order, the case-insensitive order is wrapped in {@code LOWER}.
+     *
+     * @param buff   The buffer
+     * @param query  The query
+     * @param entity The root entity
+     * @param order  The order
+     * @return The property path of the order
+     * @since 3.6.0
+     */
+    @NonNull
+    protected PersistentPropertyPath appendOrderProperty(StringBuilder buff, String query, PersistentEntity entity, Sort.Order order) {
+        String property = order.getProperty();
+        PersistentPropertyPath path = entity.getPropertyPath(property);
+        if (path == null) {
+            throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
+        }
+        boolean ignoreCase = order.isIgnoreCase();
+        if (ignoreCase) {
+            buff.append("LOWER(");
+        }
+        if (path.getAssociations().isEmpty()) {
+            buff.append(getAliasName(entity));
+        } else {
+            StringJoiner joiner = new StringJoiner(".");
+            for (Association association : path.getAssociations()) {
+                joiner.add(association.getName());
+            }
+            String joinAlias = getAliasName(new JoinPath(joiner.toString(), path.getAssociations().toArray(new Association[0]), Join.Type.DEFAULT, null));
+            if (!computePropertyPaths()) {
+                if (!query.contains(" " + joinAlias + " ") && !query.endsWith(" " + joinAlias)) {
+                    // Special hack case for JPA, Hibernate can join the relation with cross join automatically when referenced by the property path
+                    // This probably should be removed in the future major version
+                    buff.append(getAliasName(entity)).append(DOT);
+                    StringJoiner pathJoiner = new StringJoiner(".");
+                    for (Association association : path.getAssociations()) {
+                        pathJoiner.add(association.getName());
+                    }
+                    buff.append(pathJoiner);
+                } else {
+                    buff.append(joinAlias);
+                }
+            } else {
+                buff.append(joinAlias);
+            }
+        }
+        buff.append(DOT);
+        if (!computePropertyPaths()) {
+            buff.append(path.getProperty().getName());
+        } else {
+            buff.append(getColumnName(path.getProperty()));
+        }
+        if (ignoreCase) {
+            buff.append(")");
+        }
+        return path;
+    }
+
     /**
      * Join associations and property as path.
      *
@@ -101,6 +101,31 @@ public interface QueryResult {
         return 0;
     }
 
+    /**
+     * The end of the top level where clause, where a predicate like the keyset pagination predicate can be appended.
+     * The position consists of the index of the query part, the offset in the query part and {@code 1} if the query
+     * has a where clause, otherwise {@code 0}.
+     *
+     * @return The position or null if a predicate cannot be appended
+     * @since 3.6.0
+     */
+    @Nullable
+    default int[] getWhereClauseEnd() {
+        return null;
+    }
+
+    /**
+     * The end of the selected columns, where a column like the {@code COUNT(*) OVER()} window column can be added.
+     * The position consists of the index of the query part and the offset in the query part.
+     *
+     * @return The position or null if a column cannot be added
+     * @since 3.6.0
+     */
+    @Nullable
+    default int[] getSelectionEnd() {
+        return null;
+    }
+
     /**
      * Creates a new encoded query.
      *
@@ -163,6 +188,33 @@ public interface QueryResult {
             @NonNull Map<String, String> additionalRequiredParameters,
             int max,
             long offset) {
+        return of(query, queryParts, parameterBindings, additionalRequiredParameters, max, offset, null, null);
+    }
+
+    /**
+     * Creates a new encoded query.
+     *
+     * @param query                        The query
+     * @param queryParts                   The queryParts
+     * @param parameterBindings            The parameters binding
+     * @param additionalRequiredParameters Additional required parameters to execute the query
+     * @param max                          The query limit
+     * @param offset                       The query offset
+     * @param whereClauseEnd               The end of the top level where clause, see {@link #getWhereClauseEnd()}
+     * @param selectionEnd                 The end of the selected columns, see {@link #getSelectionEnd()}
+     * @return The query
+     * @since 3.6.0
+     */
+    static @NonNull
+    QueryResult of(
+            @NonNull String query,
+            @NonNull List<String> queryParts,
+            @NonNull List<QueryParameterBinding> parameterBindings,
+            @NonNull Map<String, String> additionalRequiredParameters,
+            int max,
+            long offset,
+            @Nullable int[] whereClauseEnd,
+            @Nullable int[] selectionEnd) {
         ArgumentUtils.requireNonNull("query", query);
         ArgumentUtils.requireNonNull("parameterBindings", parameterBindings);
         ArgumentUtils.requireNonNull("additionalRequiredParameters", additionalRequiredParameters);
@@ -174,6 +226,16 @@ public interface QueryResult {
                 return max;
             }
 
+            @Override
+            public int[] getWhereClauseEnd() {
+                return whereClauseEnd;
+            }
+
+            @Override
+            public int[] getSelectionEnd() {
+                return selectionEnd;
+            }
+
             @Override
             public long getOffset() {
                 return offset;
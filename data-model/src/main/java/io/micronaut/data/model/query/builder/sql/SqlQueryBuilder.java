@@ -16,6 +16,7 @@
 package io.micronaut.data.model.query.builder.sql;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Creator;
@@ -24,6 +25,7 @@ import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.AutoPopulated;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Index;
 import io.micronaut.data.annotation.Indexes;
@@ -41,6 +43,7 @@ import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.naming.NamingStrategy;
 import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.QueryModel;
@@ -94,6 +97,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
 
     public static final String STANDARD_FOR_UPDATE_CLAUSE = " FOR UPDATE";
     public static final String SQL_SERVER_FOR_UPDATE_CLAUSE = " WITH (UPDLOCK, ROWLOCK)";
+    public static final String WINDOW_COUNT_ALIAS = "total_size_";
 
     /**
      * Annotation used to represent join tables.
@@ -892,22 +896,220 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
     @NonNull
     @Override
     public QueryResult buildInsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity) {
+        InsertColumns insertColumns = collectInsertColumns(entity);
+        String builder = INSERT_INTO + getTableName(entity) +
+                " (" + String.join(",", insertColumns.columns) + CLOSE_BRACKET + " " +
+                "VALUES (" + String.join(String.valueOf(COMMA), insertColumns.values) + CLOSE_BRACKET;
+        return QueryResult.of(
+                builder,
+                Collections.emptyList(),
+                insertColumns.parameterBindings,
+                Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Builds a multi-row insert statement: {@code INSERT INTO table (...) VALUES (...), (...)}.
+     * The parameters are numbered continuously across the rows, the parameter bindings are the bindings of
+     * {@link #buildInsert(AnnotationMetadata, PersistentEntity)} repeated for every row.
+     * The generated identities of the rows are returned by the driver the same way as for the single-row insert,
+     * Postgres is using {@code RETURNING}.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param rows               The number of rows
+     * @return The insert statement
+     * @see #getMaxInsertRows(PersistentEntity)
+     * @since 3.6.0
+     */
+    @NonNull
+    public QueryResult buildInsert(@NonNull AnnotationMetadata repositoryMetadata, @NonNull PersistentEntity entity, int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("The number of rows must be positive");
+        }
+        if (rows > 1 && dialect == Dialect.ORACLE) {
+            throw new IllegalStateException("Multi-row insert is not supported by dialect: " + dialect);
+        }
+        InsertColumns insertColumns = collectInsertColumns(entity);
+        int parametersPerRow = insertColumns.values.size();
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>(insertColumns.parameterBindings.size() * rows);
+        parameterBindings.addAll(insertColumns.parameterBindings);
+        StringBuilder builder = new StringBuilder(INSERT_INTO).append(getTableName(entity))
+                .append(" (").append(String.join(",", insertColumns.columns)).append(CLOSE_BRACKET)
+                .append(" VALUES (").append(String.join(String.valueOf(COMMA), insertColumns.values)).append(CLOSE_BRACKET);
+        for (int i = 1; i < rows; i++) {
+            InsertColumns rowColumns = collectInsertColumns(entity, i * parametersPerRow);
+            parameterBindings.addAll(rowColumns.parameterBindings);
+            builder.append(COMMA).append(OPEN_BRACKET).append(String.join(String.valueOf(COMMA), rowColumns.values)).append(CLOSE_BRACKET);
+        }
+        return QueryResult.of(
+                builder.toString(),
+                Collections.emptyList(),
+                parameterBindings,
+                Collections.emptyMap()
+        );
+    }
+
+    /**
+     * The maximum number of rows of a multi-row insert of the given entity.
+     * The number of rows is limited by the maximum number of bind parameters of a statement supported by the dialect.
+     *
+     * @param entity The entity
+     * @return The maximum number of rows or 1 if the dialect doesn't support multi-row inserts
+     * @see #buildInsert(AnnotationMetadata, PersistentEntity, int)
+     * @since 3.6.0
+     */
+    public int getMaxInsertRows(@NonNull PersistentEntity entity) {
+        int maxParameters;
+        int maxRows = Integer.MAX_VALUE;
+        switch (dialect) {
+            case ORACLE:
+                return 1;
+            case SQL_SERVER:
+                maxParameters = 2100 - 1;
+                // SQL Server limits the table value constructor to 1000 rows
+                maxRows = 1000;
+                break;
+            case MYSQL:
+                maxParameters = 65535;
+                break;
+            case POSTGRES:
+            case H2:
+                maxParameters = Short.MAX_VALUE;
+                break;
+            default:
+                maxParameters = 1000;
+        }
+        int parametersPerRow = collectInsertColumns(entity).values.size();
+        if (parametersPerRow == 0) {
+            return 1;
+        }
+        return Math.max(1, Math.min(maxRows, maxParameters / parametersPerRow));
+    }
+
+    /**
+     * Builds an insert statement that updates the existing row if a row with the same identity already exists.
+     * The statement is using the dialect specific syntax:
+     * {@code INSERT ... ON CONFLICT DO UPDATE} for Postgres, {@code INSERT ... ON DUPLICATE KEY UPDATE} for MySQL,
+     * {@code MERGE INTO ... KEY} for H2 and {@code MERGE} for Oracle, SQL Server and ANSI.
+     * The parameter bindings are the same as the bindings of {@link #buildInsert(AnnotationMetadata, PersistentEntity)}.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @return The upsert statement
+     * @since 3.6.0
+     */
+    @NonNull
+    public QueryResult buildUpsert(@NonNull AnnotationMetadata repositoryMetadata, @NonNull PersistentEntity entity) {
+        PersistentProperty identity = entity.getIdentity();
+        if (identity == null) {
+            throw new IllegalStateException("Cannot upsert an entity without an identity: " + entity.getName());
+        }
+        if (identity.isGenerated()) {
+            throw new IllegalStateException("Cannot upsert an entity with a generated identity: " + entity.getName());
+        }
+        if (entity.getVersion() != null) {
+            throw new IllegalStateException("Cannot upsert an entity with a version: " + entity.getName());
+        }
+        InsertColumns insertColumns = collectInsertColumns(entity);
+        List<String> columns = insertColumns.columns;
+        List<String> updateColumns = columns.stream()
+                .filter(c -> !insertColumns.identityColumns.contains(c) && !insertColumns.insertOnlyColumns.contains(c))
+                .collect(Collectors.toList());
+        String tableName = getTableName(entity);
+        String insert = INSERT_INTO + tableName +
+                " (" + String.join(",", columns) + CLOSE_BRACKET + " " +
+                "VALUES (" + String.join(String.valueOf(COMMA), insertColumns.values) + CLOSE_BRACKET;
+        StringBuilder builder = new StringBuilder();
+        switch (dialect) {
+            case POSTGRES:
+                builder.append(insert)
+                        .append(" ON CONFLICT (").append(String.join(",", insertColumns.identityColumns)).append(CLOSE_BRACKET);
+                if (updateColumns.isEmpty()) {
+                    builder.append(" DO NOTHING");
+                } else {
+                    builder.append(" DO UPDATE SET ")
+                            .append(updateColumns.stream().map(c -> c + "=EXCLUDED." + c).collect(Collectors.joining(",")));
+                }
+                break;
+            case MYSQL:
+                builder.append(insert).append(" ON DUPLICATE KEY UPDATE ");
+                if (updateColumns.isEmpty()) {
+                    String idColumn = insertColumns.identityColumns.get(0);
+                    builder.append(idColumn).append('=').append(idColumn);
+                } else {
+                    builder.append(updateColumns.stream().map(c -> c + "=VALUES(" + c + CLOSE_BRACKET).collect(Collectors.joining(",")));
+                }
+                break;
+            case H2:
+                builder.append("MERGE INTO ").append(tableName)
+                        .append(" (").append(String.join(",", columns)).append(CLOSE_BRACKET)
+                        .append(" KEY (").append(String.join(",", insertColumns.identityColumns)).append(CLOSE_BRACKET)
+                        .append(" VALUES (").append(String.join(String.valueOf(COMMA), insertColumns.values)).append(CLOSE_BRACKET);
+                break;
+            default:
+                String target = "upsert_target";
+                String source = "upsert_source";
+                builder.append("MERGE INTO ").append(tableName).append(dialect == Dialect.SQL_SERVER ? AS_CLAUSE : " ").append(target)
+                        .append(" USING ");
+                if (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER) {
+                    builder.append("(SELECT ");
+                    for (int i = 0; i < columns.size(); i++) {
+                        if (i > 0) {
+                            builder.append(COMMA);
+                        }
+                        builder.append(insertColumns.values.get(i)).append(dialect == Dialect.SQL_SERVER ? AS_CLAUSE : " ").append(columns.get(i));
+                    }
+                    builder.append(dialect == Dialect.ORACLE ? " FROM DUAL) " : ")" + AS_CLAUSE).append(source);
+                } else {
+                    builder.append("(VALUES (").append(String.join(String.valueOf(COMMA), insertColumns.values)).append("))")
+                            .append(AS_CLAUSE).append(source)
+                            .append(" (").append(String.join(",", columns)).append(CLOSE_BRACKET);
+                }
+                builder.append(" ON (")
+                        .append(insertColumns.identityColumns.stream().map(c -> target + DOT + c + EQUALS + source + DOT + c).collect(Collectors.joining(LOGICAL_AND)))
+                        .append(CLOSE_BRACKET);
+                if (!updateColumns.isEmpty()) {
+                    builder.append(" WHEN MATCHED THEN UPDATE SET ")
+                            .append(updateColumns.stream().map(c -> target + DOT + c + EQUALS + source + DOT + c).collect(Collectors.joining(",")));
+                }
+                builder.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(",", columns)).append(CLOSE_BRACKET)
+                        .append(" VALUES (").append(columns.stream().map(c -> source + DOT + c).collect(Collectors.joining(","))).append(CLOSE_BRACKET);
+                if (dialect == Dialect.SQL_SERVER) {
+                    // SQL Server requires MERGE to be terminated
+                    builder.append(';');
+                }
+        }
+        return QueryResult.of(
+                builder.toString(),
+                Collections.emptyList(),
+                insertColumns.parameterBindings,
+                Collections.emptyMap()
+        );
+    }
+
+    private InsertColumns collectInsertColumns(PersistentEntity entity) {
+        return collectInsertColumns(entity, 0);
+    }
+
+    private InsertColumns collectInsertColumns(PersistentEntity entity, int parameterOffset) {
         boolean escape = shouldEscape(entity);
         final String unescapedTableName = getUnescapedTableName(entity);
 
         NamingStrategy namingStrategy = entity.getNamingStrategy();
 
         Collection<? extends PersistentProperty> persistentProperties = entity.getPersistentProperties();
-        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
-        List<String> columns = new ArrayList<>();
-        List<String> values = new ArrayList<>();
+        InsertColumns insertColumns = new InsertColumns();
+        List<QueryParameterBinding> parameterBindings = insertColumns.parameterBindings;
+        List<String> columns = insertColumns.columns;
+        List<String> values = insertColumns.values;
 
         for (PersistentProperty prop : persistentProperties) {
             if (!prop.isGenerated()) {
                 traversePersistentProperties(prop, (associations, property) -> {
-                    addWriteExpression(values, prop);
+                    addWriteExpression(values, prop, parameterOffset);
 
-                    String key = String.valueOf(values.size());
+                    String key = String.valueOf(parameterOffset + values.size());
                     String[] path = asStringPath(associations, property);
                     parameterBindings.add(new QueryParameterBinding() {
                         @Override
@@ -931,14 +1133,17 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                         columnName = quote(columnName);
                     }
                     columns.add(columnName);
+                    if (!prop.getAnnotationMetadata().booleanValue(AutoPopulated.class, "updateable").orElse(true)) {
+                        insertColumns.insertOnlyColumns.add(columnName);
+                    }
                 });
             }
         }
         PersistentProperty version = entity.getVersion();
         if (version != null) {
-            addWriteExpression(values, version);
+            addWriteExpression(values, version, parameterOffset);
 
-            String key = String.valueOf(values.size());
+            String key = String.valueOf(parameterOffset + values.size());
             parameterBindings.add(new QueryParameterBinding() {
                 @Override
                 public String getKey() {
@@ -985,9 +1190,9 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                 if (isSequence) {
                     values.add(getSequenceStatement(unescapedTableName, property));
                 } else {
-                    addWriteExpression(values, property);
+                    addWriteExpression(values, property, parameterOffset);
 
-                    String key = String.valueOf(values.size());
+                    String key = String.valueOf(parameterOffset + values.size());
                     String[] path = asStringPath(associations, property);
                     parameterBindings.add(new QueryParameterBinding() {
                         @Override
@@ -1013,18 +1218,11 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                     columnName = quote(columnName);
                 }
                 columns.add(columnName);
+                insertColumns.identityColumns.add(columnName);
             });
         }
+        return insertColumns;
 
-        String builder = INSERT_INTO + getTableName(entity) +
-                " (" + String.join(",", columns) + CLOSE_BRACKET + " " +
-                "VALUES (" + String.join(String.valueOf(COMMA), values) + CLOSE_BRACKET;
-        return QueryResult.of(
-                builder,
-                Collections.emptyList(),
-                parameterBindings,
-                Collections.emptyMap()
-        );
     }
 
     private String[] asStringPath(List<Association> associations, PersistentProperty property) {
@@ -1119,6 +1317,176 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         }
     }
 
+    /**
+     * Builds the pagination clause with the offset and the limit bound as parameters, all the pages of a query
+     * share the same SQL. The offset is always present.
+     *
+     * @param parameterIndex The index of the first parameter
+     * @return The pagination clause with the parameter bindings in the order of the placeholders, the binding of
+     * the limit has the data type {@link DataType#INTEGER} and the binding of the offset {@link DataType#LONG}
+     * @since 3.6.0
+     */
+    @NonNull
+    public QueryResult buildPagination(int parameterIndex) {
+        Placeholder first = formatParameter(parameterIndex);
+        Placeholder second = formatParameter(parameterIndex + 1);
+        StringBuilder builder = new StringBuilder(" ");
+        boolean limitFirst;
+        switch (dialect) {
+            case H2:
+            case MYSQL:
+                builder.append("LIMIT ").append(first.getName()).append(',').append(second.getName());
+                limitFirst = false;
+                break;
+            case POSTGRES:
+                builder.append("LIMIT ").append(first.getName()).append(" OFFSET ").append(second.getName());
+                limitFirst = true;
+                break;
+            case SQL_SERVER:
+            case ANSI:
+            case ORACLE:
+            default:
+                builder.append("OFFSET ").append(first.getName()).append(" ROWS FETCH NEXT ").append(second.getName()).append(" ROWS ONLY ");
+                limitFirst = false;
+                break;
+        }
+        List<QueryParameterBinding> parameterBindings = Arrays.asList(
+                paginationBinding(first, limitFirst ? DataType.INTEGER : DataType.LONG),
+                paginationBinding(second, limitFirst ? DataType.LONG : DataType.INTEGER)
+        );
+        return QueryResult.of(
+                builder.toString(),
+                Collections.emptyList(),
+                parameterBindings,
+                Collections.emptyMap()
+        );
+    }
+
+    private QueryParameterBinding paginationBinding(Placeholder placeholder, DataType dataType) {
+        return new QueryParameterBinding() {
+            @Override
+            public String getKey() {
+                return placeholder.getKey();
+            }
+
+            @Override
+            public DataType getDataType() {
+                return dataType;
+            }
+        };
+    }
+
+    /**
+     * Builds the {@code COUNT(*) OVER()} column, aliased {@link #WINDOW_COUNT_ALIAS}, added after the selected columns
+     * of a query, see {@link QueryResult#getSelectionEnd()}. The window column holds the number of rows matched by
+     * the query before the pagination is applied, the total size of a page can be read with its content.
+     *
+     * @return The column with the leading comma or null if the dialect doesn't support it
+     * @since 3.6.0
+     */
+    @Nullable
+    public String buildWindowCountColumn() {
+        if (dialect == Dialect.MYSQL) {
+            // The window functions require MySQL 8
+            return null;
+        }
+        return ",COUNT(*) OVER() AS " + WINDOW_COUNT_ALIAS;
+    }
+
+    /**
+     * Builds the keyset (seek) predicate selecting the rows that follow the cursor in the order of the sort.
+     * The row value comparison {@code (a, b) > (?, ?)} is used when the orders have the same direction and the dialect supports it,
+     * otherwise the predicate is expanded to {@code a > ? OR (a = ? AND b > ?)}.
+     *
+     * @param entity         The root entity
+     * @param sort           The sort
+     * @param parameterIndex The index of the first parameter
+     * @return The predicate with the parameter bindings of the cursor values, the property path of a binding is the sort property
+     * and the parameter index of a binding is the index of the sort order
+     * @since 3.6.0
+     */
+    @NonNull
+    public QueryResult buildCursorPredicate(@NonNull PersistentEntity entity,
+                                            @NonNull Sort sort,
+                                            int parameterIndex) {
+        ArgumentUtils.requireNonNull("entity", entity);
+        ArgumentUtils.requireNonNull("sort", sort);
+        List<Sort.Order> orders = sort.getOrderBy();
+        if (CollectionUtils.isEmpty(orders)) {
+            throw new IllegalArgumentException("Sort is empty");
+        }
+        int size = orders.size();
+        String[] columns = new String[size];
+        PersistentPropertyPath[] paths = new PersistentPropertyPath[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder column = new StringBuilder();
+            paths[i] = appendOrderProperty(column, "", entity, orders.get(i));
+            columns[i] = column.toString();
+        }
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        int[] index = {parameterIndex};
+        Function<Integer, String> placeholder = i -> {
+            Sort.Order order = orders.get(i);
+            PersistentPropertyPath path = paths[i];
+            Placeholder p = formatParameter(index[0]++);
+            parameterBindings.add(new QueryParameterBinding() {
+                @Override
+                public String getKey() {
+                    return p.getKey();
+                }
+
+                @Override
+                public DataType getDataType() {
+                    return path.getProperty().getDataType();
+                }
+
+                @Override
+                public int getParameterIndex() {
+                    return i;
+                }
+
+                @Override
+                public String[] getPropertyPath() {
+                    return order.getProperty().split("\\.");
+                }
+            });
+            return order.isIgnoreCase() ? "LOWER(" + p.getName() + ")" : p.getName();
+        };
+        StringBuilder buff = new StringBuilder().append(OPEN_BRACKET);
+        Sort.Order.Direction direction = orders.get(0).getDirection();
+        boolean sameDirection = orders.stream().allMatch(order -> order.getDirection() == direction);
+        if (size > 1 && sameDirection && (dialect == Dialect.POSTGRES || dialect == Dialect.MYSQL || dialect == Dialect.H2)) {
+            StringJoiner left = new StringJoiner(",", "(", ")");
+            StringJoiner right = new StringJoiner(",", "(", ")");
+            for (int i = 0; i < size; i++) {
+                left.add(columns[i]);
+                right.add(placeholder.apply(i));
+            }
+            buff.append(left).append(direction == Sort.Order.Direction.ASC ? " > " : " < ").append(right);
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    buff.append(" OR ");
+                }
+                buff.append(OPEN_BRACKET);
+                for (int j = 0; j < i; j++) {
+                    buff.append(columns[j]).append(" = ").append(placeholder.apply(j)).append(LOGICAL_AND);
+                }
+                buff.append(columns[i])
+                        .append(orders.get(i).isAscending() ? " > " : " < ")
+                        .append(placeholder.apply(i))
+                        .append(CLOSE_BRACKET);
+            }
+        }
+        buff.append(CLOSE_BRACKET);
+        return QueryResult.of(
+                buff.toString(),
+                Collections.emptyList(),
+                parameterBindings,
+                Collections.emptyMap()
+        );
+    }
+
     @Override
     protected String getAliasName(PersistentEntity entity) {
         return entity.getAliasName();
@@ -1157,7 +1525,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         }
     }
 
-    private boolean addWriteExpression(List<String> values, PersistentProperty property) {
+    private boolean addWriteExpression(List<String> values, PersistentProperty property, int parameterOffset) {
         DataType dt = property.getDataType();
         String transformer = getDataTransformerWriteValue(null, property).orElse(null);
         if (transformer != null) {
@@ -1166,16 +1534,16 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         if (dt == DataType.JSON) {
             switch (dialect) {
                 case POSTGRES:
-                    return values.add("to_json(" + formatParameter(values.size() + 1).getName() + "::json)");
+                    return values.add("to_json(" + formatParameter(parameterOffset + values.size() + 1).getName() + "::json)");
                 case H2:
-                    return values.add(formatParameter(values.size() + 1).getName() + " FORMAT JSON");
+                    return values.add(formatParameter(parameterOffset + values.size() + 1).getName() + " FORMAT JSON");
                 case MYSQL:
-                    return values.add("CONVERT(" + formatParameter(values.size() + 1).getName() + " USING UTF8MB4)");
+                    return values.add("CONVERT(" + formatParameter(parameterOffset + values.size() + 1).getName() + " USING UTF8MB4)");
                 default:
-                    return values.add(formatParameter(values.size() + 1).getName());
+                    return values.add(formatParameter(parameterOffset + values.size() + 1).getName());
             }
         }
-        return values.add(formatParameter(values.size() + 1).getName());
+        return values.add(formatParameter(parameterOffset + values.size() + 1).getName());
     }
 
     @Override
@@ -1994,6 +2362,17 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         return SqlQueryConfiguration.DialectConfiguration.class;
     }
 
+    /**
+     * The columns of the insert statement.
+     */
+    private static final class InsertColumns {
+        private final List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        private final List<String> columns = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<String> identityColumns = new ArrayList<>();
+        private final List<String> insertOnlyColumns = new ArrayList<>();
+    }
+
     private static class DialectConfig {
         Boolean escapeQueries;
         String positionalFormatter;
@@ -0,0 +1,50 @@
+package io.micronaut.data.model
+
+import spock.lang.Specification
+
+class CursoredPageSpec extends Specification {
+
+    void "test next pageable of a cursored page"() {
+        given:
+        def sort = Sort.of(Sort.Order.asc("name"), Sort.Order.asc("id"))
+        def page = CursoredPage.of([1, 2, 3], CursoredPageable.from(3, sort), ["C", 3L])
+
+        when:
+        def next = page.nextPageable()
+
+        then:
+        page.totalSize == -1
+        page.totalPages == -1
+        next.number == 1
+        next.size == 3
+        next.offset == 3
+        next.cursor == ["C", 3L]
+        next.sort == sort
+    }
+
+    void "test mapping a cursored page"() {
+        given:
+        def page = CursoredPage.of([1, 2, 3], CursoredPageable.from(3, Sort.of(Sort.Order.asc("id"))), [3])
+
+        when:
+        CursoredPage newPage = page.map({ i -> i + 1 })
+
+        then:
+        newPage.content == [2, 3, 4]
+        newPage.nextCursor == [3]
+    }
+
+    void "test cursored pageable validation"() {
+        when:
+        CursoredPageable.from(10, Sort.unsorted())
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        CursoredPageable.from(1, 10, ["A"], Sort.of(Sort.Order.asc("name"), Sort.Order.asc("id")))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
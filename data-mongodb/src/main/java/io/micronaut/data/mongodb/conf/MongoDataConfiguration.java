@@ -41,6 +41,22 @@ public final class MongoDataConfiguration {
      */
     private DriverType driverType;
 
+    /**
+     * The maximum number of documents written by one insertMany or bulkWrite of the batch operations, 0 for all the documents.
+     */
+    private int bulkWriteChunkSize;
+
+    /**
+     * Whether the documents of the batch operations are written in order, stopping at the first error.
+     */
+    private boolean bulkWriteOrdered = true;
+
+    /**
+     * The maximum number of chunks written concurrently by the reactive batch operations outside of a transaction
+     * when the writes are unordered.
+     */
+    private int bulkWriteParallelism = 1;
+
     public boolean isCreateCollections() {
         return createCollections;
     }
@@ -57,6 +73,30 @@ public final class MongoDataConfiguration {
         this.driverType = driverType;
     }
 
+    public int getBulkWriteChunkSize() {
+        return bulkWriteChunkSize;
+    }
+
+    public void setBulkWriteChunkSize(int bulkWriteChunkSize) {
+        this.bulkWriteChunkSize = bulkWriteChunkSize;
+    }
+
+    public boolean isBulkWriteOrdered() {
+        return bulkWriteOrdered;
+    }
+
+    public void setBulkWriteOrdered(boolean bulkWriteOrdered) {
+        this.bulkWriteOrdered = bulkWriteOrdered;
+    }
+
+    public int getBulkWriteParallelism() {
+        return bulkWriteParallelism;
+    }
+
+    public void setBulkWriteParallelism(int bulkWriteParallelism) {
+        this.bulkWriteParallelism = bulkWriteParallelism;
+    }
+
     /**
      * The driver type.
      */
@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.InsertManyOptions;
@@ -28,6 +29,7 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.PreparedQuery;
@@ -36,6 +38,7 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.mongodb.annotation.MongoRepository;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions;
 import io.micronaut.data.mongodb.operations.options.MongoOptionsUtils;
@@ -54,10 +57,16 @@ import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.annotations.BsonRepresentation;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 
 import java.util.Collection;
@@ -82,6 +91,15 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     protected static final BsonDocument EMPTY = new BsonDocument();
     protected final Map<Class, String> repoDatabaseConfig;
+    /**
+     * The maximum number of documents written by one insertMany or bulkWrite of the batch operations, 0 for all.
+     */
+    protected final int bulkWriteChunkSize;
+    /**
+     * The maximum number of chunks written concurrently by the unordered batch operations.
+     */
+    protected final int bulkWriteParallelism;
+    private final boolean bulkWriteOrdered;
 
     /**
      * Default constructor.
@@ -115,6 +133,10 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
             }
         }
         this.repoDatabaseConfig = Collections.unmodifiableMap(repoDatabaseConfig);
+        MongoDataConfiguration configuration = beanContext.findBean(MongoDataConfiguration.class).orElse(null);
+        this.bulkWriteChunkSize = configuration == null ? 0 : Math.max(0, configuration.getBulkWriteChunkSize());
+        this.bulkWriteOrdered = configuration == null || configuration.isBulkWriteOrdered();
+        this.bulkWriteParallelism = configuration == null ? 1 : Math.max(1, configuration.getBulkWriteParallelism());
     }
 
     protected final ReplaceOptions getReplaceOptions(AnnotationMetadata annotationMetadata) {
@@ -126,7 +148,18 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
     }
 
     protected final InsertManyOptions getInsertManyOptions(AnnotationMetadata annotationMetadata) {
-        return MongoOptionsUtils.buildInsertManyOptions(annotationMetadata).orElseGet(InsertManyOptions::new);
+        return MongoOptionsUtils.buildInsertManyOptions(annotationMetadata).orElseGet(() -> new InsertManyOptions().ordered(bulkWriteOrdered));
+    }
+
+    protected final BulkWriteOptions getBulkWriteOptions() {
+        return new BulkWriteOptions().ordered(bulkWriteOrdered);
+    }
+
+    /**
+     * @return Whether the chunks of the batch operations can be written concurrently
+     */
+    protected final boolean isParallelBulkWrite() {
+        return !bulkWriteOrdered && bulkWriteChunkSize > 0 && bulkWriteParallelism > 1;
     }
 
     protected final DeleteOptions getDeleteOptions(AnnotationMetadata annotationMetadata) {
@@ -234,16 +267,56 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
     }
 
     protected final <T> Bson createFilterIdAndVersion(RuntimePersistentEntity<T> persistentEntity, T entity, CodecRegistry codecRegistry) {
-        BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, codecRegistry);
-        BsonDocument filter = new BsonDocument();
-        filter.put(MongoUtils.ID, bsonDocument.get(MongoUtils.ID));
+        RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
         RuntimePersistentProperty<T> version = persistentEntity.getVersion();
+        BsonValue id = identity == null ? null : toSimpleBsonValue(identity, entity);
+        BsonValue versionValue = version == null ? null : toSimpleBsonValue(version, entity);
+        if (id == null || version != null && versionValue == null) {
+            // Encode the entity with its codec for the identities and the versions that aren't simple values
+            BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, codecRegistry);
+            id = bsonDocument.get(MongoUtils.ID);
+            if (version != null) {
+                versionValue = bsonDocument.get(version.getPersistedName());
+            }
+        }
+        BsonDocument filter = new BsonDocument(MongoUtils.ID, id);
         if (version != null) {
-            filter.put(version.getPersistedName(), bsonDocument.get(version.getPersistedName()));
+            filter.put(version.getPersistedName(), versionValue);
         }
         return filter;
     }
 
+    /**
+     * Converts the value of a property the same way as the entity codec does, without encoding the entity.
+     *
+     * @param property The property
+     * @param entity   The entity
+     * @param <T>      The entity type
+     * @return The BSON value or null if the value isn't a simple value
+     */
+    private <T> BsonValue toSimpleBsonValue(RuntimePersistentProperty<T> property, T entity) {
+        if (property.getConverter() != null || property.getAnnotationMetadata().hasAnnotation(BsonRepresentation.class)) {
+            return null;
+        }
+        Object value = property.getProperty().get(entity);
+        if (value instanceof String) {
+            if (property == property.getOwner().getIdentity() && property.isAnnotationPresent(GeneratedValue.class)) {
+                return new BsonObjectId(new ObjectId((String) value));
+            }
+            return new BsonString((String) value);
+        }
+        if (value instanceof ObjectId) {
+            return new BsonObjectId((ObjectId) value);
+        }
+        if (value instanceof Long) {
+            return new BsonInt64((Long) value);
+        }
+        if (value instanceof Integer) {
+            return new BsonInt32((Integer) value);
+        }
+        return null;
+    }
+
     protected void logFind(MongoFind find) {
         StringBuilder sb = new StringBuilder("Executing Mongo 'find'");
         MongoFindOptions options = find.getOptions();
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * The compiled BSON document with query parameter placeholders.
+ * The document is scanned once and only the nodes on the path to a placeholder are recreated when the parameters are bound,
+ * the rest of the document is shared between the bound instances.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class BsonTemplate {
+
+    private final Node root;
+
+    private BsonTemplate(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the BSON value.
+     *
+     * @param value The value
+     * @return The template or null if the value doesn't contain any parameter placeholders
+     */
+    @Nullable
+    static BsonTemplate compile(@Nullable Bson value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BsonDocument) {
+            Node root = compileValue((BsonDocument) value);
+            return root == null ? null : new BsonTemplate(root);
+        }
+        throw new IllegalStateException("Unrecognized value: " + value);
+    }
+
+    /**
+     * Compiles the list of BSON values.
+     *
+     * @param values The values
+     * @return The templates with null elements for the values without parameter placeholders or null if no value needs processing
+     */
+    @Nullable
+    static List<BsonTemplate> compile(@Nullable List<Bson> values) {
+        if (values == null) {
+            return null;
+        }
+        List<BsonTemplate> templates = new ArrayList<>(values.size());
+        boolean needsProcessing = false;
+        for (Bson value : values) {
+            BsonTemplate template = compile(value);
+            needsProcessing |= template != null;
+            templates.add(template);
+        }
+        return needsProcessing ? templates : null;
+    }
+
+    /**
+     * Creates a new document with the parameter values.
+     *
+     * @param parameterValueResolver The resolver of the parameter value by the query parameter index
+     * @return The new document
+     */
+    @NonNull
+    Bson bind(@NonNull IntFunction<BsonValue> parameterValueResolver) {
+        return root.bind(parameterValueResolver).asDocument();
+    }
+
+    @Nullable
+    private static Node compileValue(BsonValue value) {
+        if (value instanceof BsonDocument) {
+            BsonDocument bsonDocument = (BsonDocument) value;
+            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
+            if (queryParameterIndex != null) {
+                return new ParameterNode(queryParameterIndex.getValue());
+            }
+            int size = bsonDocument.size();
+            String[] keys = new String[size];
+            BsonValue[] values = new BsonValue[size];
+            Node[] nodes = new Node[size];
+            boolean needsProcessing = false;
+            int i = 0;
+            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = entry.getValue();
+                nodes[i] = compileValue(entry.getValue());
+                needsProcessing |= nodes[i] != null;
+                i++;
+            }
+            return needsProcessing ? new DocumentNode(keys, values, nodes) : null;
+        } else if (value instanceof BsonArray) {
+            BsonArray bsonArray = (BsonArray) value;
+            int size = bsonArray.size();
+            BsonValue[] values = bsonArray.toArray(new BsonValue[0]);
+            Node[] nodes = new Node[size];
+            boolean needsProcessing = false;
+            for (int i = 0; i < size; i++) {
+                nodes[i] = compileValue(values[i]);
+                needsProcessing |= nodes[i] != null;
+            }
+            return needsProcessing ? new ArrayNode(values, nodes) : null;
+        }
+        return null;
+    }
+
+    /**
+     * The template node containing at least one parameter placeholder.
+     */
+    private interface Node {
+
+        BsonValue bind(IntFunction<BsonValue> parameterValueResolver);
+
+    }
+
+    /**
+     * The parameter placeholder.
+     */
+    private static final class ParameterNode implements Node {
+
+        private final int index;
+
+        private ParameterNode(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public BsonValue bind(IntFunction<BsonValue> parameterValueResolver) {
+            return parameterValueResolver.apply(index);
+        }
+    }
+
+    /**
+     * The document with the placeholders.
+     */
+    private static final class DocumentNode implements Node {
+
+        private final String[] keys;
+        private final BsonValue[] values;
+        private final Node[] nodes;
+
+        private DocumentNode(String[] keys, BsonValue[] values, Node[] nodes) {
+            this.keys = keys;
+            this.values = values;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public BsonValue bind(IntFunction<BsonValue> parameterValueResolver) {
+            BsonDocument bsonDocument = new BsonDocument();
+            for (int i = 0; i < keys.length; i++) {
+                Node node = nodes[i];
+                bsonDocument.put(keys[i], node == null ? values[i] : node.bind(parameterValueResolver));
+            }
+            return bsonDocument;
+        }
+    }
+
+    /**
+     * The array with the placeholders.
+     */
+    private static final class ArrayNode implements Node {
+
+        private final BsonValue[] values;
+        private final Node[] nodes;
+
+        private ArrayNode(BsonValue[] values, Node[] nodes) {
+            this.values = values;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public BsonValue bind(IntFunction<BsonValue> parameterValueResolver) {
+            List<BsonValue> newValues = new ArrayList<>(values.length);
+            for (int i = 0; i < values.length; i++) {
+                Node node = nodes[i];
+                if (node == null) {
+                    newValues.add(values[i]);
+                } else if (node instanceof ParameterNode) {
+                    BsonValue newValue = node.bind(parameterValueResolver);
+                    if (newValue.isNull()) {
+                        // Skip null values
+                        continue;
+                    }
+                    if (newValue.isArray()) {
+                        // Expand the collection parameter into the array
+                        newValues.addAll(newValue.asArray().getValues());
+                    } else {
+                        newValues.add(newValue);
+                    }
+                } else {
+                    newValues.add(node.bind(parameterValueResolver));
+                }
+            }
+            return new BsonArray(newValues);
+        }
+    }
+}
@@ -15,8 +15,11 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.runtime.PreparedQuery;
@@ -87,7 +90,15 @@ final class DefaultMongoPreparedQuery<E, R, Dtb> implements DelegatePreparedQuer
         if (pageable != Pageable.UNPAGED) {
             MongoFindOptions findOptions = find.getOptions();
             MongoFindOptions options = findOptions == null ? new MongoFindOptions() : new MongoFindOptions(findOptions);
-            options.limit(pageable.getSize()).skip((int) pageable.getOffset());
+            Bson cursorFilter = getCursorFilter(pageable);
+            if (cursorFilter != null) {
+                Bson filter = options.getFilter();
+                options.filter(filter == null ? cursorFilter : Filters.and(filter, cursorFilter));
+                // The documents of the previous pages are excluded by the cursor filter
+                options.limit(pageable.getSize()).skip(0);
+            } else {
+                options.limit(pageable.getSize()).skip((int) pageable.getOffset());
+            }
             Sort pageableSort = pageable.getSort();
             if (pageableSort.isSorted()) {
                 Bson sort = pageableSort.getOrderBy().stream().map(order -> order.isAscending() ? Sorts.ascending(order.getProperty()) : Sorts.descending(order.getProperty()))
@@ -119,6 +130,13 @@ final class DefaultMongoPreparedQuery<E, R, Dtb> implements DelegatePreparedQuer
         if (pageable != Pageable.UNPAGED) {
             int skip = (int) pageable.getOffset();
             limit = pageable.getSize();
+            Bson cursorFilter = getCursorFilter(pageable);
+            if (cursorFilter != null) {
+                BsonDocument matchStage = new BsonDocument().append("$match", cursorFilter.toBsonDocument());
+                addStageToPipelineBefore(pipeline, matchStage, "$limit", "$skip");
+                // The documents of the previous pages are excluded by the cursor filter
+                skip = 0;
+            }
             Sort pageableSort = pageable.getSort();
             if (pageableSort.isSorted()) {
                 Bson sort = pageableSort.getOrderBy().stream().map(order -> order.isAscending() ? Sorts.ascending(order.getProperty()) : Sorts.descending(order.getProperty())).collect(Collectors.collectingAndThen(Collectors.toList(), Sorts::orderBy));
@@ -135,6 +153,14 @@ final class DefaultMongoPreparedQuery<E, R, Dtb> implements DelegatePreparedQuer
         return limit;
     }
 
+    @Nullable
+    private Bson getCursorFilter(Pageable pageable) {
+        if (pageable instanceof CursoredPageable) {
+            return mongoStoredQuery.getCursorFilter((CursoredPageable) pageable);
+        }
+        return null;
+    }
+
     private void addStageToPipelineBefore(List<Bson> pipeline, BsonDocument stageToAdd, String... beforeStages) {
         int lastFoundIndex = -1;
         int index = 0;
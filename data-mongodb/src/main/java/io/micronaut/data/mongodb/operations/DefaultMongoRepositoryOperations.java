@@ -74,13 +74,13 @@ import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
+import io.micronaut.data.runtime.operations.internal.AsyncExecutors;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Named;
 import org.bson.BsonDocument;
-import org.bson.BsonDocumentWrapper;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
@@ -88,13 +88,14 @@ import org.bson.conversions.Bson;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -512,7 +513,15 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
     public <T> Iterable<T> persistAll(InsertBatchOperation<T> operation) {
         return withClientSession(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
-            return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
+            RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(operation.getRootEntity());
+            if (bulkWriteChunkSize == 0) {
+                return persistBatch(ctx, operation, persistentEntity, null);
+            }
+            List<T> entities = new ArrayList<>();
+            for (List<T> chunk : chunks(operation)) {
+                entities.addAll(persistBatch(ctx, chunk, persistentEntity, null));
+            }
+            return entities;
         });
     }
 
@@ -539,13 +548,10 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
-                MongoEntitiesOperation<T> op = createMongoUpdateOneInBulkOperation(ctx, mongoStoredQuery.getRuntimePersistentEntity(), operation, mongoStoredQuery);
-                op.update();
-                return op.getEntities();
+                return updateInChunks(operation, chunk -> createMongoUpdateOneInBulkOperation(ctx, mongoStoredQuery.getRuntimePersistentEntity(), chunk, mongoStoredQuery));
             }
-            MongoEntitiesOperation<T> op = createMongoReplaceOneInBulkOperation(ctx, runtimeEntityRegistry.getEntity(operation.getRootEntity()), operation);
-            op.update();
-            return op.getEntities();
+            RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(operation.getRootEntity());
+            return updateInChunks(operation, chunk -> createMongoReplaceOneInBulkOperation(ctx, persistentEntity, chunk));
         });
     }
 
@@ -745,6 +751,53 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata));
     }
 
+    private <T> List<T> updateInChunks(Iterable<T> values, Function<Iterable<T>, MongoEntitiesOperation<T>> operationFactory) {
+        if (bulkWriteChunkSize == 0) {
+            MongoEntitiesOperation<T> op = operationFactory.apply(values);
+            op.update();
+            return op.getEntities();
+        }
+        List<T> entities = new ArrayList<>();
+        for (List<T> chunk : chunks(values)) {
+            MongoEntitiesOperation<T> op = operationFactory.apply(chunk);
+            op.update();
+            entities.addAll(op.getEntities());
+        }
+        return entities;
+    }
+
+    /**
+     * Splits the values lazily in chunks of the bulk write chunk size, only one chunk of the values is materialized
+     * at a time.
+     *
+     * @param values The values
+     * @param <T>    The value type
+     * @return The chunks
+     */
+    private <T> Iterable<List<T>> chunks(Iterable<T> values) {
+        return () -> new Iterator<List<T>>() {
+
+            final Iterator<T> iterator = values.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = new ArrayList<>(bulkWriteChunkSize);
+                while (iterator.hasNext() && chunk.size() < bulkWriteChunkSize) {
+                    chunk.add(iterator.next());
+                }
+                return chunk;
+            }
+        };
+    }
+
     private <T> T withClientSession(Function<ClientSession, T> function) {
         ClientSession clientSession = transactionManager.findClientSession();
         if (clientSession != null) {
@@ -779,7 +832,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return new MongoEntityOperation<T>(ctx, persistentEntity, entity, false) {
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
-            final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
             Bson filter;
 
             @Override
@@ -792,9 +845,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                 if (QUERY_LOG.isDebugEnabled()) {
                     QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                 }
-                BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, mongoDatabase.getCodecRegistry());
-                bsonDocument.remove("_id");
-                UpdateResult updateResult = collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata));
+                UpdateResult updateResult = collection.replaceOne(ctx.clientSession, filter, entity, getReplaceOptions(ctx.annotationMetadata));
                 modifiedCount = updateResult.getModifiedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(1, (int) modifiedCount);
@@ -827,7 +878,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     }
                     updates.add(new UpdateOneModel<>(updateOne.getFilter(), updateOne.getUpdate(), updateOne.getOptions()));
                 }
-                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, updates);
+                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, updates, getBulkWriteOptions());
                 modifiedCount += bulkWriteResult.getModifiedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(updates.size(), (int) modifiedCount);
@@ -840,7 +891,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return new MongoEntitiesOperation<T>(ctx, persistentEntity, entities, false) {
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
-            final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
             Map<Data, Bson> filters;
 
             @Override
@@ -851,7 +902,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
             @Override
             protected void execute() throws RuntimeException {
-                List<ReplaceOneModel<BsonDocument>> replaces = new ArrayList<>(entities.size());
+                List<ReplaceOneModel<T>> replaces = new ArrayList<>(entities.size());
                 for (Data d : entities) {
                     if (d.vetoed) {
                         continue;
@@ -860,11 +911,9 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                    bsonDocument.remove("_id");
-                    replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
+                    replaces.add(new ReplaceOneModel<>(filter, d.entity, getReplaceOptions(ctx.annotationMetadata)));
                 }
-                BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, replaces);
+                BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, replaces, getBulkWriteOptions());
                 modifiedCount = bulkWriteResult.getModifiedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(replaces.size(), (int) modifiedCount);
@@ -949,7 +998,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     }
                     deletes.add(new DeleteOneModel<>(deleteOne.getFilter(), deleteOne.getOptions()));
                 }
-                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes);
+                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes, getBulkWriteOptions());
                 modifiedCount = bulkWriteResult.getDeletedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(deletes.size(), (int) modifiedCount);
@@ -1003,7 +1052,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            newAsyncExecutor()
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -1013,8 +1062,8 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
     }
 
     @NonNull
-    private ExecutorService newLocalThreadPool() {
-        this.executorService = Executors.newCachedThreadPool();
+    private ExecutorService newAsyncExecutor() {
+        this.executorService = AsyncExecutors.newExecutor(getApplicationContext(), executorService, null);
         return executorService;
     }
 
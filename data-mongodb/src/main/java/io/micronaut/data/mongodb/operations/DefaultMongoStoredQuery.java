@@ -30,11 +30,14 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
 import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimeAssociation;
@@ -53,7 +56,6 @@ import io.micronaut.data.runtime.query.internal.DefaultStoredQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
-import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -80,6 +82,8 @@ import java.util.stream.Collectors;
 final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E, R>, MongoStoredQuery<E, R, Dtb> {
 
     private static final BsonDocument EMPTY = new BsonDocument();
+    private static final MongoQueryBuilder CURSOR_QUERY_BUILDER = new MongoQueryBuilder();
+    private static final int MAX_CACHED_CURSOR_FILTERS = 64;
 
     private final StoredQuery<E, R> storedQuery;
     private final CodecRegistry codecRegistry;
@@ -93,6 +97,9 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
     private final AggregateData aggregateData;
     private final DeleteData deleteData;
     private final boolean isCount;
+    private final Map<Sort, BsonTemplate> cursorFilters = new ConcurrentLinkedHashMap.Builder<Sort, BsonTemplate>()
+            .maximumWeightedCapacity(MAX_CACHED_CURSOR_FILTERS)
+            .build();
 
     DefaultMongoStoredQuery(StoredQuery<E, R> storedQuery,
                             CodecRegistry codecRegistry,
@@ -285,109 +292,42 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
         return deleteData.getDeleteOne(entity);
     }
 
-    private boolean needsProcessing(Bson value) {
-        if (value == null) {
-            return false;
-        }
-        if (value instanceof BsonDocument) {
-            return needsProcessingValue(value.toBsonDocument());
-        }
-        throw new IllegalStateException("Unrecognized value: " + value);
-    }
-
-    private boolean needsProcessing(List<Bson> values) {
-        if (values == null) {
-            return false;
-        }
-        for (Bson value : values) {
-            if (needsProcessing(value)) {
-                return true;
-            }
+    @Override
+    public Bson getCursorFilter(CursoredPageable pageable) {
+        List<Object> cursor = pageable.getCursor();
+        if (cursor == null) {
+            return null;
         }
-        return false;
+        List<Sort.Order> orders = pageable.getOrderBy();
+        // The filter of the sort is compiled once, only the cursor values are bound for every page
+        BsonTemplate template = cursorFilters.computeIfAbsent(pageable.getSort(),
+                sort -> BsonTemplate.compile(BsonDocument.parse(CURSOR_QUERY_BUILDER.buildCursorFilter(persistentEntity, sort))));
+        return template.bind(index -> getCursorValue(orders.get(index), cursor.get(index)));
     }
 
-    private boolean needsProcessingValue(BsonValue value) {
-        if (value instanceof BsonDocument) {
-            BsonDocument bsonDocument = (BsonDocument) value;
-            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
-            if (queryParameterIndex != null) {
-                return true;
-            }
-            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
-                BsonValue bsonValue = entry.getValue();
-                if (needsProcessingValue(bsonValue)) {
-                    return true;
-                }
-            }
-            return false;
-        } else if (value instanceof BsonArray) {
-            BsonArray bsonArray = (BsonArray) value;
-            for (BsonValue bsonValue : bsonArray) {
-                if (needsProcessingValue(bsonValue)) {
-                    return true;
-                }
+    private BsonValue getCursorValue(Sort.Order order, @Nullable Object value) {
+        PersistentPropertyPath pp = persistentEntity.getPropertyPath(order.getProperty());
+        if (pp != null) {
+            RuntimePersistentProperty<?> persistentProperty = (RuntimePersistentProperty<?>) pp.getProperty();
+            value = convert(value, persistentProperty);
+            if (value instanceof String && persistentProperty.getOwner().getIdentity() == persistentProperty && persistentProperty.isGenerated()) {
+                return new BsonObjectId(new ObjectId((String) value));
             }
         }
-        return false;
+        return MongoUtils.toBsonValue(conversionService, value, codecRegistry);
     }
 
-    private Bson replaceQueryParameters(Bson value, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        if (value instanceof BsonDocument) {
-            return (BsonDocument) replaceQueryParametersInBsonValue(((BsonDocument) value).clone(), invocationContext, entity);
-        }
-        throw new IllegalStateException("Unrecognized value: " + value);
+    private Bson bind(BsonTemplate template, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
+        return template.bind(index -> getValue(index, getQueryBindings().get(index), invocationContext, persistentEntity, codecRegistry, entity));
     }
 
-    private <T> List<Bson> replaceQueryParametersInList(List<Bson> values, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        values = new ArrayList<>(values);
+    private List<Bson> bind(List<BsonTemplate> templates, List<Bson> values, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
+        List<Bson> newValues = new ArrayList<>(values.size());
         for (int i = 0; i < values.size(); i++) {
-            Bson value = values.get(i);
-            Bson newValue = replaceQueryParameters(value, invocationContext, entity);
-            if (value != newValue) {
-                values.set(i, newValue);
-            }
-        }
-        return values;
-    }
-
-    private BsonValue replaceQueryParametersInBsonValue(BsonValue value, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        if (value instanceof BsonDocument) {
-            BsonDocument bsonDocument = (BsonDocument) value;
-            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
-            if (queryParameterIndex != null) {
-                int index = queryParameterIndex.getValue();
-                return getValue(index, getQueryBindings().get(index), invocationContext, persistentEntity, codecRegistry, entity);
-            }
-            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
-                BsonValue bsonValue = entry.getValue();
-                BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
-                if (bsonValue != newValue) {
-                    entry.setValue(newValue);
-                }
-            }
-            return bsonDocument;
-        } else if (value instanceof BsonArray) {
-            BsonArray bsonArray = (BsonArray) value;
-            for (int i = 0; i < bsonArray.size(); i++) {
-                BsonValue bsonValue = bsonArray.get(i);
-                BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
-                if (bsonValue != newValue) {
-                    if (newValue.isNull()) {
-                        bsonArray.remove(i);
-                        i -= 1;
-                    } else if (newValue.isArray()) {
-                        bsonArray.remove(i);
-                        List<BsonValue> values = newValue.asArray().getValues();
-                        bsonArray.addAll(i, values);
-                        i += values.size() - 1;
-                    } else {
-                        bsonArray.set(i, newValue);
-                    }
-                }
-            }
+            BsonTemplate template = templates.get(i);
+            newValues.add(template == null ? values.get(i) : bind(template, invocationContext, entity));
         }
-        return value;
+        return newValues;
     }
 
     private <T> BsonValue getValue(int index,
@@ -567,7 +507,8 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
 
     private final class AggregateData extends CollationSupported {
         private final List<Bson> pipeline;
-        private final boolean pipelineNeedsProcessing;
+        @Nullable
+        private final List<BsonTemplate> pipelineTemplates;
         @Nullable
         private final MongoAggregationOptions options;
         private final int pipelineParameterIndex;
@@ -585,7 +526,7 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             this.pipeline = pipeline;
             this.pipelineParameterIndex = getParameterIndexByName(pipelineParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
-            this.pipelineNeedsProcessing = needsProcessing(pipeline);
+            this.pipelineTemplates = BsonTemplate.compile(pipeline);
             options = MongoOptionsUtils.buildAggregateOptions(storedQuery.getAnnotationMetadata()).orElse(null);
         }
 
@@ -606,7 +547,7 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             if (pipelineParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, pipelineParameterIndex);
             }
-            return pipelineNeedsProcessing ? replaceQueryParametersInList(this.pipeline, invocationContext, null) : this.pipeline;
+            return pipelineTemplates != null ? bind(pipelineTemplates, this.pipeline, invocationContext, null) : this.pipeline;
         }
 
         @Nullable
@@ -628,9 +569,11 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
 
     private final class UpdateData extends CollationSupported {
         private final Bson update;
-        private final boolean updateNeedsProcessing;
+        @Nullable
+        private final BsonTemplate updateTemplate;
         private final Bson filter;
-        private final boolean filterNeedsProcessing;
+        @Nullable
+        private final BsonTemplate filterTemplate;
         @Nullable
         private final UpdateOptions options;
         private final int filterParameterIndex;
@@ -639,9 +582,9 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
 
         private UpdateData(Bson update, Bson filter, String filterParameter, String updateParameter, String optionsParameter) {
             this.update = update;
-            this.updateNeedsProcessing = needsProcessing(update);
+            this.updateTemplate = BsonTemplate.compile(update);
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
+            this.filterTemplate = BsonTemplate.compile(filter);
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.updateParameterIndex = getParameterIndexByName(updateParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
@@ -694,13 +637,18 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
 
         private Bson getUpdate(InvocationContext<?, ?> invocationContext, E entity) {
             Bson update = this.update;
+            BsonTemplate updateTemplate = this.updateTemplate;
             if (updateParameterIndex != -1) {
                 update = getParameterAtIndex(invocationContext, updateParameterIndex);
+                if (updateTemplate != null) {
+                    // The update is provided at the runtime and needs to be compiled
+                    updateTemplate = BsonTemplate.compile(update);
+                }
             }
             if (update == null) {
                 throw new IllegalStateException("Update query is not provided!");
             }
-            update = updateNeedsProcessing ? replaceQueryParameters(update, invocationContext, entity) : update;
+            update = updateTemplate != null ? bind(updateTemplate, invocationContext, entity) : update;
             if (update == null) {
                 throw new IllegalStateException("Update query is not provided!");
             }
@@ -738,17 +686,20 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             if (filterParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, filterParameterIndex);
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return filterTemplate != null ? bind(filterTemplate, invocationContext, entity) : filter;
         }
     }
 
     private final class FindData extends CollationSupported {
         private final Bson filter;
-        private final boolean filterNeedsProcessing;
+        @Nullable
+        private final BsonTemplate filterTemplate;
         private final Bson sort;
-        private final boolean sortNeedsProcessing;
+        @Nullable
+        private final BsonTemplate sortTemplate;
         private final Bson projection;
-        private final boolean projectionNeedsProcessing;
+        @Nullable
+        private final BsonTemplate projectionTemplate;
         @Nullable
         private final MongoFindOptions options;
         private final int filterParameterIndex;
@@ -766,11 +717,11 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
             sort = storedQuery.getAnnotationMetadata().stringValue(MongoSort.class).map(BsonDocument::parse).orElse(null);
-            sortNeedsProcessing = needsProcessing(sort);
+            sortTemplate = BsonTemplate.compile(sort);
             projection = storedQuery.getAnnotationMetadata().stringValue(MongoProjection.class).map(BsonDocument::parse).orElse(null);
-            projectionNeedsProcessing = needsProcessing(projection);
+            projectionTemplate = BsonTemplate.compile(projection);
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
+            this.filterTemplate = BsonTemplate.compile(filter);
             options = MongoOptionsUtils.buildFindOptions(storedQuery.getAnnotationMetadata()).orElse(null);
         }
 
@@ -821,28 +772,29 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             if (filter == null) {
                 return null;
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return filterTemplate != null ? bind(filterTemplate, invocationContext, entity) : filter;
         }
 
         private Bson getSort(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
             if (sort == null) {
                 return null;
             }
-            return sortNeedsProcessing ? replaceQueryParameters(sort, invocationContext, entity) : sort;
+            return sortTemplate != null ? bind(sortTemplate, invocationContext, entity) : sort;
         }
 
         private Bson getProjection(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
             if (projection == null) {
                 return null;
             }
-            return projectionNeedsProcessing ? replaceQueryParameters(projection, invocationContext, entity) : projection;
+            return projectionTemplate != null ? bind(projectionTemplate, invocationContext, entity) : projection;
         }
 
     }
 
     private final class DeleteData extends CollationSupported {
         private final Bson filter;
-        private final boolean filterNeedsProcessing;
+        @Nullable
+        private final BsonTemplate filterTemplate;
         @Nullable
         private final DeleteOptions options;
         private final int filterParameterIndex;
@@ -850,7 +802,7 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
 
         private DeleteData(Bson filter, String filterParameter, String optionsParameter) {
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
+            this.filterTemplate = BsonTemplate.compile(filter);
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
             options = MongoOptionsUtils.buildDeleteOptions(storedQuery.getAnnotationMetadata(), false).orElse(null);
@@ -917,19 +869,20 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             if (filterParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, filterParameterIndex);
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return filterTemplate != null ? bind(filterTemplate, invocationContext, entity) : filter;
         }
     }
 
     private abstract class CollationSupported {
         private final Bson collationAsBson;
-        private final boolean collationNeedsProcessing;
+        @Nullable
+        private final BsonTemplate collationTemplate;
         private final Collation collation;
 
         protected CollationSupported() {
             collationAsBson = storedQuery.getAnnotationMetadata().stringValue(MongoCollation.class).map(BsonDocument::parse).orElse(null);
-            collationNeedsProcessing = needsProcessing(collationAsBson);
-            collation = collationAsBson == null || collationNeedsProcessing ? null : MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.toBsonDocument());
+            collationTemplate = BsonTemplate.compile(collationAsBson);
+            collation = collationAsBson == null || collationTemplate != null ? null : MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.toBsonDocument());
         }
 
         protected Collation getCollation(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
@@ -939,7 +892,7 @@ final class DefaultMongoStoredQuery<E, R, Dtb> implements DelegateStoredQuery<E,
             if (collationAsBson == null) {
                 return null;
             }
-            Bson collationAsBson = collationNeedsProcessing ? replaceQueryParameters(this.collationAsBson, invocationContext, entity) : this.collationAsBson;
+            Bson collationAsBson = collationTemplate != null ? bind(collationTemplate, invocationContext, entity) : this.collationAsBson;
             return MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.toBsonDocument());
         }
     }
@@ -75,7 +75,6 @@ import io.micronaut.transaction.reactive.ReactiveTransactionOperations;
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
 import io.micronaut.transaction.reactive.ReactorReactiveTransactionOperations;
 import org.bson.BsonDocument;
-import org.bson.BsonDocumentWrapper;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
@@ -95,6 +94,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -242,7 +242,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     public <T> Flux<T> persistAll(InsertBatchOperation<T> operation) {
         return withClientSessionMany(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
-            return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
+            RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(operation.getRootEntity());
+            return inChunks(ctx, operation, (chunkCtx, chunk) -> persistBatch(chunkCtx, chunk, persistentEntity, null));
         });
     }
 
@@ -269,11 +270,14 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
-                MongoReactiveEntitiesOperation<T> op = createMongoUpdateOneInBulkOperation(ctx, mongoStoredQuery.getRuntimePersistentEntity(), operation, mongoStoredQuery);
-                op.update();
-                return op.getEntities();
+                return inChunks(ctx, operation, (chunkCtx, chunk) -> {
+                    MongoReactiveEntitiesOperation<T> op = createMongoUpdateOneInBulkOperation(chunkCtx, mongoStoredQuery.getRuntimePersistentEntity(), chunk, mongoStoredQuery);
+                    op.update();
+                    return op.getEntities();
+                });
             }
-            return updateBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()));
+            RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(operation.getRootEntity());
+            return inChunks(ctx, operation, (chunkCtx, chunk) -> updateBatch(chunkCtx, chunk, persistentEntity));
         });
     }
 
@@ -658,6 +662,34 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         return op.getEntities();
     }
 
+    /**
+     * Executes the batch operation in chunks of the bulk write chunk size, the values are buffered one chunk at a time.
+     * The unordered chunks written outside of a transaction can be written concurrently, each with its own session.
+     *
+     * @param ctx            The operation context
+     * @param values         The values
+     * @param chunkOperation The operation of a chunk
+     * @param <T>            The entity type
+     * @return The entities
+     */
+    private <T> Flux<T> inChunks(MongoOperationContext ctx,
+                                 Iterable<T> values,
+                                 BiFunction<MongoOperationContext, Iterable<T>, Flux<T>> chunkOperation) {
+        if (bulkWriteChunkSize == 0) {
+            return chunkOperation.apply(ctx, values);
+        }
+        Flux<List<T>> chunks = Flux.fromIterable(values).buffer(bulkWriteChunkSize);
+        if (isParallelBulkWrite() && !ctx.clientSession.hasActiveTransaction()) {
+            return chunks.flatMapSequential(chunk -> Flux.usingWhen(mongoClient.startSession(),
+                cs -> chunkOperation.apply(new MongoOperationContext(cs, ctx.repositoryType, ctx.annotationMetadata), chunk),
+                cs -> {
+                    cs.close();
+                    return Mono.empty();
+                }), bulkWriteParallelism, 1);
+        }
+        return chunks.concatMap(chunk -> chunkOperation.apply(ctx, chunk), 1);
+    }
+
     private <T, R> MongoCollection<R> getCollection(MongoDatabase database, RuntimePersistentEntity<T> persistentEntity, Class<R> resultType) {
         return database.getCollection(persistentEntity.getPersistedName(), resultType);
     }
@@ -779,7 +811,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         return new MongoReactiveEntityOperation<T>(ctx, persistentEntity, entity, false) {
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
-            final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
 
             @Override
             protected void collectAutoPopulatedPreviousValues() {
@@ -796,9 +828,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                    bsonDocument.remove("_id");
-                    return Mono.from(collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata))).map(updateResult -> {
+                    return Mono.from(collection.replaceOne(ctx.clientSession, filter, d.entity, getReplaceOptions(ctx.annotationMetadata))).map(updateResult -> {
                         d.rowsUpdated = updateResult.getModifiedCount();
                         if (persistentEntity.getVersion() != null) {
                             checkOptimisticLocking(1, (int) d.rowsUpdated);
@@ -816,7 +846,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         return new MongoReactiveEntitiesOperation<T>(ctx, persistentEntity, entities, false) {
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
-            final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
 
             @Override
             protected void collectAutoPopulatedPreviousValues() {
@@ -832,7 +862,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             @Override
             protected void execute() throws RuntimeException {
                 Mono<Tuple2<List<Data>, Long>> entitiesWithRowsUpdated = entities.collectList().flatMap(data -> {
-                    List<ReplaceOneModel<BsonDocument>> replaces = new ArrayList<>(data.size());
+                    List<ReplaceOneModel<T>> replaces = new ArrayList<>(data.size());
                     for (Data d : data) {
                         if (d.vetoed) {
                             continue;
@@ -841,11 +871,9 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         if (QUERY_LOG.isDebugEnabled()) {
                             QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                         }
-                        BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                        bsonDocument.remove("_id");
-                        replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
+                        replaces.add(new ReplaceOneModel<>(filter, d.entity, getReplaceOptions(ctx.annotationMetadata)));
                     }
-                    return Mono.from(collection.bulkWrite(ctx.clientSession, replaces)).map(bulkWriteResult -> {
+                    return Mono.from(collection.bulkWrite(ctx.clientSession, replaces, getBulkWriteOptions())).map(bulkWriteResult -> {
                         if (persistentEntity.getVersion() != null) {
                             checkOptimisticLocking(replaces.size(), bulkWriteResult.getModifiedCount());
                         }
@@ -875,7 +903,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         MongoUpdate updateOne = storedQuery.getUpdateOne(d.entity);
                         updates.add(new UpdateOneModel<>(updateOne.getFilter(), updateOne.getUpdate(), updateOne.getOptions()));
                     }
-                    Mono<Long> modifiedCount = Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, updates)).map(result -> {
+                    Mono<Long> modifiedCount = Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, updates, getBulkWriteOptions())).map(result -> {
                         if (storedQuery.isOptimisticLock()) {
                             checkOptimisticLocking(updates.size(), result.getModifiedCount());
                         }
@@ -989,7 +1017,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         MongoDelete deleteOne = storedQuery.getDeleteOne(d.entity);
                         deletes.add(new DeleteOneModel<>(deleteOne.getFilter(), deleteOne.getOptions()));
                     }
-                    return Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes)).map(bulkWriteResult -> {
+                    return Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes, getBulkWriteOptions())).map(bulkWriteResult -> {
                         if (storedQuery.isOptimisticLock()) {
                             checkOptimisticLocking(deletes.size(), bulkWriteResult.getDeletedCount());
                         }
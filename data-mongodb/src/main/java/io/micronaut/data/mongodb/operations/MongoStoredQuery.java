@@ -17,8 +17,11 @@ package io.micronaut.data.mongodb.operations;
 
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.StoredQuery;
+import org.bson.conversions.Bson;
 
 /**
  * MongoDB's {@link StoredQuery}.
@@ -83,4 +86,12 @@ public interface MongoStoredQuery<E, R, Dtb> extends StoredQuery<E, R> {
      */
     MongoDelete getDeleteOne(E entity);
 
+
+    /**
+     * @param pageable The cursored pageable
+     * @return The filter selecting the documents that follow the cursor or null if the pageable doesn't have a cursor
+     * @since 3.6.0
+     */
+    @Nullable
+    Bson getCursorFilter(CursoredPageable pageable);
 }
@@ -0,0 +1,62 @@
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoBulkWriteChunkSpec extends Specification implements MongoTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            'micronaut.data.mongodb.bulk-write-chunk-size': '2',
+            'micronaut.data.mongodb.bulk-write-ordered'   : 'false'
+    ])
+
+    @Shared
+    ChunkedItemRepository repository = applicationContext.getBean(ChunkedItemRepository)
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test save and update all in chunks"() {
+        given:
+        Iterable<ChunkedItem> items = { (1..5).collect { new ChunkedItem(name: "item" + it) }.iterator() } as Iterable<ChunkedItem>
+
+        when:
+        def saved = repository.saveAll(items)
+
+        then:
+        saved.size() == 5
+        saved.every { it.id != null }
+        saved*.name == ["item1", "item2", "item3", "item4", "item5"]
+        repository.count() == 5
+
+        when:
+        saved.each { it.name = it.name.toUpperCase() }
+        def updated = repository.updateAll(saved)
+
+        then:
+        updated.size() == 5
+        repository.findAll()*.name.sort() == ["ITEM1", "ITEM2", "ITEM3", "ITEM4", "ITEM5"]
+    }
+}
+
+@MongoRepository
+interface ChunkedItemRepository extends CrudRepository<ChunkedItem, String> {
+}
+
+@MappedEntity
+class ChunkedItem {
+    @Id
+    @GeneratedValue
+    String id
+    String name
+}
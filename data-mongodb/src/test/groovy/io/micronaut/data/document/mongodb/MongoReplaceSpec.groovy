@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.convert.ConversionContext
+import io.micronaut.data.annotation.Embeddable
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.MappedProperty
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.model.runtime.convert.AttributeConverter
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+@MicronautTest
+class MongoReplaceSpec extends Specification implements MongoTestPropertyProvider {
+
+    @Inject
+    ParcelRepository parcelRepository
+
+    def cleanup() {
+        parcelRepository.deleteAll()
+    }
+
+    void "test replace an entity with embedded and converted properties"() {
+        given:
+        def parcel = parcelRepository.save(new Parcel(
+                label: "Books",
+                weight: new Weight(grams: 1200),
+                destination: new Destination(street: "High St.", zipCode: "7896")
+        ))
+
+        when:"The entity is replaced"
+        parcel.label = "Old books"
+        parcel.weight = new Weight(grams: 1500)
+        parcel.destination = new Destination(street: "Smith St.", zipCode: "1234")
+        parcel = parcelRepository.update(parcel)
+        def found = parcelRepository.findById(parcel.id).get()
+
+        then:"The embedded and converted properties are read back"
+        parcel.version == 1
+        found.id == parcel.id
+        found.version == 1
+        found.label == "Old books"
+        found.weight.grams == 1500
+        found.destination.street == "Smith St."
+        found.destination.zipCode == "1234"
+        found.returnAddress == null
+
+        when:"The nullable embedded property is set"
+        found.returnAddress = new Destination(street: "John St.", zipCode: "4567")
+        parcelRepository.update(found)
+        found = parcelRepository.findById(parcel.id).get()
+
+        then:
+        found.version == 2
+        found.returnAddress.street == "John St."
+        found.destination.street == "Smith St."
+        found.weight.grams == 1500
+
+        when:"A stale version is replaced"
+        parcelRepository.update(parcel)
+
+        then:
+        thrown(OptimisticLockException)
+        parcelRepository.findById(parcel.id).get().version == 2
+    }
+
+    void "test replace many entities with embedded and converted properties"() {
+        given:
+        def parcels = parcelRepository.saveAll([
+                new Parcel(label: "A", weight: new Weight(grams: 100), destination: new Destination(street: "A St.", zipCode: "1")),
+                new Parcel(label: "B", weight: new Weight(grams: 200), destination: new Destination(street: "B St.", zipCode: "2"))
+        ])
+
+        when:
+        parcels.each {
+            it.weight = new Weight(grams: it.weight.grams + 1)
+            it.destination = new Destination(street: it.destination.street, zipCode: it.destination.zipCode + "0")
+        }
+        parcelRepository.updateAll(parcels)
+        def found = parcelRepository.findAll().sort { it.label }
+
+        then:
+        found*.id == parcels*.id
+        found*.version == [1, 1]
+        found*.weight*.grams == [101, 201]
+        found*.destination*.street == ["A St.", "B St."]
+        found*.destination*.zipCode == ["10", "20"]
+    }
+}
+
+@MongoRepository
+interface ParcelRepository extends CrudRepository<Parcel, String> {
+}
+
+@MappedEntity
+class Parcel {
+
+    @Id
+    @GeneratedValue
+    String id
+    @Version
+    Long version
+    String label
+    @MappedProperty(converter = WeightAttributeConverter)
+    Weight weight
+    @Relation(Relation.Kind.EMBEDDED)
+    Destination destination
+    @Nullable
+    @Relation(Relation.Kind.EMBEDDED)
+    Destination returnAddress
+}
+
+@Embeddable
+class Destination {
+
+    String street
+    String zipCode
+}
+
+@Introspected
+class Weight {
+
+    int grams
+}
+
+@Singleton
+class WeightAttributeConverter implements AttributeConverter<Weight, Integer> {
+
+    @Override
+    Integer convertToPersistedValue(Weight weight, ConversionContext context) {
+        return weight == null ? null : weight.grams
+    }
+
+    @Override
+    Weight convertToEntityValue(Integer value, ConversionContext context) {
+        return value == null ? null : new Weight(grams: value)
+    }
+}
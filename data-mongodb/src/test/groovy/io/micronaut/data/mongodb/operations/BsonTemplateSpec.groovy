@@ -0,0 +1,53 @@
+package io.micronaut.data.mongodb.operations
+
+import org.bson.BsonArray
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonNull
+import org.bson.BsonString
+import spock.lang.Specification
+
+class BsonTemplateSpec extends Specification {
+
+    void "test document without parameters is not compiled"() {
+        expect:
+            BsonTemplate.compile(BsonDocument.parse('{name: "A", age: {$gt: 10}}')) == null
+            BsonTemplate.compile((BsonDocument) null) == null
+    }
+
+    void "test parameters are bound and the template is not modified"() {
+        given:
+            def document = BsonDocument.parse('{$and: [{name: {$eq: {$mn_qp: 0}}}, {age: {$gt: {$mn_qp: 1}}}], other: {x: 1}}')
+            def template = BsonTemplate.compile(document)
+        when:
+            def first = template.bind(index -> index == 0 ? new BsonString("A") : new BsonInt32(10)).toBsonDocument()
+            def second = template.bind(index -> index == 0 ? new BsonString("B") : new BsonInt32(20)).toBsonDocument()
+        then:
+            first == BsonDocument.parse('{$and: [{name: {$eq: "A"}}, {age: {$gt: 10}}], other: {x: 1}}')
+            second == BsonDocument.parse('{$and: [{name: {$eq: "B"}}, {age: {$gt: 20}}], other: {x: 1}}')
+            document == BsonDocument.parse('{$and: [{name: {$eq: {$mn_qp: 0}}}, {age: {$gt: {$mn_qp: 1}}}], other: {x: 1}}')
+        and: "Nodes without parameters are shared"
+            first.get("other").is(document.get("other"))
+    }
+
+    void "test array parameters are expanded and null values are removed"() {
+        given:
+            def template = BsonTemplate.compile(BsonDocument.parse('{name: {$in: [{$mn_qp: 0}, {$mn_qp: 1}, "C"]}}'))
+        when:
+            def result = template.bind(index -> index == 0 ? new BsonArray([new BsonString("A"), new BsonString("B")]) : BsonNull.VALUE).toBsonDocument()
+        then:
+            result == BsonDocument.parse('{name: {$in: ["A", "B", "C"]}}')
+    }
+
+    void "test pipeline templates"() {
+        given:
+            def pipeline = [BsonDocument.parse('{$match: {name: {$mn_qp: 0}}}'), BsonDocument.parse('{$limit: 10}')]
+        when:
+            def templates = BsonTemplate.compile(pipeline)
+        then:
+            templates.size() == 2
+            templates[0] != null
+            templates[1] == null
+            BsonTemplate.compile([BsonDocument.parse('{$limit: 10}')]) == null
+    }
+}
@@ -389,12 +389,24 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
             annotationBuilder.member(DataMethod.META_MEMBER_INTERCEPTOR, new AnnotationClassValue<>(runtimeInterceptor.getName()));
 
             if (queryResult != null) {
+                // The keyset pagination predicate and the window count column are added to the query parts
+                boolean pageableSqlQuery = queryEncoder instanceof SqlQueryBuilder && methodMatchContext.hasParameterInRole(TypeRole.PAGEABLE);
+                int[] whereClauseEnd = pageableSqlQuery ? queryResult.getWhereClauseEnd() : null;
+                int[] selectionEnd = pageableSqlQuery ? queryResult.getSelectionEnd() : null;
                 if (finalParameterBinding.stream().anyMatch(QueryParameterBinding::isExpandable)) {
                     annotationBuilder.member(DataMethod.META_MEMBER_EXPANDABLE_QUERY, queryResult.getQueryParts().toArray(new String[0]));
                     QueryResult preparedCount = methodInfo.getCountQueryResult();
                     if (preparedCount != null) {
                         annotationBuilder.member(DataMethod.META_MEMBER_EXPANDABLE_COUNT_QUERY, preparedCount.getQueryParts().toArray(new String[0]));
                     }
+                } else if (whereClauseEnd != null || selectionEnd != null) {
+                    annotationBuilder.member(DataMethod.META_MEMBER_EXPANDABLE_QUERY, queryResult.getQueryParts().toArray(new String[0]));
+                }
+                if (whereClauseEnd != null) {
+                    annotationBuilder.member(DataMethod.META_MEMBER_WHERE_CLAUSE_END, whereClauseEnd);
+                }
+                if (selectionEnd != null) {
+                    annotationBuilder.member(DataMethod.META_MEMBER_SELECTION_END, selectionEnd);
                 }
 
                 int max = queryResult.getMax();
@@ -405,6 +417,10 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                 if (offset > 0) {
                     annotationBuilder.member(DataMethod.META_MEMBER_PAGE_INDEX, offset);
                 }
+                List<String> sortProperties = methodInfo.getSortProperties();
+                if (!sortProperties.isEmpty()) {
+                    annotationBuilder.member(DataMethod.META_MEMBER_SORT_PROPERTIES, sortProperties.toArray(new String[0]));
+                }
             }
 
             Arrays.stream(parameters)
@@ -23,6 +23,7 @@ import io.micronaut.inject.ast.TypedElement;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -48,6 +49,7 @@ public final class MethodMatchInfo {
     private QueryResult countQueryResult;
     private boolean isRawQuery;
     private boolean encodeEntityParameters;
+    private List<String> sortProperties = Collections.emptyList();
 
     /**
      * Creates a method info.
@@ -159,6 +161,11 @@ public final class MethodMatchInfo {
         return this;
     }
 
+    public MethodMatchInfo sortProperties(List<String> sortProperties) {
+        this.sortProperties = sortProperties;
+        return this;
+    }
+
     public ClassElement getInterceptor() {
         return interceptor;
     }
@@ -179,4 +186,8 @@ public final class MethodMatchInfo {
         return encodeEntityParameters;
     }
 
+    public List<String> getSortProperties() {
+        return sortProperties;
+    }
+
 }
@@ -15,10 +15,12 @@
  */
 package io.micronaut.data.processor.visitors.finders;
 
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.intercept.DataInterceptor;
 import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.processor.visitors.AnnotationMetadataHierarchy;
 import io.micronaut.data.processor.visitors.MatchContext;
 import io.micronaut.data.processor.visitors.MatchFailedException;
@@ -52,6 +54,16 @@ public class SaveEntityMethodMatcher extends AbstractPrefixPatternMethodMatcher
         super(PREFIXES);
     }
 
+    /**
+     * The constructor with custom prefixes.
+     *
+     * @param prefixes The prefixes
+     * @since 3.6.0
+     */
+    protected SaveEntityMethodMatcher(List<String> prefixes) {
+        super(prefixes);
+    }
+
     @Override
     protected MethodMatch match(MethodMatchContext matchContext, java.util.regex.Matcher matcher) {
         ParameterElement[] parameters = matchContext.getParameters();
@@ -83,7 +95,7 @@ public class SaveEntityMethodMatcher extends AbstractPrefixPatternMethodMatcher
                     methodMatchInfo
                             .encodeEntityParameters(true)
                             .queryResult(
-                                    mc.getQueryBuilder().buildInsert(annotationMetadataHierarchy, mc.getRootEntity())
+                                    buildQuery(mc, annotationMetadataHierarchy)
                             );
                 }
                 if (entitiesParameter != null) {
@@ -98,6 +110,18 @@ public class SaveEntityMethodMatcher extends AbstractPrefixPatternMethodMatcher
         return null;
     }
 
+    /**
+     * Builds the query of the save method.
+     *
+     * @param matchContext       The match context
+     * @param annotationMetadata The annotation metadata
+     * @return The query result
+     * @since 3.6.0
+     */
+    protected QueryResult buildQuery(MethodMatchContext matchContext, AnnotationMetadata annotationMetadata) {
+        return matchContext.getQueryBuilder().buildInsert(annotationMetadata, matchContext.getRootEntity());
+    }
+
     /**
      * Is the return type valid for saving an entity.
      *
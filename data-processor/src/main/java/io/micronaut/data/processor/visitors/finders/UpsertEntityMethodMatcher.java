@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors.finders;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.data.model.query.builder.QueryResult;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An upsert method for inserting or updating a single entity or multiple entities.
+ * The method is executed as an insert with the dialect specific upsert statement.
+ *
+ * @since 3.6.0
+ */
+public class UpsertEntityMethodMatcher extends SaveEntityMethodMatcher {
+
+    public static final List<String> PREFIXES = Collections.singletonList("upsert");
+
+    /**
+     * The default constructor.
+     */
+    public UpsertEntityMethodMatcher() {
+        super(PREFIXES);
+    }
+
+    @Override
+    protected MethodMatch match(MethodMatchContext matchContext, java.util.regex.Matcher matcher) {
+        MethodMatch methodMatch = super.match(matchContext, matcher);
+        if (methodMatch == null) {
+            return null;
+        }
+        return mc -> {
+            if (mc.supportsImplicitQueries() || !(mc.getQueryBuilder() instanceof SqlQueryBuilder)) {
+                throw new MatchFailedException("Upsert methods are only supported by SQL repositories", mc.getMethodElement());
+            }
+            return methodMatch.buildMatchInfo(mc);
+        };
+    }
+
+    @Override
+    protected QueryResult buildQuery(MethodMatchContext matchContext, AnnotationMetadata annotationMetadata) {
+        try {
+            return ((SqlQueryBuilder) matchContext.getQueryBuilder()).buildUpsert(annotationMetadata, matchContext.getRootEntity());
+        } catch (IllegalStateException e) {
+            throw new MatchFailedException(e.getMessage(), matchContext.getMethodElement());
+        }
+    }
+
+}
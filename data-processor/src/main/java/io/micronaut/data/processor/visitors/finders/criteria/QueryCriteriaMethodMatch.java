@@ -24,6 +24,7 @@ import io.micronaut.data.annotation.MappedEntity;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.intercept.DataInterceptor;
 import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaBuilder;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot;
@@ -258,7 +259,8 @@ public class QueryCriteriaMethodMatch extends AbstractCriteriaMethodMatch {
                 .dto(isDto)
                 .optimisticLock(optimisticLock)
                 .queryResult(queryResult)
-                .countQueryResult(countQueryResult);
+                .countQueryResult(countQueryResult)
+                .sortProperties(queryModel.getSort().getOrderBy().stream().map(Sort.Order::getProperty).collect(Collectors.toList()));
     }
 
     private boolean isDtoType(ClassElement classElement) {
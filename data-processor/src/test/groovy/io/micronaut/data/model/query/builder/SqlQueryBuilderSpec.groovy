@@ -19,6 +19,7 @@ import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 import io.micronaut.core.annotation.AnnotationMetadata
 import io.micronaut.data.annotation.Join
 import io.micronaut.data.model.Association
+import io.micronaut.data.model.DataType
 import io.micronaut.data.model.PersistentEntity
 import io.micronaut.data.model.Sort
 import io.micronaut.data.model.entities.Bike
@@ -187,6 +188,106 @@ interface MyRepository {
         Person | 'desc'    | ["name", "someId"] | 'person_.name DESC,person_.some_id DESC'
     }
 
+    @Unroll
+    void "test encode cursor predicate for #dialect and #directions"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        Sort sort = Sort.of([Sort.Order."${directions[0]}"("name"), Sort.Order."${directions[1]}"("id")])
+        SqlQueryBuilder encoder = new SqlQueryBuilder(dialect)
+        QueryResult encodedQuery = encoder.buildCursorPredicate(entity, sort, 3)
+
+        expect:
+        encodedQuery.query == statement
+        encodedQuery.parameterBindings*.parameterIndex == orderIndexes
+        encodedQuery.parameterBindings*.key == keys
+        encodedQuery.parameterBindings.collect { it.propertyPath.join(".") } == orderIndexes.collect { it == 0 ? "name" : "id" }
+
+        where:
+        dialect          | directions       | statement                                                       | orderIndexes | keys
+        Dialect.H2       | ['asc', 'asc']   | '((person_.name,person_.id) > (?,?))'                           | [0, 1]       | ["3", "4"]
+        Dialect.POSTGRES | ['desc', 'desc'] | '((person_.name,person_.id) < (?,?))'                           | [0, 1]       | ["3", "4"]
+        Dialect.H2       | ['asc', 'desc']  | '((person_.name > ?) OR (person_.name = ? AND person_.id < ?))' | [0, 0, 1]    | ["3", "4", "5"]
+        Dialect.ORACLE   | ['asc', 'asc']   | '((person_.name > ?) OR (person_.name = ? AND person_.id > ?))' | [0, 0, 1]    | ["3", "4", "5"]
+    }
+
+    void "test build query records the end of the where clause"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        SqlQueryBuilder encoder = new SqlQueryBuilder(Dialect.H2)
+
+        when:
+        QueryResult withWhere = encoder.buildQuery(QueryModel.from(entity).eq("name", new QueryParameter("name")).sort(Sort.of(Sort.Order.asc("name"))))
+        QueryResult withoutWhere = encoder.buildQuery(QueryModel.from(entity).sort(Sort.of(Sort.Order.asc("name"))))
+        String whereEnd = withWhere.queryParts[withWhere.whereClauseEnd[0]].substring(withWhere.whereClauseEnd[1])
+        String fromEnd = withoutWhere.queryParts[withoutWhere.whereClauseEnd[0]].substring(withoutWhere.whereClauseEnd[1])
+
+        then:
+        withWhere.whereClauseEnd[0] == 1
+        withWhere.whereClauseEnd[2] == 1
+        whereEnd == ' ORDER BY person_.name ASC'
+        withoutWhere.whereClauseEnd[0] == 0
+        withoutWhere.whereClauseEnd[2] == 0
+        fromEnd == ' ORDER BY person_.name ASC'
+    }
+
+    @Unroll
+    void "test encode parameterized pagination for #dialect"() {
+        given:
+        SqlQueryBuilder encoder = new SqlQueryBuilder(dialect)
+        QueryResult encodedQuery = encoder.buildPagination(3)
+
+        expect:
+        encodedQuery.query == statement
+        encodedQuery.parameterBindings*.key == ["3", "4"]
+        encodedQuery.parameterBindings*.dataType == dataTypes
+
+        where:
+        dialect            | statement                                     | dataTypes
+        Dialect.H2         | ' LIMIT ?,?'                                  | [DataType.LONG, DataType.INTEGER]
+        Dialect.MYSQL      | ' LIMIT ?,?'                                  | [DataType.LONG, DataType.INTEGER]
+        Dialect.POSTGRES   | ' LIMIT ? OFFSET ?'                           | [DataType.INTEGER, DataType.LONG]
+        Dialect.SQL_SERVER | ' OFFSET ? ROWS FETCH NEXT ? ROWS ONLY '      | [DataType.LONG, DataType.INTEGER]
+        Dialect.ORACLE     | ' OFFSET ? ROWS FETCH NEXT ? ROWS ONLY '      | [DataType.LONG, DataType.INTEGER]
+    }
+
+    void "test build query records the end of the selected columns"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        SqlQueryBuilder encoder = new SqlQueryBuilder(Dialect.H2)
+
+        when:
+        QueryResult withWhere = encoder.buildQuery(QueryModel.from(entity).eq("name", new QueryParameter("name")))
+        QueryModel projectedModel = QueryModel.from(entity).eq("name", new QueryParameter("name"))
+        projectedModel.projections().property("name")
+        QueryResult projected = encoder.buildQuery(projectedModel)
+        QueryModel distinctModel = QueryModel.from(entity)
+        distinctModel.projections().distinct("name")
+        QueryResult distinct = encoder.buildQuery(distinctModel)
+        QueryModel forUpdateModel = QueryModel.from(entity)
+        forUpdateModel.forUpdate()
+        QueryResult forUpdate = encoder.buildQuery(forUpdateModel)
+
+        then:
+        withWhere.selectionEnd[0] == 0
+        withWhere.queryParts[0].substring(withWhere.selectionEnd[1]).startsWith(' FROM ')
+        projected.queryParts[0].substring(0, projected.selectionEnd[1]) ==~ /SELECT person_\."?name"?/
+        distinct.selectionEnd == null
+        forUpdate.selectionEnd == null
+    }
+
+    @Unroll
+    void "test build window count column for #dialect"() {
+        expect:
+        new SqlQueryBuilder(dialect).buildWindowCountColumn() == column
+
+        where:
+        dialect          | column
+        Dialect.H2       | ',COUNT(*) OVER() AS total_size_'
+        Dialect.POSTGRES | ',COUNT(*) OVER() AS total_size_'
+        Dialect.ORACLE   | ',COUNT(*) OVER() AS total_size_'
+        Dialect.MYSQL    | null
+    }
+
     void "test encode insert statement"() {
         given:
         PersistentEntity entity = new RuntimePersistentEntity(Person)
@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.processor.sql
 
+import io.micronaut.core.annotation.AnnotationMetadata
 import io.micronaut.data.model.DataType
 import io.micronaut.data.model.entities.Person
 import io.micronaut.data.model.query.builder.sql.Dialect
@@ -135,6 +136,153 @@ class Test {
         Dialect.SQL_SERVER | 'INSERT INTO [test] ([name]) VALUES (?)'
     }
 
+    @Unroll
+    void "test build multi-row insert for dialect - #dialect"() {
+        given:
+        ClassElement element = buildClassElement("""
+package test;
+import io.micronaut.data.annotation.*;
+
+@MappedEntity
+class Test {
+    @Id
+    @GeneratedValue(GeneratedValue.Type.IDENTITY)
+    private Long id;
+    private String name;
+    private int age;
+
+    public Test(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
+
+""")
+        SqlQueryBuilder builder = new SqlQueryBuilder(dialect)
+        def entity = new SourcePersistentEntity(element, {})
+        def result = builder.buildInsert(AnnotationMetadata.EMPTY_METADATA, entity, 3)
+
+        expect:
+        result.query == query
+        result.parameterBindings*.key == ['1', '2', '3', '4', '5', '6']
+        result.parameterBindings*.propertyPath*.join('.') == ['name', 'age', 'name', 'age', 'name', 'age']
+        builder.buildInsert(AnnotationMetadata.EMPTY_METADATA, entity, 1).query == builder.buildInsert(AnnotationMetadata.EMPTY_METADATA, entity).query
+        builder.getMaxInsertRows(entity) == maxRows
+
+        where:
+        dialect            | maxRows | query
+        Dialect.MYSQL      | 32767   | 'INSERT INTO `test` (`name`,`age`) VALUES (?,?),(?,?),(?,?)'
+        Dialect.H2         | 16383   | 'INSERT INTO `test` (`name`,`age`) VALUES (?,?),(?,?),(?,?)'
+        Dialect.POSTGRES   | 16383   | 'INSERT INTO "test" ("name","age") VALUES (?,?),(?,?),(?,?)'
+        Dialect.SQL_SERVER | 1000    | 'INSERT INTO [test] ([name],[age]) VALUES (?,?),(?,?),(?,?)'
+    }
+
+    void "test multi-row insert is not supported by Oracle"() {
+        given:
+        ClassElement element = buildClassElement("""
+package test;
+import io.micronaut.data.annotation.*;
+
+@MappedEntity
+class Test {
+    @Id
+    private Long id;
+    private String name;
+
+    public Test(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
+
+""")
+        SqlQueryBuilder builder = new SqlQueryBuilder(Dialect.ORACLE)
+        def entity = new SourcePersistentEntity(element, {})
+
+        when:
+        builder.buildInsert(AnnotationMetadata.EMPTY_METADATA, entity, 2)
+
+        then:
+        thrown(IllegalStateException)
+        builder.getMaxInsertRows(entity) == 1
+    }
+
+    @Unroll
+    void "test build upsert for dialect - #dialect"() {
+        given:
+        BeanDefinition beanDefinition = buildRepository('test.MyInterface', """
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+
+@JdbcRepository(dialect=Dialect.${dialect.name()})
+@io.micronaut.context.annotation.Executable
+interface MyInterface extends GenericRepository<Test, String> {
+    Test upsert(Test entity);
+
+    void upsertAll(Iterable<Test> entities);
+}
+
+@MappedEntity
+class Test {
+    @Id
+    private String id;
+    private String name;
+
+    public Test(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
+
+""")
+        def upsertMethod = beanDefinition.findPossibleMethods("upsert").findFirst().get()
+        def upsertAllMethod = beanDefinition.findPossibleMethods("upsertAll").findFirst().get()
+
+        expect:
+        getQuery(upsertMethod) == query
+        getQuery(upsertAllMethod) == query
+
+        where:
+        dialect            | query
+        Dialect.MYSQL      | 'INSERT INTO `test` (`name`,`id`) VALUES (?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)'
+        Dialect.POSTGRES   | 'INSERT INTO "test" ("name","id") VALUES (?,?) ON CONFLICT ("id") DO UPDATE SET "name"=EXCLUDED."name"'
+        Dialect.H2         | 'MERGE INTO `test` (`name`,`id`) KEY (`id`) VALUES (?,?)'
+        Dialect.ORACLE     | 'MERGE INTO "TEST" upsert_target USING (SELECT ? "NAME",? "ID" FROM DUAL) upsert_source ON (upsert_target."ID" = upsert_source."ID") WHEN MATCHED THEN UPDATE SET upsert_target."NAME" = upsert_source."NAME" WHEN NOT MATCHED THEN INSERT ("NAME","ID") VALUES (upsert_source."NAME",upsert_source."ID")'
+        Dialect.SQL_SERVER | 'MERGE INTO [test] AS upsert_target USING (SELECT ? AS [name],? AS [id]) AS upsert_source ON (upsert_target.[id] = upsert_source.[id]) WHEN MATCHED THEN UPDATE SET upsert_target.[name] = upsert_source.[name] WHEN NOT MATCHED THEN INSERT ([name],[id]) VALUES (upsert_source.[name],upsert_source.[id]);'
+    }
+
     @Unroll
     void "test build create table for UUID and dialect - #dialect"() {
         given:
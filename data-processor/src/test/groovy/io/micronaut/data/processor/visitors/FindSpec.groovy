@@ -408,6 +408,7 @@ interface TestRepository extends CrudRepository<Book, Long> {
         then:
             method.stringValue(Query).get() == 'SELECT book_."id",book_."author_id",book_."title",book_."total_pages",book_."publisher_id",book_."last_updated" FROM "book" book_ ORDER BY book_."title" ASC'
             method.intValue(DataMethod, DataMethod.META_MEMBER_PAGE_SIZE).getAsInt() == 30
+            method.stringValues(DataMethod, DataMethod.META_MEMBER_SORT_PROPERTIES) == ["title"] as String[]
     }
 
     void "test project association"() {
@@ -41,6 +41,8 @@ public class DataR2dbcConfiguration implements Named {
     private boolean batchGenerate = false;
     private Dialect dialect = Dialect.ANSI;
     private List<String> packages = new ArrayList<>(3);
+    private int batchSize;
+    private boolean multiRowInsert;
     private final String name;
     private final ConnectionFactory connectionFactory;
     private final R2dbcOperations r2dbcOperations;
@@ -140,6 +142,45 @@ public class DataR2dbcConfiguration implements Named {
         this.dialect = dialect;
     }
 
+    /**
+     * @return The maximum number of entities executed in a single R2DBC batch, zero or a negative number executes all the entities in one batch
+     * @since 3.6.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of entities executed in a single R2DBC batch. The batch operations with more entities
+     * are executed in multiple batches. Zero or a negative number executes all the entities in one batch.
+     *
+     * @param batchSize The batch size
+     * @since 3.6.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return Whether the batch insert of the entities is executed as multi-row inserts
+     * @since 3.6.0
+     */
+    public boolean isMultiRowInsert() {
+        return multiRowInsert;
+    }
+
+    /**
+     * Sets whether the batch insert of the entities is executed as multi-row inserts
+     * {@code INSERT INTO table (...) VALUES (...), (...)} for the dialects supporting it instead of a batch
+     * of single-row inserts.
+     *
+     * @param multiRowInsert True if the multi-row inserts should be used
+     * @since 3.6.0
+     */
+    public void setMultiRowInsert(boolean multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+    }
+
     @NonNull
     @Override
     public String getName() {
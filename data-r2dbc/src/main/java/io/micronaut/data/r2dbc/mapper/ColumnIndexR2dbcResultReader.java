@@ -26,6 +26,7 @@ import io.micronaut.data.runtime.mapper.ResultReader;
 import io.r2dbc.spi.Row;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -152,6 +153,23 @@ public class ColumnIndexR2dbcResultReader implements ResultReader<Row, Integer>
         return resultSet.get(name, String.class);
     }
 
+    @Nullable
+    @Override
+    public Object readJson(Row resultSet, Integer name) {
+        Object o = resultSet.get(name);
+        if (o == null || o instanceof byte[] || o instanceof String) {
+            return o;
+        }
+        if (o instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) o;
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+        // The driver specific JSON types are read as strings
+        return readString(resultSet, name);
+    }
+
     @Override
     public int readInt(Row resultSet, Integer name) {
         Integer l = resultSet.get(name, Integer.class);
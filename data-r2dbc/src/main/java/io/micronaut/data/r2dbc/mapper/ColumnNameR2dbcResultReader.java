@@ -213,6 +213,23 @@ public class ColumnNameR2dbcResultReader implements ResultReader<Row, String> {
         return convertRequired(o, String.class);
     }
 
+    @Nullable
+    @Override
+    public Object readJson(Row resultSet, String name) {
+        Object o = resultSet.get(name);
+        if (o == null || o instanceof byte[] || o instanceof String) {
+            return o;
+        }
+        if (o instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) o;
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+        // The driver specific JSON types are read as strings
+        return readString(resultSet, name);
+    }
+
     @Override
     public int readInt(Row resultSet, String name) {
         Integer l = resultSet.get(name, Integer.class);
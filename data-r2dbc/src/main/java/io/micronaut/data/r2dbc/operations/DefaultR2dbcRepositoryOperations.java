@@ -54,6 +54,7 @@ import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.operations.async.AsyncRepositoryOperations;
 import io.micronaut.data.operations.reactive.BlockingExecutorReactorRepositoryOperations;
 import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.r2dbc.config.DataR2dbcConfiguration;
 import io.micronaut.data.r2dbc.convert.R2dbcConversionContext;
 import io.micronaut.data.r2dbc.mapper.ColumnIndexR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.ColumnNameR2dbcResultReader;
@@ -75,6 +76,7 @@ import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.exceptions.NoTransactionException;
 import io.micronaut.transaction.exceptions.TransactionSystemException;
@@ -104,13 +106,13 @@ import reactor.util.function.Tuples;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -141,6 +143,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     private final String txStatusKey;
     private final String txDefinitionKey;
     private final String currentConnectionKey;
+    private final ApplicationContext applicationContext;
+    private volatile Integer batchSize;
+    private volatile Boolean multiRowInsert;
 
     /**
      * Default constructor.
@@ -188,6 +193,40 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         this.txStatusKey = ReactorReactiveTransactionOperations.TRANSACTION_STATUS_KEY_PREFIX + "." + NAME + "." + name;
         this.txDefinitionKey = ReactorReactiveTransactionOperations.TRANSACTION_DEFINITION_KEY_PREFIX + "." + NAME + "." + name;
         this.currentConnectionKey = "io.micronaut." + NAME + ".connection." + name;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * The configuration of the data source is resolved lazily, the configuration bean depends on this bean.
+     *
+     * @return The maximum number of entities executed in a single batch
+     */
+    private int getBatchSize() {
+        Integer batchSize = this.batchSize;
+        if (batchSize == null) {
+            batchSize = findConfiguration()
+                .map(DataR2dbcConfiguration::getBatchSize)
+                .orElse(0);
+            this.batchSize = batchSize;
+        }
+        return batchSize;
+    }
+
+    @Override
+    protected boolean isMultiRowInsert() {
+        Boolean multiRowInsert = this.multiRowInsert;
+        if (multiRowInsert == null) {
+            multiRowInsert = findConfiguration()
+                .map(DataR2dbcConfiguration::isMultiRowInsert)
+                .orElse(false);
+            this.multiRowInsert = multiRowInsert;
+        }
+        return multiRowInsert;
+    }
+
+    private Optional<DataR2dbcConfiguration> findConfiguration() {
+        String name = dataSourceName == null ? "default" : dataSourceName;
+        return applicationContext.findBean(DataR2dbcConfiguration.class, Qualifiers.byName(name));
     }
 
     @Override
@@ -245,6 +284,22 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return op.getEntity();
     }
 
+    @Override
+    public <T> Flux<T> updateBatch(R2dbcOperationContext ctx, List<T> values, RuntimePersistentEntity<T> persistentEntity) {
+        if (!isSupportsBatchUpdate(persistentEntity, ctx.dialect)) {
+            return ReactiveCascadeOperations.ReactiveCascadeOperationsHelper.super.updateBatch(ctx, values, persistentEntity);
+        }
+        SqlStoredQuery<T, ?> storedQuery = resolveEntityUpdate(
+            ctx.annotationMetadata,
+            ctx.repositoryType,
+            persistentEntity.getIntrospection().getBeanType(),
+            persistentEntity
+        );
+        R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, persistentEntity, values, storedQuery);
+        op.update();
+        return op.getEntities();
+    }
+
     @Override
     public Mono<Void> persistManyAssociation(R2dbcOperationContext ctx,
                                              RuntimeAssociation runtimeAssociation,
@@ -277,6 +332,40 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return assocEntitiesOp.getEntities().then();
     }
 
+    @Override
+    public Mono<Void> persistManyAssociationsBatch(R2dbcOperationContext ctx,
+                                                   RuntimeAssociation runtimeAssociation,
+                                                   List<Object> values, RuntimePersistentEntity<Object> persistentEntity,
+                                                   List<? extends Iterable<Object>> children, RuntimePersistentEntity<Object> childPersistentEntity,
+                                                   Predicate<Object> veto) {
+        // The join table insert binds the parent identity, the rows of all the parents are added to the same statement
+        String query = resolveSqlInsertAssociation(ctx.repositoryType, runtimeAssociation, persistentEntity, values.get(0)).getQuery();
+        Statement statement = ctx.connection.createStatement(query);
+        boolean isFirst = true;
+        for (int i = 0; i < values.size(); i++) {
+            SqlStoredQuery<Object, ?> storedQuery = resolveSqlInsertAssociation(ctx.repositoryType, runtimeAssociation, persistentEntity, values.get(i));
+            for (Object child : children.get(i)) {
+                if (veto.test(child)) {
+                    continue;
+                }
+                if (isFirst) {
+                    isFirst = false;
+                } else {
+                    // https://github.com/r2dbc/r2dbc-spi/issues/259
+                    statement.add();
+                }
+                storedQuery.bindParameters(new R2dbcParameterBinder(ctx, statement), null, child, null);
+            }
+        }
+        if (isFirst) {
+            return Mono.empty();
+        }
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing SQL query: {}", query);
+        }
+        return executeAndGetRowsUpdated(statement).then();
+    }
+
     private Mono<Number> sum(Stream<Mono<Number>> stream) {
         return stream.reduce((m1, m2) -> m1.zipWith(m2).map(t -> t.getT1().longValue() + t.getT2().longValue())).orElse(Mono.empty());
     }
@@ -496,37 +585,33 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return flux.hasElements()
             .flatMapMany(ignore -> {
                 status.completed = true;
+                status.onCompletion.forEach(Runnable::run);
                 return cancelConnection.get();
             });
     }
 
     private ReactiveTransactionStatus<Connection> existingTransaction(ReactiveTransactionStatus<Connection> existing) {
-        return new ReactiveTransactionStatus<Connection>() {
-            @Override
-            public Connection getConnection() {
-                return existing.getConnection();
-            }
-
-            @Override
-            public boolean isNewTransaction() {
-                return false;
-            }
-
-            @Override
-            public void setRollbackOnly() {
-                existing.setRollbackOnly();
-            }
+        return new ExistingReactiveTransactionStatus(existing);
+    }
 
-            @Override
-            public boolean isRollbackOnly() {
-                return existing.isRollbackOnly();
-            }
+    private void invalidateQueryResults(RuntimePersistentEntity<?> persistentEntity, @Nullable ReactiveTransactionStatus<Connection> status) {
+        invalidateQueryResults(persistentEntity);
+        afterTransactionCompletion(status, () -> invalidateQueryResults(persistentEntity));
+    }
 
-            @Override
-            public boolean isCompleted() {
-                return existing.isCompleted();
-            }
-        };
+    /**
+     * Adds a callback run once the transaction of the status completes, whatever the outcome.
+     *
+     * @param status   The transaction status
+     * @param callback The callback
+     */
+    private void afterTransactionCompletion(@Nullable ReactiveTransactionStatus<Connection> status, Runnable callback) {
+        while (status instanceof ExistingReactiveTransactionStatus) {
+            status = ((ExistingReactiveTransactionStatus) status).existing;
+        }
+        if (status instanceof DefaultReactiveTransactionStatus) {
+            ((DefaultReactiveTransactionStatus) status).onCompletion.add(callback);
+        }
     }
 
     private static <R> Mono<R> toSingleResult(Flux<R> flux) {
@@ -574,6 +659,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         private final TransactionDefinition definition;
         private final Connection connection;
         private final boolean isNew;
+        private final Queue<Runnable> onCompletion = new ConcurrentLinkedQueue<>();
         private boolean rollbackOnly;
         private boolean completed;
 
@@ -613,6 +699,42 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
     }
 
+    /**
+     * The status of an existing transaction joined by a new transactional callback.
+     */
+    private static final class ExistingReactiveTransactionStatus implements ReactiveTransactionStatus<Connection> {
+        private final ReactiveTransactionStatus<Connection> existing;
+
+        private ExistingReactiveTransactionStatus(ReactiveTransactionStatus<Connection> existing) {
+            this.existing = existing;
+        }
+
+        @Override
+        public Connection getConnection() {
+            return existing.getConnection();
+        }
+
+        @Override
+        public boolean isNewTransaction() {
+            return false;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            existing.setRollbackOnly();
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return existing.isRollbackOnly();
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return existing.isCompleted();
+        }
+    }
+
     /**
      * reactive operations implementation.
      */
@@ -633,6 +755,25 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public <T, R> Mono<R> findOne(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+            EntityCacheLookup<R> cacheLookup = lookupEntityCache(preparedQuery);
+            if (cacheLookup == null || preparedQuery.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS, ReactiveTransactionStatus.class).isPresent()) {
+                return findOneNotCached(preparedQuery);
+            }
+            return Mono.deferContextual(contextView -> {
+                if (getTransactionStatus(contextView) != null) {
+                    // The cache is neither read nor filled in a transaction, the transaction can see uncommitted state
+                    return findOneNotCached(preparedQuery);
+                }
+                R cached = cacheLookup.get();
+                if (cached != null) {
+                    return Mono.just(cached);
+                }
+                return findOneNotCached(preparedQuery).doOnNext(cacheLookup::put);
+            });
+        }
+
+        @NonNull
+        private <T, R> Mono<R> findOneNotCached(@NonNull SqlPreparedQuery<T, R> preparedQuery) {
             return withNewOrExistingTransactionMono(preparedQuery, false, status -> {
                 Connection connection = status.getConnection();
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
@@ -722,6 +863,13 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                             },
                             conversionService);
                         boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
+                        if (!onlySingleEndedJoins && isOrderedByRootId(preparedQuery)) {
+                            // The rows of the same entity are adjacent, emit the entity as soon as the id changes
+                            SqlResultEntityTypeMapper.IncrementalPushingMapper<Row, R> incrementalReader = entityTypeMapper.readAllWithJoinsIncrementally();
+                            return executeAndMapEachRow(statement, row -> Mono.justOrEmpty(incrementalReader.processRow(row)))
+                                .concatMap(m -> m)
+                                .concatWith(Mono.fromSupplier(incrementalReader::finish));
+                        }
                         // Cannot stream ResultSet for "many" joined query
                         if (!onlySingleEndedJoins) {
                             SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> manyReader = entityTypeMapper.readAllWithJoins();
@@ -766,6 +914,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (QUERY_LOG.isTraceEnabled()) {
                             QUERY_LOG.trace("Update operation updated {} records", rowsUpdated);
                         }
+                        evictCachedEntities(preparedQuery.getPersistentEntity());
+                        afterTransactionCompletion(status, () -> evictCachedEntities(preparedQuery.getPersistentEntity()));
+                        invalidateQueryResults(preparedQuery.getPersistentEntity(), status);
                         if (preparedQuery.isOptimisticLock()) {
                             checkOptimisticLocking(1, rowsUpdated);
                         }
@@ -1006,7 +1157,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
 
         private <T> R2dbcOperationContext createContext(EntityOperation<T> operation, ReactiveTransactionStatus<Connection> status, SqlStoredQuery<T, ?> storedQuery) {
-            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), storedQuery.getDialect(), status.getConnection());
+            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), storedQuery.getDialect(), status.getConnection(), status);
         }
 
         @NonNull
@@ -1198,6 +1349,16 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     return d;
                 });
             }
+            data = data.map(d -> {
+                if (!d.vetoed) {
+                    // Inserts are evicted as well: an upsert runs as an insert and can overwrite a cached row
+                    evictCachedEntity(persistentEntity, d.entity);
+                    T entity = d.entity;
+                    afterTransactionCompletion(ctx.transactionStatus, () -> evictCachedEntity(persistentEntity, entity));
+                    invalidateQueryResults(persistentEntity, ctx.transactionStatus);
+                }
+                return d;
+            });
         }
     }
 
@@ -1229,59 +1390,58 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
-        private void setParameters(Statement stmt, SqlStoredQuery<T, ?> storedQuery) {
-            AtomicBoolean isFirst = new AtomicBoolean(true);
-            entities = entities.map(d -> {
-                if (d.vetoed) {
-                    return d;
-                }
-                if (isFirst.get()) {
-                    isFirst.set(false);
+        private Statement prepareStatement(List<Data> batch) {
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
+            }
+            Statement statement = ctx.connection.createStatement(storedQuery.getQuery());
+            if (hasGeneratedId) {
+                statement = statement.returnGeneratedValues(persistentEntity.getIdentity().getPersistedName());
+            }
+            boolean isFirst = true;
+            for (Data d : batch) {
+                if (isFirst) {
+                    isFirst = false;
                 } else {
                     // https://github.com/r2dbc/r2dbc-spi/issues/259
-                    stmt.add();
+                    statement.add();
                 }
-                storedQuery.bindParameters(new R2dbcParameterBinder(ctx, stmt), null, d.entity, d.previousValues);
-                return d;
-            });
+                storedQuery.bindParameters(new R2dbcParameterBinder(ctx, statement), null, d.entity, d.previousValues);
+            }
+            return statement;
+        }
+
+        private Flux<List<Data>> batches(List<Data> rows, int batchSize) {
+            if (batchSize <= 0 || rows.size() <= batchSize) {
+                return Flux.just(rows);
+            }
+            return Flux.range(0, (rows.size() + batchSize - 1) / batchSize)
+                .map(i -> rows.subList(i * batchSize, Math.min((i + 1) * batchSize, rows.size())));
         }
 
         @Override
         protected void execute() throws RuntimeException {
-            Statement statement;
-            if (hasGeneratedId) {
-                statement = ctx.connection.createStatement(storedQuery.getQuery())
-                    .returnGeneratedValues(persistentEntity.getIdentity().getPersistedName());
-            } else {
-                statement = ctx.connection.createStatement(storedQuery.getQuery());
+            int batchSize = getBatchSize();
+            if (insert) {
+                int maxRows = getMaxMultiRowInsertRows(ctx.annotationMetadata, ctx.repositoryType, storedQuery);
+                if (batchSize > 0) {
+                    maxRows = Math.min(maxRows, batchSize);
+                }
+                if (maxRows > 1) {
+                    executeMultiRowInsert(maxRows);
+                    return;
+                }
             }
-            setParameters(statement, storedQuery);
             if (hasGeneratedId) {
                 entities = entities.collectList()
                     .flatMapMany(e -> {
                         List<Data> notVetoedEntities = e.stream().filter(this::notVetoed).collect(Collectors.toList());
                         if (notVetoedEntities.isEmpty()) {
-                            return Flux.fromIterable(notVetoedEntities);
-                        }
-                        Mono<List<Object>> ids = executeAndMapEachRow(statement, row
-                            -> columnIndexResultSetReader.readDynamic(row, 0, persistentEntity.getIdentity().getDataType())
-                        ).collectList();
-
-                        return ids.flatMapMany(idList -> {
-                            Iterator<Object> iterator = idList.iterator();
-                            ListIterator<Data> resultIterator = notVetoedEntities.listIterator();
-                            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                            while (resultIterator.hasNext()) {
-                                Data d = resultIterator.next();
-                                if (!iterator.hasNext()) {
-                                    throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                                } else {
-                                    Object id = iterator.next();
-                                    d.entity = updateEntityId((BeanProperty<T, Object>) identity.getProperty(), d.entity, id);
-                                }
-                            }
                             return Flux.fromIterable(e);
-                        });
+                        }
+                        return batches(notVetoedEntities, batchSize)
+                            .concatMap(this::executeAndSetGeneratedIds)
+                            .thenMany(Flux.fromIterable(e));
                     });
             } else {
                 Mono<Tuple2<List<Data>, Long>> entitiesWithRowsUpdated = entities.collectList()
@@ -1290,19 +1450,96 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (notVetoedEntities.isEmpty()) {
                             return Mono.just(Tuples.of(e, 0L));
                         }
-                        return executeAndGetRowsUpdated(statement)
-                            .map(Number::longValue)
+                        return batches(notVetoedEntities, batchSize)
+                            .concatMap(batch -> executeAndGetRowsUpdated(prepareStatement(batch))
+                                .map(Number::longValue)
+                                .reduce(0L, Long::sum)
+                                .map(rowsUpdated -> {
+                                    if (storedQuery.isOptimisticLock()) {
+                                        checkOptimisticLocking(batch.size(), rowsUpdated);
+                                    }
+                                    return rowsUpdated;
+                                }))
                             .reduce(0L, Long::sum)
-                            .map(rowsUpdated -> {
-                                if (storedQuery.isOptimisticLock()) {
-                                    checkOptimisticLocking(notVetoedEntities.size(), rowsUpdated);
-                                }
-                                return Tuples.of(e, rowsUpdated);
-                            });
+                            .map(rowsUpdated -> Tuples.of(e, rowsUpdated));
                     }).cache();
                 entities = entitiesWithRowsUpdated.flatMapMany(t -> Flux.fromIterable(t.getT1()));
                 rowsUpdated = entitiesWithRowsUpdated.map(Tuple2::getT2);
             }
+            entities = entities.map(d -> {
+                if (!d.vetoed) {
+                    // Inserts are evicted as well: an upsert runs as an insert and can overwrite a cached row
+                    evictCachedEntity(persistentEntity, d.entity);
+                    T entity = d.entity;
+                    afterTransactionCompletion(ctx.transactionStatus, () -> evictCachedEntity(persistentEntity, entity));
+                    invalidateQueryResults(persistentEntity, ctx.transactionStatus);
+                }
+                return d;
+            });
+        }
+
+        private Mono<Void> executeAndSetGeneratedIds(List<Data> batch) {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            return executeAndMapEachRow(prepareStatement(batch), row -> columnIndexResultSetReader.readDynamic(row, 0, identity.getDataType()))
+                .collectList()
+                .doOnNext(ids -> {
+                    // The generated ids are returned in the order of the bound entities
+                    Iterator<Object> iterator = ids.iterator();
+                    for (Data d : batch) {
+                        if (!iterator.hasNext()) {
+                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                        }
+                        d.entity = updateEntityId((BeanProperty<T, Object>) identity.getProperty(), d.entity, iterator.next());
+                    }
+                })
+                .then();
+        }
+
+        private void executeMultiRowInsert(int maxRows) {
+            Mono<Tuple2<List<Data>, Long>> entitiesWithRowsUpdated = entities.collectList()
+                .flatMap(e -> {
+                    List<Data> notVetoedEntities = e.stream().filter(this::notVetoed).collect(Collectors.toList());
+                    return Flux.fromIterable(multiRowInsertChunks(notVetoedEntities, maxRows))
+                        .concatMap(this::executeMultiRowInsert)
+                        .reduce(0L, Long::sum)
+                        .map(rowsUpdated -> Tuples.of(e, rowsUpdated));
+                }).cache();
+            entities = entitiesWithRowsUpdated.flatMapMany(t -> Flux.fromIterable(t.getT1()));
+            rowsUpdated = entitiesWithRowsUpdated.map(Tuple2::getT2);
+        }
+
+        private Mono<Long> executeMultiRowInsert(List<Data> rows) {
+            String query = resolveEntityMultiRowInsert(ctx.annotationMetadata, ctx.repositoryType, persistentEntity, rows.size());
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            Statement statement = ctx.connection.createStatement(query);
+            if (hasGeneratedId) {
+                statement = statement.returnGeneratedValues(persistentEntity.getIdentity().getPersistedName());
+            }
+            // The parameters of the rows are bound in sequence by the same binder
+            R2dbcParameterBinder binder = new R2dbcParameterBinder(ctx, statement);
+            for (Data d : rows) {
+                storedQuery.bindParameters(binder, null, d.entity, d.previousValues);
+            }
+            if (!hasGeneratedId) {
+                return executeAndGetRowsUpdated(statement)
+                    .map(Number::longValue)
+                    .reduce(0L, Long::sum);
+            }
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            return executeAndMapEachRow(statement, row -> columnIndexResultSetReader.readDynamic(row, 0, identity.getDataType()))
+                .collectList()
+                .map(ids -> {
+                    Iterator<Object> iterator = ids.iterator();
+                    for (Data d : rows) {
+                        if (!iterator.hasNext()) {
+                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                        }
+                        d.entity = updateEntityId((BeanProperty<T, Object>) identity.getProperty(), d.entity, iterator.next());
+                    }
+                    return (long) rows.size();
+                });
         }
     }
 
@@ -1310,11 +1547,29 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
 
         private final Connection connection;
         private final Dialect dialect;
+        @Nullable
+        private final ReactiveTransactionStatus<Connection> transactionStatus;
 
         public R2dbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, Dialect dialect, Connection connection) {
+            this(annotationMetadata, repositoryType, dialect, connection, null);
+        }
+
+        /**
+         * The constructor.
+         *
+         * @param annotationMetadata The annotation metadata
+         * @param repositoryType     The repository type
+         * @param dialect            The dialect
+         * @param connection         The connection
+         * @param transactionStatus  The status of the transaction of the operation
+         * @since 3.6.0
+         */
+        public R2dbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, Dialect dialect, Connection connection,
+                                     @Nullable ReactiveTransactionStatus<Connection> transactionStatus) {
             super(annotationMetadata, repositoryType);
             this.dialect = dialect;
             this.connection = connection;
+            this.transactionStatus = transactionStatus;
         }
     }
 
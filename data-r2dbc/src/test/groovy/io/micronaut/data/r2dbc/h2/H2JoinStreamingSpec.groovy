@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2JoinStreamingSpec extends Specification implements H2TestPropertyProvider {
+
+    private static final int PARENTS = 20
+    private static final int CHILDREN = 3
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    StreamedParentRepository repository = applicationContext.getBean(StreamedParentRepository)
+
+    def setupSpec() {
+        (1..PARENTS).each { i ->
+            def parent = new StreamedParent(name: "Parent " + i, children: [])
+            (1..CHILDREN).each { j -> parent.children.add(new StreamedChild(name: "Child " + i + "-" + j, parent: parent)) }
+            repository.save(parent).block()
+        }
+    }
+
+    void "test stream a joined one-to-many ordered by id"() {
+        when:
+        List<StreamedParent> parents = repository.queryByNameStartsWithOrderById("Parent").collectList().block()
+
+        then:
+        parents*.id == parents*.id.sort()
+        verifyParents(parents)
+    }
+
+    void "test stream a joined one-to-many ordered by id with a sort argument"() {
+        when:
+        List<StreamedParent> parents = repository.queryByNameStartsWith("Parent", Sort.of(Sort.Order.desc("id"))).collectList().block()
+
+        then:
+        parents*.id == parents*.id.sort().reverse()
+        verifyParents(parents)
+    }
+
+    void "test stream a joined one-to-many without an order"() {
+        when:
+        List<StreamedParent> parents = repository.queryByNameStartsWith("Parent").collectList().block()
+
+        then:
+        verifyParents(parents)
+    }
+
+    void "test the first entity of a stream ordered by id"() {
+        when:
+        StreamedParent parent = repository.queryByNameStartsWithOrderById("Parent").blockFirst()
+
+        then:
+        parent.name == "Parent 1"
+        parent.children*.name.sort() == ["Child 1-1", "Child 1-2", "Child 1-3"]
+    }
+
+    private static void verifyParents(List<StreamedParent> parents) {
+        assert parents.size() == PARENTS
+        assert parents*.name.toSet().size() == PARENTS
+        parents.each { parent ->
+            def index = parent.name.substring("Parent ".length())
+            assert parent.children*.name.sort() == (1..CHILDREN).collect { "Child " + index + "-" + it }
+        }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface StreamedParentRepository extends ReactorCrudRepository<StreamedParent, Long> {
+
+    @Join(value = "children", type = Join.Type.FETCH)
+    Flux<StreamedParent> queryByNameStartsWithOrderById(String name)
+
+    @Join(value = "children", type = Join.Type.FETCH)
+    Flux<StreamedParent> queryByNameStartsWith(String name, Sort sort)
+
+    @Join(value = "children", type = Join.Type.FETCH)
+    Flux<StreamedParent> queryByNameStartsWith(String name)
+}
+
+@MappedEntity
+class StreamedParent {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "parent", cascade = Relation.Cascade.ALL)
+    List<StreamedChild> children
+}
+
+@MappedEntity
+class StreamedChild {
+
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    StreamedParent parent
+}
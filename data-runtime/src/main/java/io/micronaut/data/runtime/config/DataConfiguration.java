@@ -28,6 +28,128 @@ import java.util.regex.Pattern;
 @ConfigurationProperties(DataSettings.PREFIX)
 public class DataConfiguration implements DataSettings {
 
+    /**
+     * Configuration for the criteria based repository methods.
+     *
+     * @since 3.6.0
+     */
+    @ConfigurationProperties(CriteriaConfiguration.PREFIX)
+    public static class CriteriaConfiguration {
+        public static final int DEFAULT_QUERY_CACHE_SIZE = 100;
+        public static final String PREFIX = "criteria";
+        private int queryCacheSize = DEFAULT_QUERY_CACHE_SIZE;
+
+        /**
+         * @return The maximum number of the built queries cached per repository method interceptor
+         */
+        public int getQueryCacheSize() {
+            return queryCacheSize;
+        }
+
+        /**
+         * Sets the maximum number of the built queries cached per repository method interceptor. Zero disables the cache.
+         *
+         * @param queryCacheSize The query cache size
+         */
+        public void setQueryCacheSize(int queryCacheSize) {
+            this.queryCacheSize = queryCacheSize;
+        }
+    }
+
+    /**
+     * Configuration for the repository metrics.
+     *
+     * @since 3.6.0
+     */
+    @ConfigurationProperties(MetricsConfiguration.PREFIX)
+    public static class MetricsConfiguration {
+        public static final boolean DEFAULT_ENABLED = false;
+        public static final String PREFIX = "metrics";
+        private boolean enabled = DEFAULT_ENABLED;
+
+        /**
+         * @return Whether the repository methods are instrumented with Micrometer meters
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the repository methods are instrumented with Micrometer meters. Requires a {@code MeterRegistry} bean.
+         *
+         * @param enabled True to enable the metrics
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Configuration for the executor of the asynchronous and reactive operations of the blocking repositories.
+     *
+     * @since 3.6.0
+     */
+    @ConfigurationProperties(AsyncConfiguration.PREFIX)
+    public static class AsyncConfiguration {
+        public static final String PREFIX = "async";
+        private ExecutorType executorType = ExecutorType.IO;
+        private int maxThreads;
+
+        /**
+         * @return The type of the executor
+         */
+        public ExecutorType getExecutorType() {
+            return executorType;
+        }
+
+        /**
+         * Sets the type of the executor. Defaults to {@link ExecutorType#IO}.
+         *
+         * @param executorType The executor type
+         */
+        public void setExecutorType(ExecutorType executorType) {
+            if (executorType != null) {
+                this.executorType = executorType;
+            }
+        }
+
+        /**
+         * @return The maximum number of threads of the {@link ExecutorType#BOUNDED} executor
+         */
+        public int getMaxThreads() {
+            return maxThreads;
+        }
+
+        /**
+         * Sets the maximum number of threads of the {@link ExecutorType#BOUNDED} executor. Zero or a negative number
+         * uses the maximum size of the connection pool if it can be determined, otherwise twice the number of processors.
+         *
+         * @param maxThreads The maximum number of threads
+         */
+        public void setMaxThreads(int maxThreads) {
+            this.maxThreads = maxThreads;
+        }
+
+        /**
+         * The type of the executor.
+         */
+        public enum ExecutorType {
+            /**
+             * The {@code io} executor of the application or an unbounded cached thread pool if it's missing.
+             */
+            IO,
+            /**
+             * A new virtual thread per operation, requires JDK 21 or above. Uses the {@link #BOUNDED} executor
+             * if the virtual threads are not available.
+             */
+            VIRTUAL,
+            /**
+             * A thread pool with a fixed maximum number of threads, the operations exceeding the number of threads
+             * are queued.
+             */
+            BOUNDED
+        }
+    }
 
     /**
      * Configuration for pageable.
@@ -57,8 +57,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
             PreUpdate.class
     );
     private final Collection<BeanDefinition<EntityEventListener>> allEventListeners;
-    private final Map<RuntimePersistentEntity<Object>, Map<Class<? extends
-            Annotation>, EntityEventListener<Object>>> entityToEventListeners = new ConcurrentHashMap<>(50);
+    private final Map<RuntimePersistentEntity<Object>, EntityEventListeners> entityToEventListeners = new ConcurrentHashMap<>(50);
     private final BeanContext beanContext;
     private final Map<Class<? extends Annotation>, BeanDefinitionMethodReference<Object, Object>> beanEventHandlers = new HashMap<>(10);
 
@@ -77,14 +76,13 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
 
     @Override
     public boolean supports(RuntimePersistentEntity<Object> entity, Class<? extends Annotation> eventType) {
-        Map<Class<? extends Annotation>, EntityEventListener<Object>> listeners = getListeners(entity);
-        return listeners.containsKey(eventType);
+        return getListeners(entity).byEventType.containsKey(eventType);
     }
 
     @Override
     public boolean prePersist(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PrePersist.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).prePersist;
             if (target != null) {
                 return target.prePersist(context);
             }
@@ -97,7 +95,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public void postPersist(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PostPersist.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).postPersist;
             if (target != null) {
                 target.postPersist(context);
             }
@@ -109,7 +107,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public void postLoad(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PostLoad.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).postLoad;
             if (target != null) {
                 target.postLoad(context);
             }
@@ -121,7 +119,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public boolean preRemove(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PreRemove.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).preRemove;
             if (target != null) {
                 return target.preRemove(context);
             }
@@ -134,7 +132,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public void postRemove(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PostRemove.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).postRemove;
             if (target != null) {
                 target.postRemove(context);
             }
@@ -146,7 +144,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public boolean preUpdate(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PreUpdate.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).preUpdate;
             if (target != null) {
                 return target.preUpdate(context);
             }
@@ -159,7 +157,7 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     @Override
     public void postUpdate(@NonNull EntityEventContext<Object> context) {
         try {
-            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).get(PostUpdate.class);
+            final EntityEventListener<Object> target = getListeners(context.getPersistentEntity()).postUpdate;
             if (target != null) {
                 target.postUpdate(context);
             }
@@ -169,10 +167,10 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
     }
 
     @NonNull
-    private Map<Class<? extends Annotation>, EntityEventListener<Object>> getListeners(RuntimePersistentEntity<Object> entity) {
-        Map<Class<? extends Annotation>, EntityEventListener<Object>> listeners = entityToEventListeners.get(entity);
+    private EntityEventListeners getListeners(RuntimePersistentEntity<Object> entity) {
+        EntityEventListeners listeners = entityToEventListeners.get(entity);
         if (listeners == null) {
-            listeners = initListeners(entity);
+            listeners = new EntityEventListeners(initListeners(entity));
             entityToEventListeners.put(entity, listeners);
         }
         return listeners;
@@ -300,6 +298,31 @@ public class EntityEventRegistry implements EntityEventListener<Object>, Executa
         }
     }
 
+    /**
+     * The listeners of an entity resolved for each event type, avoids the lookups when the events are fired.
+     */
+    private static final class EntityEventListeners {
+        private final Map<Class<? extends Annotation>, EntityEventListener<Object>> byEventType;
+        private final EntityEventListener<Object> prePersist;
+        private final EntityEventListener<Object> postPersist;
+        private final EntityEventListener<Object> postLoad;
+        private final EntityEventListener<Object> preRemove;
+        private final EntityEventListener<Object> postRemove;
+        private final EntityEventListener<Object> preUpdate;
+        private final EntityEventListener<Object> postUpdate;
+
+        EntityEventListeners(Map<Class<? extends Annotation>, EntityEventListener<Object>> byEventType) {
+            this.byEventType = byEventType;
+            this.prePersist = byEventType.get(PrePersist.class);
+            this.postPersist = byEventType.get(PostPersist.class);
+            this.postLoad = byEventType.get(PostLoad.class);
+            this.preRemove = byEventType.get(PreRemove.class);
+            this.postRemove = byEventType.get(PostRemove.class);
+            this.preUpdate = byEventType.get(PreUpdate.class);
+            this.postUpdate = byEventType.get(PostUpdate.class);
+        }
+    }
+
     private static final class CompositeEventListener implements EntityEventListener<Object> {
         private final EntityEventListener<Object>[] listenerArray;
 
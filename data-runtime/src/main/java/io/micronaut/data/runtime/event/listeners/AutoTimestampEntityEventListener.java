@@ -26,6 +26,7 @@ import io.micronaut.data.annotation.event.PrePersist;
 import io.micronaut.data.annotation.event.PreUpdate;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.model.runtime.PropertyAutoPopulator;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
@@ -37,6 +38,8 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -49,6 +52,7 @@ import java.util.function.Predicate;
 public class AutoTimestampEntityEventListener extends AutoPopulatedEntityEventListener implements PropertyAutoPopulator<DateUpdated> {
     private final DateTimeProvider<?> dateTimeProvider;
     private final DataConversionService<?> conversionService;
+    private final Map<RuntimePersistentEntity<Object>, TimestampProperty[]> timestampProperties = new ConcurrentHashMap<>(30);
 
     /**
      * Default constructor.
@@ -108,35 +112,39 @@ public class AutoTimestampEntityEventListener extends AutoPopulatedEntityEventLi
     }
 
     private void autoTimestampIfNecessary(@NonNull EntityEventContext<Object> context, boolean isUpdate) {
-        final RuntimePersistentProperty<Object>[] applicableProperties = getApplicableProperties(context.getPersistentEntity());
+        final TimestampProperty[] properties = timestampProperties.computeIfAbsent(context.getPersistentEntity(), this::initTimestampProperties);
+        if (properties.length == 0) {
+            return;
+        }
         Object now = dateTimeProvider.getNow();
-        for (RuntimePersistentProperty<Object> property : applicableProperties) {
+        for (TimestampProperty property : properties) {
+            ChronoUnit truncateToValue;
             if (isUpdate) {
-                if (!property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATEABLE).orElse(true)) {
+                if (!property.updateable) {
                     continue;
                 }
-            }
-
-            final BeanProperty<Object, Object> beanProperty = (BeanProperty<Object, Object>) property.getProperty();
-            final Class<?> propertyType = property.getType();
-            ChronoUnit truncateToValue;
-            if (isUpdate) {
-                truncateToValue = truncateToDateUpdated(property.getAnnotationMetadata());
+                truncateToValue = property.updatedTruncateTo;
             } else {
-                truncateToValue = truncateToDateCreated(property.getAnnotationMetadata());
-                if (truncateToValue == null) {
-                    truncateToValue = truncateToDateUpdated(property.getAnnotationMetadata());
-                }
+                truncateToValue = property.createdTruncateTo;
             }
             Object propertyNow = truncate(now, truncateToValue);
-            if (propertyType.isInstance(propertyNow)) {
-                context.setProperty(beanProperty, propertyNow);
+            if (property.type.isInstance(propertyNow)) {
+                context.setProperty(property.beanProperty, propertyNow);
             } else {
-                conversionService.convert(propertyNow, propertyType).ifPresent(o -> context.setProperty(beanProperty, o));
+                conversionService.convert(propertyNow, property.type).ifPresent(o -> context.setProperty(property.beanProperty, o));
             }
         }
     }
 
+    private TimestampProperty[] initTimestampProperties(RuntimePersistentEntity<Object> entity) {
+        final RuntimePersistentProperty<Object>[] applicableProperties = getApplicableProperties(entity);
+        TimestampProperty[] properties = new TimestampProperty[applicableProperties.length];
+        for (int i = 0; i < applicableProperties.length; i++) {
+            properties[i] = new TimestampProperty(applicableProperties[i]);
+        }
+        return properties;
+    }
+
     @Nullable
     private ChronoUnit truncateToDateCreated(@NonNull AnnotationMetadata annotationMetadata) {
         return annotationMetadata.enumValue(DateCreated.class, "truncatedTo", ChronoUnit.class).filter(cu -> cu != ChronoUnit.FOREVER).orElse(null);
@@ -146,4 +154,25 @@ public class AutoTimestampEntityEventListener extends AutoPopulatedEntityEventLi
     private ChronoUnit truncateToDateUpdated(@NonNull AnnotationMetadata annotationMetadata) {
         return annotationMetadata.enumValue(DateUpdated.class, "truncatedTo", ChronoUnit.class).filter(cu -> cu != ChronoUnit.FOREVER).orElse(null);
     }
+
+    /**
+     * The timestamp property with the annotation values resolved once per entity.
+     */
+    private final class TimestampProperty {
+        private final BeanProperty<Object, Object> beanProperty;
+        private final Class<?> type;
+        private final boolean updateable;
+        private final ChronoUnit createdTruncateTo;
+        private final ChronoUnit updatedTruncateTo;
+
+        TimestampProperty(RuntimePersistentProperty<Object> property) {
+            AnnotationMetadata annotationMetadata = property.getAnnotationMetadata();
+            this.beanProperty = (BeanProperty<Object, Object>) property.getProperty();
+            this.type = property.getType();
+            this.updateable = annotationMetadata.booleanValue(AutoPopulated.class, AutoPopulated.UPDATEABLE).orElse(true);
+            this.updatedTruncateTo = truncateToDateUpdated(annotationMetadata);
+            ChronoUnit truncateToValue = truncateToDateCreated(annotationMetadata);
+            this.createdTruncateTo = truncateToValue == null ? updatedTruncateTo : truncateToValue;
+        }
+    }
 }
@@ -55,6 +55,10 @@ public class UUIDGeneratingEntityEventListener extends AutoPopulatedEntityEventL
         final RuntimePersistentProperty<Object>[] persistentProperties = getApplicableProperties(context.getPersistentEntity());
         for (RuntimePersistentProperty<Object> persistentProperty : persistentProperties) {
             final BeanProperty<Object, Object> property = (BeanProperty<Object, Object>) persistentProperty.getProperty();
+            if (persistentProperty == context.getPersistentEntity().getIdentity() && property.get(context.getEntity()) != null) {
+                // Keep the assigned identity, an upsert of an existing entity has to match its row
+                continue;
+            }
             context.setProperty(property, UUID.randomUUID());
         }
         return true;
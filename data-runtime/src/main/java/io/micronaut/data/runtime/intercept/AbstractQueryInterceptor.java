@@ -19,6 +19,7 @@ import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
@@ -31,12 +32,15 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.EmptyResultException;
 import io.micronaut.data.intercept.DataInterceptor;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
@@ -78,6 +82,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongConsumer;
 
 import static io.micronaut.data.intercept.annotation.DataMethod.META_MEMBER_PAGE_SIZE;
 
@@ -98,6 +103,8 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
     private final MethodContextAwareStoredQueryDecorator storedQueryDecorator;
     private final PagedQueryResolver pagedQueryResolver;
     private final PreparedQueryDecorator preparedQueryDecorator;
+    @Nullable
+    private volatile LongConsumer queryBuildRecorder;
 
     /**
      * Default constructor.
@@ -208,6 +215,40 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         return operations.getConversionService().convertRequired(o, argumentType);
     }
 
+    /**
+     * Sets the recorder of the time spent preparing the queries, in nanoseconds.
+     *
+     * @param queryBuildRecorder The recorder or null to not record the time
+     * @since 3.6.0
+     */
+    @Internal
+    public final void setQueryBuildRecorder(@Nullable LongConsumer queryBuildRecorder) {
+        this.queryBuildRecorder = queryBuildRecorder;
+    }
+
+    /**
+     * Starts measuring the time spent preparing a query.
+     *
+     * @return The start time or 0 if the time isn't recorded
+     * @since 3.6.0
+     */
+    protected final long startQueryBuild() {
+        return queryBuildRecorder == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the time spent preparing a query.
+     *
+     * @param start The start time returned by {@link #startQueryBuild()}
+     * @since 3.6.0
+     */
+    protected final void recordQueryBuild(long start) {
+        LongConsumer recorder = queryBuildRecorder;
+        if (recorder != null && start != 0) {
+            recorder.accept(System.nanoTime() - start);
+        }
+    }
+
     /**
      * Prepares a query for the given context.
      *
@@ -252,10 +293,13 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
                                                            Class<RT> resultType,
                                                            boolean isCount) {
         validateNullArguments(context);
+        long start = startQueryBuild();
         StoredQuery<?, RT> storedQuery = findStoreQuery(methodKey, context, resultType, isCount);
         Pageable pageable = storedQuery.hasPageable() ? getPageable(context) : Pageable.UNPAGED;
         PreparedQuery<?, RT> preparedQuery = preparedQueryResolver.resolveQuery(context, storedQuery, pageable);
-        return preparedQueryDecorator.decorate(preparedQuery);
+        preparedQuery = preparedQueryDecorator.decorate(preparedQuery);
+        recordQueryBuild(start);
+        return preparedQuery;
     }
 
     private <E, RT> StoredQuery<E, RT> findStoreQuery(MethodInvocationContext<?, ?> context, boolean isCount) {
@@ -289,6 +333,7 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
      */
     @NonNull
     protected final PreparedQuery<?, Number> prepareCountQuery(RepositoryMethodKey methodKey, @NonNull MethodInvocationContext<T, R> context) {
+        long start = startQueryBuild();
         StoredQuery storedQuery = countQueries.get(methodKey);
         if (storedQuery == null) {
             Class rootEntity = getRequiredRootEntity(context);
@@ -300,7 +345,9 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         Pageable pageable = storedQuery.hasPageable() ? getPageable(context) : Pageable.UNPAGED;
         //noinspection unchecked
         PreparedQuery preparedQuery = preparedQueryResolver.resolveCountQuery(context, storedQuery, pageable);
-        return preparedQueryDecorator.decorate(preparedQuery);
+        preparedQuery = preparedQueryDecorator.decorate(preparedQuery);
+        recordQueryBuild(start);
+        return preparedQuery;
     }
 
     /**
@@ -575,6 +622,36 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         return pagedQueryResolver.resolveQuery(context, getRequiredRootEntity(context), getPageable(context));
     }
 
+    /**
+     * Creates the page of the cursored pageable. The cursor of the next page is read from the sort properties of the last result.
+     *
+     * @param results  The results
+     * @param pageable The pageable
+     * @param <E>      The result type
+     * @return The page
+     * @since 3.6.0
+     */
+    @NonNull
+    protected <E> CursoredPage<E> createCursoredPage(@NonNull List<E> results, @NonNull CursoredPageable pageable) {
+        if (results.isEmpty()) {
+            return CursoredPage.of(results, pageable, pageable.getCursor());
+        }
+        Object last = results.get(results.size() - 1);
+        List<Sort.Order> orders = pageable.getOrderBy();
+        List<Object> nextCursor = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            Object value = last;
+            for (String property : StringUtils.splitOmitEmptyStringsList(order.getProperty(), '.')) {
+                if (value == null) {
+                    break;
+                }
+                value = BeanWrapper.getWrapper(value).getRequiredProperty(property, Object.class);
+            }
+            nextCursor.add(value);
+        }
+        return CursoredPage.of(results, pageable, nextCursor);
+    }
+
     /**
      * Get the insert batch operation for the given context.
      *
@@ -21,9 +21,12 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.FindPageInterceptor;
 import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.SingleQueryPageOperations;
 
 import java.util.List;
 
@@ -50,13 +53,15 @@ public class DefaultFindPageInterceptor<T, R> extends AbstractQueryInterceptor<T
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-            PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+            Pageable pageable = getPageable(context);
 
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> resultList = (List<R>) CollectionUtils.iterableToList(iterable);
-            Number n = operations.findOne(countQuery);
-            Long result = n != null ? n.longValue() : 0;
-            Page<R> page = Page.of(resultList, getPageable(context), result);
+            Page<R> page = null;
+            if (!(pageable instanceof CursoredPageable) && operations instanceof SingleQueryPageOperations) {
+                page = ((SingleQueryPageOperations) operations).findPage((PreparedQuery<?, R>) preparedQuery, () -> prepareCountQuery(methodKey, context));
+            }
+            if (page == null) {
+                page = findPage(methodKey, context, preparedQuery, pageable);
+            }
             if (returnType.isInstance(page)) {
                 return (R) page;
             } else {
@@ -74,4 +79,17 @@ public class DefaultFindPageInterceptor<T, R> extends AbstractQueryInterceptor<T
             }
         }
     }
+
+    private Page<R> findPage(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, PreparedQuery<?, ?> preparedQuery, Pageable pageable) {
+        Iterable<?> iterable = operations.findAll(preparedQuery);
+        List<R> resultList = (List<R>) CollectionUtils.iterableToList(iterable);
+        if (pageable instanceof CursoredPageable) {
+            // The cursored page doesn't compute the total size
+            return createCursoredPage(resultList, (CursoredPageable) pageable);
+        }
+        PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+        Number n = operations.findOne(countQuery);
+        Long result = n != null ? n.longValue() : 0;
+        return Page.of(resultList, pageable, result);
+    }
 }
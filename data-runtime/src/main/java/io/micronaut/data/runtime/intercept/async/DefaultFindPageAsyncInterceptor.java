@@ -22,7 +22,9 @@ import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.intercept.async.FindPageAsyncInterceptor;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.transaction.support.TransactionSynchronizationManager;
 
@@ -50,6 +52,15 @@ public class DefaultFindPageAsyncInterceptor extends AbstractConvertCompletionSt
     protected CompletionStage<?> interceptCompletionStage(RepositoryMethodKey methodKey, MethodInvocationContext<Object, CompletionStage<Page<Object>>> context) {
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            Pageable pageable = getPageable(context);
+            if (pageable instanceof CursoredPageable) {
+                // The cursored page doesn't compute the total size
+                return asyncDatastoreOperations.findAll(preparedQuery)
+                    .thenApply(objects -> {
+                        List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
+                        return createCursoredPage(resultList, (CursoredPageable) pageable);
+                    });
+            }
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
             TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
             return asyncDatastoreOperations.findOne(countQuery)
@@ -28,7 +28,11 @@ import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery;
+import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityCriteriaDelete;
+import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityCriteriaUpdate;
 import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.query.QueryModel;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.runtime.PreparedQuery;
@@ -41,6 +45,7 @@ import io.micronaut.data.repository.jpa.criteria.DeleteSpecification;
 import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
 import io.micronaut.data.repository.jpa.criteria.QuerySpecification;
 import io.micronaut.data.repository.jpa.criteria.UpdateSpecification;
+import io.micronaut.data.runtime.config.DataConfiguration;
 import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder;
 import io.micronaut.data.runtime.intercept.AbstractQueryInterceptor;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
@@ -57,6 +62,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -76,6 +82,7 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
     private final RuntimeCriteriaBuilder criteriaBuilder;
     private final MethodContextAwareStoredQueryDecorator storedQueryDecorator;
     private final PreparedQueryDecorator preparedQueryDecorator;
+    private final CriteriaQueryResultCache queryResultCache;
 
     /**
      * Default constructor.
@@ -85,6 +92,11 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
     protected AbstractSpecificationInterceptor(RepositoryOperations operations) {
         super(operations);
         this.criteriaBuilder = operations.getApplicationContext().getBean(RuntimeCriteriaBuilder.class);
+        this.queryResultCache = new CriteriaQueryResultCache(
+                operations.getApplicationContext().findBean(DataConfiguration.CriteriaConfiguration.class)
+                        .map(DataConfiguration.CriteriaConfiguration::getQueryCacheSize)
+                        .orElse(DataConfiguration.CriteriaConfiguration.DEFAULT_QUERY_CACHE_SIZE)
+        );
         if (operations instanceof MethodContextAwareStoredQueryDecorator) {
             storedQueryDecorator = (MethodContextAwareStoredQueryDecorator) operations;
         } else if (operations instanceof StoredQueryDecorator) {
@@ -116,6 +128,7 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
                                                                           MethodInvocationContext<T, R> context,
                                                                           Type type) {
 
+        long start = startQueryBuild();
         Pageable pageable = Pageable.UNPAGED;
         for (Object param : context.getParameterValues()) {
             if (param instanceof Pageable) {
@@ -138,38 +151,40 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
 
         StoredQuery<E, ?> storedQuery;
         if (type == Type.FIND_ALL || type == Type.FIND_ONE || type == Type.FIND_PAGE) {
-            storedQuery = buildFind(context, type, pageable, sqlQueryBuilder);
+            storedQuery = buildFind(methodKey, context, type, pageable, sqlQueryBuilder);
         } else if (type == Type.COUNT) {
-            storedQuery = buildCount(context, sqlQueryBuilder);
+            storedQuery = buildCount(methodKey, context, sqlQueryBuilder);
         } else if (type == Type.DELETE_ALL) {
-            storedQuery = buildDeleteAll(context, sqlQueryBuilder);
+            storedQuery = buildDeleteAll(methodKey, context, sqlQueryBuilder);
         } else if (type == Type.UPDATE_ALL) {
-            storedQuery = buildUpdateAll(context, sqlQueryBuilder);
+            storedQuery = buildUpdateAll(methodKey, context, sqlQueryBuilder);
         } else {
             throw new IllegalStateException("Unknown criteria type: " + type);
         }
         storedQuery = storedQueryDecorator.decorate(context, storedQuery);
         PreparedQuery<E, QR> preparedQuery = (PreparedQuery<E, QR>) preparedQueryResolver.resolveQuery(context, storedQuery, pageable);
-        return preparedQueryDecorator.decorate(preparedQuery);
+        preparedQuery = preparedQueryDecorator.decorate(preparedQuery);
+        recordQueryBuild(start);
+        return preparedQuery;
     }
 
-    private <E> StoredQuery<E, ?> buildUpdateAll(MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
+    private <E> StoredQuery<E, ?> buildUpdateAll(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
         CriteriaUpdateBuilder<E> criteriaUpdateBuilder = getCriteriaUpdateBuilder(context);
         CriteriaUpdate<E> criteriaUpdate = criteriaUpdateBuilder.build(criteriaBuilder);
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaUpdate).buildQuery(sqlQueryBuilder);
+        QueryResult queryResult = buildQuery(methodKey, Type.UPDATE_ALL, criteriaUpdate, sqlQueryBuilder);
         return QueryResultStoredQuery.single(DataMethod.OperationType.UPDATE, context.getName(),
             context.getAnnotationMetadata(), queryResult, (Class<E>) criteriaUpdate.getRoot().getJavaType());
     }
 
-    private <E> StoredQuery<E, ?> buildDeleteAll(MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
+    private <E> StoredQuery<E, ?> buildDeleteAll(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
         CriteriaDeleteBuilder<E> criteriaDeleteBuilder = getCriteriaDeleteBuilder(context);
         CriteriaDelete<E> criteriaDelete = criteriaDeleteBuilder.build(criteriaBuilder);
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaDelete).buildQuery(sqlQueryBuilder);
+        QueryResult queryResult = buildQuery(methodKey, Type.DELETE_ALL, criteriaDelete, sqlQueryBuilder);
         return QueryResultStoredQuery.single(DataMethod.OperationType.DELETE, context.getName(),
             context.getAnnotationMetadata(), queryResult, (Class<E>) criteriaDelete.getRoot().getJavaType());
     }
 
-    private <E> StoredQuery<E, ?> buildCount(MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
+    private <E> StoredQuery<E, ?> buildCount(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, QueryBuilder sqlQueryBuilder) {
         StoredQuery<E, ?> storedQuery;
         Class<E> rootEntity = getRequiredRootEntity(context);
         QuerySpecification<E> specification = getQuerySpecification(context);
@@ -183,12 +198,12 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
             }
         }
         criteriaQuery.select(criteriaBuilder.count(root));
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(sqlQueryBuilder);
+        QueryResult queryResult = buildQuery(methodKey, Type.COUNT, criteriaQuery, sqlQueryBuilder);
         storedQuery = QueryResultStoredQuery.count(context.getName(), context.getAnnotationMetadata(), queryResult, rootEntity);
         return storedQuery;
     }
 
-    private <E> StoredQuery<E, Object> buildFind(MethodInvocationContext<T, R> context, Type type, Pageable pageable, QueryBuilder sqlQueryBuilder) {
+    private <E> StoredQuery<E, Object> buildFind(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, Type type, Pageable pageable, QueryBuilder sqlQueryBuilder) {
         Class<E> rootEntity = getRequiredRootEntity(context);
         CriteriaQueryBuilder<Object> builder = getCriteriaQueryBuilder(context);
         CriteriaQuery<Object> criteriaQuery = builder.build(criteriaBuilder);
@@ -205,13 +220,32 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
                 }
             }
         }
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(sqlQueryBuilder);
+        QueryResult queryResult = buildQuery(methodKey, type, criteriaQuery, sqlQueryBuilder);
         if (type == Type.FIND_ONE) {
             return QueryResultStoredQuery.single(DataMethod.OperationType.QUERY, context.getName(), context.getAnnotationMetadata(), queryResult, rootEntity, criteriaQuery.getResultType());
         }
         return QueryResultStoredQuery.many(context.getName(), context.getAnnotationMetadata(), queryResult, rootEntity, criteriaQuery.getResultType(), !pageable.isUnpaged());
     }
 
+    private QueryResult buildQuery(RepositoryMethodKey methodKey, Type type, Object criteria, QueryBuilder sqlQueryBuilder) {
+        List<Object> discriminator = Arrays.asList(methodKey, type);
+        if (criteria instanceof AbstractPersistentEntityCriteriaQuery) {
+            QueryModel queryModel = ((AbstractPersistentEntityCriteriaQuery<?>) criteria).getQueryModel();
+            return queryResultCache.buildQuery(discriminator, queryModel, null, () -> sqlQueryBuilder.buildQuery(queryModel));
+        }
+        if (criteria instanceof AbstractPersistentEntityCriteriaDelete) {
+            QueryModel queryModel = ((AbstractPersistentEntityCriteriaDelete<?>) criteria).getQueryModel();
+            return queryResultCache.buildQuery(discriminator, queryModel, null, () -> sqlQueryBuilder.buildDelete(queryModel));
+        }
+        if (criteria instanceof AbstractPersistentEntityCriteriaUpdate) {
+            AbstractPersistentEntityCriteriaUpdate<?> criteriaUpdate = (AbstractPersistentEntityCriteriaUpdate<?>) criteria;
+            QueryModel queryModel = criteriaUpdate.getQueryModel();
+            Map<String, Object> updateValues = criteriaUpdate.getUpdateValues();
+            return queryResultCache.buildQuery(discriminator, queryModel, updateValues, () -> sqlQueryBuilder.buildUpdate(queryModel, updateValues));
+        }
+        return ((QueryResultPersistentEntityCriteriaQuery) criteria).buildQuery(sqlQueryBuilder);
+    }
+
     /**
      * Find {@link io.micronaut.data.repository.jpa.criteria.QuerySpecification} in context.
      *
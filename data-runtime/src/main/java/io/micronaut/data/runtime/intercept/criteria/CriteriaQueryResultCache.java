@@ -0,0 +1,368 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept.criteria;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.jpa.criteria.impl.ParameterExpressionImpl;
+import io.micronaut.data.model.query.JoinPath;
+import io.micronaut.data.model.query.QueryModel;
+import io.micronaut.data.model.query.builder.QueryParameterBinding;
+import io.micronaut.data.model.query.builder.QueryResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The cache of the queries built from the criteria. The entries are keyed by the structure of the {@link QueryModel},
+ * the constant values of the criteria are bound as the parameters and excluded from the key.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class CriteriaQueryResultCache {
+
+    private final Map<List<Object>, CachedQueryResult> cache;
+
+    /**
+     * @param maxSize The maximum number of cached queries, zero disables the cache
+     */
+    CriteriaQueryResultCache(int maxSize) {
+        if (maxSize > 0) {
+            cache = new ConcurrentLinkedHashMap.Builder<List<Object>, CachedQueryResult>()
+                    .maximumWeightedCapacity(maxSize)
+                    .build();
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Find the cached query of the same shape or build a new one.
+     *
+     * @param discriminator The key discriminator
+     * @param queryModel    The query model
+     * @param updateValues  The update values
+     * @param queryBuilder  The query builder
+     * @return The query result with the parameter values of the query model
+     */
+    @NonNull
+    QueryResult buildQuery(@NonNull List<Object> discriminator,
+                           @NonNull QueryModel queryModel,
+                           @Nullable Map<String, Object> updateValues,
+                           @NonNull Supplier<QueryResult> queryBuilder) {
+        if (cache == null) {
+            return queryBuilder.get();
+        }
+        ShapeCollector shape = new ShapeCollector(discriminator);
+        shape.collect(queryModel, updateValues);
+        if (!shape.cacheable) {
+            return queryBuilder.get();
+        }
+        CachedQueryResult cachedQueryResult = cache.get(shape.key);
+        if (cachedQueryResult != null) {
+            return cachedQueryResult.withValues(shape.values);
+        }
+        QueryResult queryResult = queryBuilder.get();
+        int[] valueIndexes = resolveValueIndexes(queryResult.getParameterBindings(), shape.values);
+        if (valueIndexes != null) {
+            cache.put(shape.key, new CachedQueryResult(queryResult, valueIndexes));
+        }
+        return queryResult;
+    }
+
+    /**
+     * Maps the parameter bindings to the collected values. The query is only cacheable if every binding value
+     * is identified by one of the collected values.
+     *
+     * @param parameterBindings The parameter bindings
+     * @param values            The collected values
+     * @return The value index for each binding or null if the bindings cannot be resolved
+     */
+    @Nullable
+    private static int[] resolveValueIndexes(List<QueryParameterBinding> parameterBindings, List<Object> values) {
+        int[] valueIndexes = new int[parameterBindings.size()];
+        for (int i = 0; i < valueIndexes.length; i++) {
+            QueryParameterBinding binding = parameterBindings.get(i);
+            if (binding.isAutoPopulated()) {
+                valueIndexes[i] = -1;
+                continue;
+            }
+            Object value = binding.getValue();
+            int index = -1;
+            for (int j = 0; j < values.size(); j++) {
+                if (values.get(j) == value) {
+                    if (index != -1) {
+                        // The same instance is used more than once, cannot decide which parameter it belongs to
+                        return null;
+                    }
+                    index = j;
+                }
+            }
+            if (index == -1) {
+                return null;
+            }
+            valueIndexes[i] = index;
+        }
+        return valueIndexes;
+    }
+
+    /**
+     * Collects the structure of the query model and the parameter values.
+     */
+    private static final class ShapeCollector {
+
+        private final List<Object> key;
+        private final List<Object> values = new ArrayList<>();
+        private boolean cacheable = true;
+
+        private ShapeCollector(List<Object> discriminator) {
+            this.key = new ArrayList<>(discriminator);
+        }
+
+        private void collect(QueryModel queryModel, @Nullable Map<String, Object> updateValues) {
+            key.add(queryModel.getPersistentEntity().getName());
+            if (updateValues != null) {
+                key.add(updateValues.size());
+                for (Map.Entry<String, Object> e : updateValues.entrySet()) {
+                    key.add(e.getKey());
+                    value(e.getValue());
+                }
+            }
+            criterion(queryModel.getCriteria());
+            List<QueryModel.Projection> projections = queryModel.getProjections();
+            key.add(projections.size());
+            for (QueryModel.Projection projection : projections) {
+                projection(projection);
+            }
+            key.add(queryModel.getJoinPaths().size());
+            for (JoinPath joinPath : queryModel.getJoinPaths()) {
+                key.add(joinPath.getPath());
+                key.add(joinPath.getJoinType());
+                key.add(joinPath.getAlias().orElse(null));
+            }
+            List<Sort.Order> orderBy = queryModel.getSort().getOrderBy();
+            key.add(orderBy.size());
+            for (Sort.Order order : orderBy) {
+                key.add(order.getProperty());
+                key.add(order.getDirection());
+                key.add(order.isIgnoreCase());
+            }
+            key.add(queryModel.getMax());
+            key.add(queryModel.getOffset());
+            key.add(queryModel.isForUpdate());
+        }
+
+        private void criterion(QueryModel.Criterion criterion) {
+            if (!cacheable) {
+                return;
+            }
+            Class<?> type = criterion.getClass();
+            if (type.getDeclaringClass() != QueryModel.class) {
+                cacheable = false;
+                return;
+            }
+            key.add(type);
+            if (criterion instanceof QueryModel.Junction) {
+                List<QueryModel.Criterion> criteria = ((QueryModel.Junction) criterion).getCriteria();
+                key.add(criteria.size());
+                for (QueryModel.Criterion c : criteria) {
+                    criterion(c);
+                }
+            } else if (criterion instanceof QueryModel.Between) {
+                QueryModel.Between between = (QueryModel.Between) criterion;
+                key.add(between.getProperty());
+                value(between.getFrom());
+                value(between.getTo());
+            } else if (criterion instanceof QueryModel.PropertyCriterion) {
+                QueryModel.PropertyCriterion propertyCriterion = (QueryModel.PropertyCriterion) criterion;
+                key.add(propertyCriterion.getProperty());
+                key.add(propertyCriterion.isIgnoreCase());
+                value(propertyCriterion.getValue());
+            } else if (criterion instanceof QueryModel.PropertyComparisonCriterion) {
+                QueryModel.PropertyComparisonCriterion comparisonCriterion = (QueryModel.PropertyComparisonCriterion) criterion;
+                key.add(comparisonCriterion.getProperty());
+                key.add(comparisonCriterion.getOtherProperty());
+            } else if (criterion instanceof QueryModel.PropertyNameCriterion) {
+                key.add(((QueryModel.PropertyNameCriterion) criterion).getProperty());
+            } else {
+                // Subqueries
+                cacheable = false;
+            }
+        }
+
+        private void projection(QueryModel.Projection projection) {
+            Class<?> type = projection.getClass();
+            if (type.getDeclaringClass() != QueryModel.class || projection instanceof QueryModel.LiteralProjection) {
+                cacheable = false;
+                return;
+            }
+            key.add(type);
+            if (projection instanceof QueryModel.PropertyProjection) {
+                QueryModel.PropertyProjection propertyProjection = (QueryModel.PropertyProjection) projection;
+                key.add(propertyProjection.getPropertyName());
+                key.add(propertyProjection.getAlias().orElse(null));
+            }
+        }
+
+        private void value(Object value) {
+            if (value instanceof ParameterExpressionImpl) {
+                // The parameter is bound at the runtime, only the value is changing
+                key.add(((ParameterExpressionImpl<?>) value).getParameterType());
+                values.add(((ParameterExpressionImpl<?>) value).getValue());
+            } else {
+                // The value can be inlined into the query
+                cacheable = false;
+            }
+        }
+    }
+
+    /**
+     * The cached query result.
+     */
+    private static final class CachedQueryResult {
+
+        private final QueryResult queryResult;
+        private final int[] valueIndexes;
+
+        private CachedQueryResult(QueryResult queryResult, int[] valueIndexes) {
+            this.queryResult = queryResult;
+            this.valueIndexes = valueIndexes;
+        }
+
+        private QueryResult withValues(List<Object> values) {
+            List<QueryParameterBinding> cachedBindings = queryResult.getParameterBindings();
+            List<QueryParameterBinding> parameterBindings = new ArrayList<>(cachedBindings.size());
+            for (int i = 0; i < valueIndexes.length; i++) {
+                QueryParameterBinding binding = cachedBindings.get(i);
+                int valueIndex = valueIndexes[i];
+                parameterBindings.add(valueIndex == -1 ? binding : new ValueQueryParameterBinding(binding, values.get(valueIndex)));
+            }
+            return new QueryResult() {
+
+                @Override
+                public String getQuery() {
+                    return queryResult.getQuery();
+                }
+
+                @Override
+                public String getUpdate() {
+                    return queryResult.getUpdate();
+                }
+
+                @Override
+                public String getAggregate() {
+                    return queryResult.getAggregate();
+                }
+
+                @Override
+                public List<String> getQueryParts() {
+                    return queryResult.getQueryParts();
+                }
+
+                @Override
+                public List<QueryParameterBinding> getParameterBindings() {
+                    return parameterBindings;
+                }
+
+                @Override
+                public Map<String, String> getAdditionalRequiredParameters() {
+                    return queryResult.getAdditionalRequiredParameters();
+                }
+
+                @Override
+                public int getMax() {
+                    return queryResult.getMax();
+                }
+
+                @Override
+                public long getOffset() {
+                    return queryResult.getOffset();
+                }
+            };
+        }
+    }
+
+    /**
+     * The cached binding with a new value.
+     */
+    private static final class ValueQueryParameterBinding implements QueryParameterBinding {
+
+        private final QueryParameterBinding binding;
+        private final Object value;
+
+        private ValueQueryParameterBinding(QueryParameterBinding binding, Object value) {
+            this.binding = binding;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return binding.getKey();
+        }
+
+        @Override
+        public DataType getDataType() {
+            return binding.getDataType();
+        }
+
+        @Override
+        public String getConverterClassName() {
+            return binding.getConverterClassName();
+        }
+
+        @Override
+        public int getParameterIndex() {
+            return binding.getParameterIndex();
+        }
+
+        @Override
+        public String[] getParameterBindingPath() {
+            return binding.getParameterBindingPath();
+        }
+
+        @Override
+        public String[] getPropertyPath() {
+            return binding.getPropertyPath();
+        }
+
+        @Override
+        public boolean isAutoPopulated() {
+            return binding.isAutoPopulated();
+        }
+
+        @Override
+        public boolean isRequiresPreviousPopulatedValue() {
+            return binding.isRequiresPreviousPopulatedValue();
+        }
+
+        @Override
+        public boolean isExpandable() {
+            return binding.isExpandable();
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+    }
+}
@@ -20,13 +20,17 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.reactive.FindPageReactiveInterceptor;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 /**
  * Default implementation of {@link FindPageReactiveInterceptor}.
  *
@@ -48,6 +52,13 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
     public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            Pageable pageable = preparedQuery.getPageable();
+            if (pageable instanceof CursoredPageable) {
+                // The cursored page doesn't compute the total size
+                return Flux.from(reactiveOperations.findAll(preparedQuery))
+                    .collectList()
+                    .map(list -> createCursoredPage((List<Object>) list, (CursoredPageable) pageable));
+            }
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
             TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * An optional capability of a column name based {@link ResultReader} that allows to translate a column name into the column index.
+ * Mappers can resolve the column indexes once per result set and read the following rows by index.
+ *
+ * @param <RS> The result set type
+ * @since 3.6.0
+ */
+public interface ColumnIndexResolver<RS> {
+
+    /**
+     * Resolves the index of the column.
+     *
+     * @param resultSet  The result set
+     * @param columnName The column name
+     * @return The column index or -1 if the column cannot be resolved
+     */
+    int findColumnIndex(@NonNull RS resultSet, @NonNull String columnName);
+
+    /**
+     * @return The reader to be used with the resolved column indexes
+     */
+    @NonNull
+    ResultReader<RS, Integer> getColumnIndexReader();
+
+}
@@ -136,8 +136,8 @@ public class DTOMapper<T, S, R> implements BeanIntrospectionMapper<S, R> {
         String propertyName = property.getPersistedName();
         DataType dataType = property.getDataType();
         if (dataType == DataType.JSON && jsonCodec != null) {
-            String data = resultReader.readString(resultSet, propertyName);
-            return jsonCodec.decode(property.getArgument(), data);
+            Object data = resultReader.readJson(resultSet, propertyName);
+            return data == null ? null : JsonValues.decode(jsonCodec, property.getArgument(), data);
         } else {
             return read(resultSet, propertyName, dataType);
         }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.codec.MediaTypeCodec;
+
+import java.io.InputStream;
+
+/**
+ * Decodes the raw JSON values read by {@link ResultReader#readJson(Object, Object)}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+public final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    /**
+     * Decodes the JSON value without copying the bytes or the stream provided by the driver into a string.
+     *
+     * @param jsonCodec The JSON codec
+     * @param argument  The argument to decode
+     * @param value     The raw JSON value
+     * @param <T>       The decoded type
+     * @return The decoded value
+     */
+    public static <T> T decode(@NonNull MediaTypeCodec jsonCodec, @NonNull Argument<T> argument, @NonNull Object value) {
+        if (value instanceof byte[]) {
+            return jsonCodec.decode(argument, (byte[]) value);
+        }
+        if (value instanceof InputStream) {
+            return jsonCodec.decode(argument, (InputStream) value);
+        }
+        return jsonCodec.decode(argument, value.toString());
+    }
+}
@@ -185,6 +185,18 @@ public interface ResultReader<RS, IDX> {
         return getRequiredValue(resultSet, name, String.class);
     }
 
+    /**
+     * Read a JSON value for the given name. The implementations can return the raw bytes or a stream of the value
+     * provided by the driver to avoid copying it into a string before decoding it.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The JSON value as a string, a byte array or an input stream
+     * @since 3.6.0
+     */
+    default @Nullable Object readJson(RS resultSet, IDX name) {
+        return readString(resultSet, name);
+    }
+
     /**
      * Read a UUID value for the given name.
      * @param resultSet The result set
@@ -45,6 +45,8 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.runtime.convert.DataConversionService;
+import io.micronaut.data.runtime.mapper.ColumnIndexResolver;
+import io.micronaut.data.runtime.mapper.JsonValues;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.http.codec.MediaTypeCodec;
 
@@ -80,6 +82,11 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private final MediaTypeCodec jsonCodec;
     private final DataConversionService<?> conversionService;
     private final BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener;
+    private final ColumnIndexResolver<RS> columnIndexResolver;
+    private final ResultReader<RS, Integer> columnIndexReader;
+    private final MappingPlan rootPlan;
+    private RS indexedResultSet;
+    private int indexedResultSetGeneration;
     private boolean callNext = true;
 
     /**
@@ -154,6 +161,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         ArgumentUtils.requireNonNull("entity", entity);
         ArgumentUtils.requireNonNull("resultReader", resultReader);
         this.entity = entity;
+        this.rootPlan = new MappingPlan(entity, Collections.emptyList(), Collections.emptyList(), null);
         this.jsonCodec = jsonCodec;
         this.resultReader = resultReader;
         this.eventListener = eventListener;
@@ -166,6 +174,13 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.joinPaths = Collections.emptyMap();
         }
         this.startingPrefix = startingPrefix;
+        if (resultReader instanceof ColumnIndexResolver) {
+            this.columnIndexResolver = (ColumnIndexResolver<RS>) resultReader;
+            this.columnIndexReader = columnIndexResolver.getColumnIndexReader();
+        } else {
+            this.columnIndexResolver = null;
+            this.columnIndexReader = null;
+        }
     }
 
     @Override
@@ -192,7 +207,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     @NonNull
     @Override
     public R map(@NonNull RS rs, @NonNull Class<R> type) throws DataAccessException {
-        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix), null, null);
+        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix, rootPlan), null, null);
         if (entityInstance == null) {
             throw new DataAccessException("Unable to map result to entity of type [" + type.getName() + "]. Missing result data.");
         }
@@ -250,7 +265,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     public PushingMapper<RS, R> readOneWithJoins() {
         return new PushingMapper<RS, R>() {
 
-            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, rootPlan);
             R entityInstance;
 
             @Override
@@ -290,7 +305,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
             @Override
             public void processRow(RS row) {
-                MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, rootPlan);
                 Object id = readEntityId(row, ctx);
                 if (id == null) {
                     throw new IllegalStateException("Entity doesn't have an id!");
@@ -317,6 +332,54 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         };
     }
 
+    /**
+     * Read multiple entities with a pushing mapper that completes the entity as soon as the id of the root entity changes.
+     * The rows of the same root entity must be adjacent, usually by ordering the query by the root entity id.
+     *
+     * @return The pushing mapper
+     * @since 3.6.0
+     */
+    public IncrementalPushingMapper<RS, R> readAllWithJoinsIncrementally() {
+        return new IncrementalPushingMapper<RS, R>() {
+
+            MappingContext<R> current;
+            Object currentId;
+
+            @Override
+            public R processRow(RS row) {
+                MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, rootPlan);
+                Object id = readEntityId(row, ctx);
+                if (id == null) {
+                    throw new IllegalStateException("Entity doesn't have an id!");
+                }
+                if (current != null && id.equals(currentId)) {
+                    readChildren(row, current.entity, null, current);
+                    return null;
+                }
+                R completed = complete();
+                ctx.entity = readEntity(row, ctx, null, id);
+                current = ctx;
+                currentId = id;
+                return completed;
+            }
+
+            @Override
+            public R finish() {
+                R completed = complete();
+                current = null;
+                currentId = null;
+                return completed;
+            }
+
+            private R complete() {
+                if (current == null) {
+                    return null;
+                }
+                return (R) setChildrenAndTriggerPostLoad(current.entity, current, null);
+            }
+        };
+    }
+
     private void readChildren(RS rs, Object instance, Object parent, MappingContext<R> ctx) {
         if (ctx.manyAssociations != null) {
             Object id = readEntityId(rs, ctx);
@@ -395,6 +458,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         RuntimePersistentEntity<K> persistentEntity = ctx.persistentEntity;
         BeanIntrospection<K> introspection = persistentEntity.getIntrospection();
         RuntimePersistentProperty<K>[] constructorArguments = persistentEntity.getConstructorArguments();
+        MappingPlan plan = ctx.resolvedPlan();
         try {
             RuntimePersistentProperty<K> identity = persistentEntity.getIdentity();
             final boolean isAssociation = ctx.association != null;
@@ -460,7 +524,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                             if (resolveId != null && prop.equals(identity)) {
                                 v = resolveId;
                             } else {
-                                v = readProperty(rs, ctx, prop);
+                                v = readProperty(rs, plan.constructorColumns[i], prop);
                                 if (v == null) {
                                     if (!prop.isOptional() && !nullableEmbedded) {
                                         AnnotationMetadata entityAnnotationMetadata = ctx.persistentEntity.getAnnotationMetadata();
@@ -494,12 +558,14 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             }
             RuntimePersistentProperty<K> version = persistentEntity.getVersion();
             if (version != null) {
-                Object v = readProperty(rs, ctx, version);
+                Object v = readProperty(rs, plan.versionColumn, version);
                 if (v != null) {
                     entity = (K) convertAndSetWithValue(entity, version, version.getProperty(), v);
                 }
             }
-            for (RuntimePersistentProperty<K> rpp : persistentEntity.getPersistentProperties()) {
+            RuntimePersistentProperty<K>[] properties = (RuntimePersistentProperty<K>[]) plan.properties;
+            for (int i = 0; i < properties.length; i++) {
+                RuntimePersistentProperty<K> rpp = properties[i];
                 if (rpp.isReadOnly()) {
                     continue;
                 } else if (rpp.isConstructorArgument()) {
@@ -555,7 +621,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                         }
                     }
                 } else {
-                    Object v = readProperty(rs, ctx, rpp);
+                    Object v = readProperty(rs, plan.propertyColumns[i], rpp);
                     if (v != null) {
                         entity = (K) convertAndSetWithValue(entity, rpp, property, v);
                     }
@@ -567,22 +633,43 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
     }
 
-    private <K> Object readProperty(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
-        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
-        if (ctx.prefix != null && ctx.prefix.length() != 0) {
-            columnName = ctx.prefix + columnName;
-        }
-        Object result = resultReader.readDynamic(rs, columnName, prop.getDataType());
+    private <K> Object readProperty(RS rs, MappedColumn column, RuntimePersistentProperty<K> prop) {
+        Object result;
+        int columnIndex = resolveColumnIndex(rs, column);
         AttributeConverter<Object, Object> converter = prop.getConverter();
+        if (jsonCodec != null && converter == null && prop.getDataType() == DataType.JSON && !CharSequence.class.isAssignableFrom(prop.getType())) {
+            // Read the raw value to decode it without an intermediate string, the converters receive the value as before
+            result = columnIndex == -1 ? resultReader.readJson(rs, column.name) : columnIndexReader.readJson(rs, columnIndex);
+        } else if (columnIndex == -1) {
+            result = resultReader.readDynamic(rs, column.name, prop.getDataType());
+        } else {
+            result = columnIndexReader.readDynamic(rs, columnIndex, prop.getDataType());
+        }
         if (converter != null) {
             return converter.convertToEntityValue(result, ConversionContext.of((Argument) prop.getArgument()));
         }
         return result;
     }
 
+    private int resolveColumnIndex(RS rs, MappedColumn column) {
+        if (columnIndexResolver == null) {
+            return -1;
+        }
+        if (rs != indexedResultSet) {
+            // The resolved indexes are only valid for the result set they were resolved from
+            indexedResultSet = rs;
+            indexedResultSetGeneration++;
+        }
+        if (column.generation != indexedResultSetGeneration) {
+            column.index = columnIndexResolver.findColumnIndex(rs, column.name);
+            column.generation = indexedResultSetGeneration;
+        }
+        return column.index;
+    }
+
     private <K> K triggerPostLoad(RuntimePersistentEntity<?> persistentEntity, K entity) {
         K finalEntity;
-        if (eventListener != null && persistentEntity.hasPostLoadEventListeners()) {
+        if (eventListener != null) {
             finalEntity = (K) eventListener.apply((RuntimePersistentEntity<Object>) persistentEntity, entity);
         } else {
             finalEntity = entity;
@@ -599,7 +686,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         if (identity instanceof Embedded) {
             return readEntity(rs, ctx.embedded((Embedded) identity), null, null);
         }
-        return readProperty(rs, ctx, identity);
+        return readProperty(rs, ctx.resolvedPlan().identityColumn, identity);
     }
 
     private Object convertAndSetWithValue(Object entity, RuntimePersistentProperty<?> rpp, BeanProperty property, Object v) {
@@ -620,7 +707,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
         if (jsonCodec != null && rpp.getDataType() == DataType.JSON) {
             try {
-                return jsonCodec.decode(rpp.getArgument(), v.toString());
+                return JsonValues.decode(jsonCodec, rpp.getArgument(), v);
             } catch (Exception e) {
                 // Ignore and try basic convert
             }
@@ -669,6 +756,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         private final List<Association> joinPath;
         private final List<Association> embeddedPath;
         private final Association association;
+        private final MappingPlan plan;
 
         private Map<Object, MappingContext> manyAssociations;
         private Map<Association, MappingContext> associations;
@@ -682,7 +770,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                                JoinPath jp,
                                List<Association> joinPath,
                                List<Association> embeddedPath,
-                               Association association) {
+                               Association association,
+                               MappingPlan plan) {
             this.rootPersistentEntity = rootPersistentEntity;
             this.persistentEntity = persistentEntity;
             this.namingStrategy = namingStrategy;
@@ -691,18 +780,30 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.joinPath = joinPath;
             this.embeddedPath = embeddedPath;
             this.association = association;
+            this.plan = plan;
         }
 
-        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix) {
+        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix, MappingPlan plan) {
             return new MappingContext<>(
                     persistentEntity,
                     persistentEntity,
                     persistentEntity.getNamingStrategy(),
                     prefix,
                     null,
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    null);
+                    plan.joinPath,
+                    plan.embeddedPath,
+                    null,
+                    plan);
+        }
+
+        /**
+         * @return The plan with the columns of the entity properties resolved
+         */
+        public MappingPlan resolvedPlan() {
+            if (plan.properties == null) {
+                plan.resolveColumns(namingStrategy, prefix);
+            }
+            return plan;
         }
 
         public <K> MappingContext<K> embedded(Embedded embedded) {
@@ -714,6 +815,11 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
         public <K> MappingContext<K> path(Association association) {
             RuntimePersistentEntity<K> associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
+            MappingPlan pathPlan = plan.paths.get(association.getName());
+            if (pathPlan == null) {
+                pathPlan = new MappingPlan(associatedEntity, joinPath, associated(embeddedPath, association), jp);
+                plan.paths.put(association.getName(), pathPlan);
+            }
             return new MappingContext<>(
                     rootPersistentEntity,
                     associatedEntity,
@@ -721,8 +827,9 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     prefix,
                     jp,
                     joinPath,
-                    associated(embeddedPath, association),
-                    association
+                    pathPlan.embeddedPath,
+                    association,
+                    pathPlan
             );
         }
 
@@ -751,28 +858,45 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     embeddedPath,
-                    association
+                    association,
+                    plan
             );
             return ctx;
         }
 
         private <K> MappingContext<K> joinAssociation(Map<String, JoinPath> joinPaths, Association association) {
-            JoinPath jp = findJoinPath(joinPaths, association);
             RuntimePersistentEntity<K> associatedEntity = (RuntimePersistentEntity<K>) association.getAssociatedEntity();
+            MappingPlan joinPlan = plan.associations.get(association.getName());
+            if (joinPlan == null) {
+                joinPlan = new MappingPlan(
+                        associatedEntity,
+                        associated(this.joinPath, association),
+                        Collections.emptyList(), // Reset path
+                        findJoinPath(joinPaths, association)
+                );
+                plan.associations.put(association.getName(), joinPlan);
+            }
+            JoinPath jp = joinPlan.jp;
             return new MappingContext<>(
                     rootPersistentEntity,
                     associatedEntity,
                     associatedEntity.getNamingStrategy(),
                     jp == null ? prefix : jp.getAlias().orElse(prefix),
                     jp,
-                    associated(this.joinPath, association),
-                    Collections.emptyList(), // Reset path,
-                    association
+                    joinPlan.joinPath,
+                    joinPlan.embeddedPath,
+                    association,
+                    joinPlan
             );
         }
 
         private <K> MappingContext<K> embeddedAssociation(Embedded embedded) {
             RuntimePersistentEntity<K> associatedEntity = (RuntimePersistentEntity) embedded.getAssociatedEntity();
+            MappingPlan embeddedPlan = plan.associations.get(embedded.getName());
+            if (embeddedPlan == null) {
+                embeddedPlan = new MappingPlan(associatedEntity, joinPath, associated(embeddedPath, embedded), jp);
+                plan.associations.put(embedded.getName(), embeddedPlan);
+            }
             return new MappingContext<>(
                     rootPersistentEntity,
                     associatedEntity,
@@ -780,8 +904,9 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     prefix,
                     jp,
                     joinPath,
-                    associated(embeddedPath, embedded),
-                    embedded
+                    embeddedPlan.embeddedPath,
+                    embedded,
+                    embeddedPlan
             );
         }
 
@@ -859,6 +984,118 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The precomputed mapping of one mapping context shape. The mapping contexts are recreated for every row,
+     * the plan keeps the column names, join paths and resolved column indexes of the shape so that they are computed only once.
+     * The columns are kept in arrays indexed by the position of the property in the persistent properties and
+     * in the constructor arguments of the entity, the rows are read without looking up the properties by name.
+     */
+    private static final class MappingPlan {
+
+        private final RuntimePersistentEntity<?> persistentEntity;
+        private final List<Association> joinPath;
+        private final List<Association> embeddedPath;
+        private final JoinPath jp;
+        private final Map<String, MappingPlan> paths = new HashMap<>();
+        private final Map<String, MappingPlan> associations = new HashMap<>();
+        private RuntimePersistentProperty<?>[] properties;
+        private MappedColumn[] propertyColumns;
+        private MappedColumn[] constructorColumns;
+        private MappedColumn identityColumn;
+        private MappedColumn versionColumn;
+
+        private MappingPlan(RuntimePersistentEntity<?> persistentEntity, List<Association> joinPath, List<Association> embeddedPath, JoinPath jp) {
+            this.persistentEntity = persistentEntity;
+            this.joinPath = joinPath;
+            this.embeddedPath = embeddedPath;
+            this.jp = jp;
+        }
+
+        /**
+         * Resolves the columns of the properties, the associations are read by their own mapping context and have no column.
+         *
+         * @param namingStrategy The naming strategy of the mapping context
+         * @param prefix         The column prefix of the mapping context
+         */
+        private void resolveColumns(NamingStrategy namingStrategy, String prefix) {
+            RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+            identityColumn = identity == null || identity instanceof Embedded ? null : column(namingStrategy, prefix, identity);
+            RuntimePersistentProperty<?> version = persistentEntity.getVersion();
+            versionColumn = version == null ? null : column(namingStrategy, prefix, version);
+            RuntimePersistentProperty<?>[] constructorArguments = persistentEntity.getConstructorArguments();
+            constructorColumns = new MappedColumn[constructorArguments.length];
+            for (int i = 0; i < constructorArguments.length; i++) {
+                RuntimePersistentProperty<?> argument = constructorArguments[i];
+                if (argument == identity) {
+                    constructorColumns[i] = identityColumn;
+                } else if (argument == version) {
+                    constructorColumns[i] = versionColumn;
+                } else if (argument != null && !(argument instanceof Association)) {
+                    constructorColumns[i] = column(namingStrategy, prefix, argument);
+                }
+            }
+            RuntimePersistentProperty<?>[] persistentProperties = persistentEntity.getPersistentProperties().toArray(new RuntimePersistentProperty[0]);
+            propertyColumns = new MappedColumn[persistentProperties.length];
+            for (int i = 0; i < persistentProperties.length; i++) {
+                RuntimePersistentProperty<?> property = persistentProperties[i];
+                if (!(property instanceof Association)) {
+                    propertyColumns[i] = column(namingStrategy, prefix, property);
+                }
+            }
+            properties = persistentProperties;
+        }
+
+        private MappedColumn column(NamingStrategy namingStrategy, String prefix, RuntimePersistentProperty<?> property) {
+            String columnName = namingStrategy.mappedName(embeddedPath, property);
+            if (prefix != null && prefix.length() != 0) {
+                columnName = prefix + columnName;
+            }
+            return new MappedColumn(columnName);
+        }
+    }
+
+    /**
+     * The mapped column with the index resolved for the current result set.
+     */
+    private static final class MappedColumn {
+
+        private final String name;
+        private int index = -1;
+        private int generation;
+
+        private MappedColumn(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The pushing mapper that emits the entity as soon as all its rows are processed.
+     *
+     * @param <RS> The row type
+     * @param <R>  The result type
+     * @since 3.6.0
+     */
+    public interface IncrementalPushingMapper<RS, R> {
+
+        /**
+         * Process row.
+         *
+         * @param row The row
+         * @return The previous entity if the row belongs to a new entity, otherwise null
+         */
+        @Nullable
+        R processRow(@NonNull RS row);
+
+        /**
+         * Completes the last entity after all the rows were processed.
+         *
+         * @return The last entity or null if no rows were processed
+         */
+        @Nullable
+        R finish();
+
+    }
+
     /**
      * The pushing mapper helper interface.
      *
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.intercept.DataInterceptor;
+import io.micronaut.data.intercept.DataInterceptorInstrumenter;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.model.Slice;
+import io.micronaut.data.runtime.config.DataConfiguration;
+import io.micronaut.data.runtime.config.DataSettings;
+import io.micronaut.data.runtime.intercept.AbstractQueryInterceptor;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Instruments the repository methods with Micrometer meters. The meters are tagged by the repository, the method,
+ * the operation, the data source and the timers also by the outcome.
+ *
+ * @since 3.6.0
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerRepositoryMetrics.ENABLED, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+@Internal
+public final class MicrometerRepositoryMetrics implements DataInterceptorInstrumenter {
+
+    /**
+     * The property that enables the metrics.
+     */
+    public static final String ENABLED = DataSettings.PREFIX + "." + DataConfiguration.MetricsConfiguration.PREFIX + ".enabled";
+    /**
+     * The timer of the repository method invocations.
+     */
+    public static final String METHOD_TIMER = "micronaut.data.repository.method";
+    /**
+     * The timer of the query preparation.
+     */
+    public static final String QUERY_BUILD_TIMER = "micronaut.data.repository.query.build";
+    /**
+     * The summary of the rows mapped by the find operations.
+     */
+    public static final String ROWS_SUMMARY = "micronaut.data.repository.rows";
+    /**
+     * The summary of the sizes of the batch operations.
+     */
+    public static final String BATCH_SIZE_SUMMARY = "micronaut.data.repository.batch.size";
+
+    private static final String DEFAULT_DATA_SOURCE = "default";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String INTERCEPTED_SUFFIX = "$Intercepted";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistry The meter registry
+     */
+    public MicrometerRepositoryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @NonNull
+    @Override
+    public DataInterceptor<Object, Object> instrument(@NonNull DataInterceptor<Object, Object> interceptor,
+                                                      @NonNull MethodInvocationContext<Object, Object> context,
+                                                      @Nullable String dataSourceName) {
+        String operation = operationName(interceptor);
+        Tags tags = Tags.of(
+                "repository", repositoryName(context.getTarget()),
+                "method", context.getMethodName(),
+                "operation", operation,
+                "datasource", dataSourceName == null ? DEFAULT_DATA_SOURCE : dataSourceName
+        );
+        if (interceptor instanceof AbstractQueryInterceptor) {
+            Timer queryBuildTimer = Timer.builder(QUERY_BUILD_TIMER)
+                    .description("The time spent preparing the queries of the repository method")
+                    .tags(tags)
+                    .register(meterRegistry);
+            ((AbstractQueryInterceptor<?, ?>) interceptor).setQueryBuildRecorder(nanos -> queryBuildTimer.record(nanos, TimeUnit.NANOSECONDS));
+        }
+        DistributionSummary rows = null;
+        if (operation.startsWith("find")) {
+            rows = DistributionSummary.builder(ROWS_SUMMARY)
+                    .description("The number of rows mapped by the repository method")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+        DistributionSummary batchSize = null;
+        if (!operation.startsWith("find") && (operation.endsWith("-all") || operation.contains("-all-"))) {
+            batchSize = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                    .description("The number of entities of the batch operation")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+        return new InstrumentedDataInterceptor(interceptor, tags, rows, batchSize);
+    }
+
+    private static String operationName(DataInterceptor<?, ?> interceptor) {
+        String name = interceptor.getClass().getSimpleName();
+        if (name.startsWith("Default")) {
+            name = name.substring("Default".length());
+        }
+        if (name.endsWith("Interceptor")) {
+            name = name.substring(0, name.length() - "Interceptor".length());
+        }
+        return NameUtils.hyphenate(name);
+    }
+
+    private static String repositoryName(Object target) {
+        Class<?> type = target.getClass();
+        if (type.getSimpleName().endsWith(INTERCEPTED_SUFFIX)) {
+            if (type.getSuperclass() != Object.class) {
+                type = type.getSuperclass();
+            } else if (type.getInterfaces().length > 0) {
+                type = type.getInterfaces()[0];
+            }
+        }
+        return type.getSimpleName();
+    }
+
+    /**
+     * Records the meters of a repository method.
+     */
+    private final class InstrumentedDataInterceptor implements DataInterceptor<Object, Object> {
+
+        private final DataInterceptor<Object, Object> interceptor;
+        private final Tags tags;
+        private final Timer successTimer;
+        @Nullable
+        private final DistributionSummary rows;
+        @Nullable
+        private final DistributionSummary batchSize;
+
+        private InstrumentedDataInterceptor(DataInterceptor<Object, Object> interceptor,
+                                            Tags tags,
+                                            @Nullable DistributionSummary rows,
+                                            @Nullable DistributionSummary batchSize) {
+            this.interceptor = interceptor;
+            this.tags = tags;
+            this.successTimer = timer(OUTCOME_SUCCESS);
+            this.rows = rows;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+            if (batchSize != null) {
+                recordBatchSize(context);
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = interceptor.intercept(methodKey, context);
+            } catch (RuntimeException e) {
+                record(start, e);
+                throw e;
+            }
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).whenComplete((value, throwable) -> {
+                    if (throwable == null) {
+                        recordRows(value);
+                    }
+                    record(start, throwable);
+                });
+            }
+            if (result instanceof Publisher) {
+                Publisher<?> publisher = (Publisher<?>) result;
+                return Flux.defer(() -> {
+                    long subscribed = System.nanoTime();
+                    long[] count = new long[1];
+                    return Flux.from(publisher)
+                            .doOnNext(value -> count[0]++)
+                            .doOnComplete(() -> {
+                                if (rows != null) {
+                                    rows.record(count[0]);
+                                }
+                                record(subscribed, null);
+                            })
+                            .doOnError(throwable -> record(subscribed, throwable));
+                });
+            }
+            recordRows(result);
+            record(start, null);
+            return result;
+        }
+
+        private void recordBatchSize(MethodInvocationContext<Object, Object> context) {
+            Object[] parameterValues = context.getParameterValues();
+            // Other iterables can only be iterated once, the operation consumes them
+            if (parameterValues.length > 0 && parameterValues[0] instanceof Collection) {
+                batchSize.record(((Collection<?>) parameterValues[0]).size());
+            }
+        }
+
+        private void recordRows(@Nullable Object result) {
+            if (rows == null || result == null) {
+                return;
+            }
+            if (result instanceof Collection) {
+                rows.record(((Collection<?>) result).size());
+            } else if (result instanceof Slice) {
+                rows.record(((Slice<?>) result).getNumberOfElements());
+            } else if (result instanceof Optional) {
+                rows.record(((Optional<?>) result).isPresent() ? 1 : 0);
+            } else if (!(result instanceof Iterable) && !(result instanceof BaseStream)) {
+                rows.record(1);
+            }
+        }
+
+        private void record(long start, @Nullable Throwable throwable) {
+            long duration = System.nanoTime() - start;
+            if (throwable == null) {
+                successTimer.record(duration, TimeUnit.NANOSECONDS);
+            } else {
+                if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                    throwable = throwable.getCause();
+                }
+                timer(throwable.getClass().getSimpleName()).record(duration, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(METHOD_TIMER)
+                    .description("The execution time of the repository method")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -58,8 +58,9 @@ public class ExecutorAsyncOperations implements AsyncRepositoryOperations {
     }
 
     private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
-        Supplier<T> decoratedTxSupplier = TransactionSynchronizationManager.decorateToPropagateState(supplier);
-        return CompletableFuture.supplyAsync(decoratedTxSupplier, executor);
+        // The state is always set and restored, a pooled thread doesn't keep the state created by a previous operation
+        TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
+        return CompletableFuture.supplyAsync(() -> TransactionSynchronizationManager.withState(state, supplier), executor);
     }
 
     @Override
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+import java.util.function.Supplier;
+
+/**
+ * Repository operations capable of reading the content and the total size of a page with a single query.
+ *
+ * @since 3.6.0
+ */
+public interface SingleQueryPageOperations {
+
+    /**
+     * Finds a page reading its total size from the page query. The count query is only executed if the total size
+     * cannot be determined from the returned rows.
+     *
+     * @param preparedQuery The prepared query of the page content
+     * @param countQuery    The supplier of the count query
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The page or null if the page cannot be read with a single query
+     */
+    @Nullable
+    <T, R> Page<R> findPage(@NonNull PreparedQuery<T, R> preparedQuery, @NonNull Supplier<PreparedQuery<?, Number>> countQuery);
+}
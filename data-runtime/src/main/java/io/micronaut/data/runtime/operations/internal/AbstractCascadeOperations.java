@@ -33,8 +33,10 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 
 /**
  * Abstract cascade operations.
@@ -289,6 +291,68 @@ abstract class AbstractCascadeOperations {
         }
     }
 
+    /**
+     * The @Many cascade operations of the same association collected across multiple parent entities.
+     */
+    @SuppressWarnings("VisibilityModifier")
+    protected static final class CascadeManyGroup {
+
+        /**
+         * The indexes of the parent entities.
+         */
+        public final List<Integer> indexes = new ArrayList<>();
+        /**
+         * The cascade operations.
+         */
+        public final List<CascadeManyOp> ops = new ArrayList<>();
+        /**
+         * The number of children of every operation.
+         */
+        public final List<Integer> sizes = new ArrayList<>();
+
+        /**
+         * Add the cascade operation of a parent entity.
+         *
+         * @param index         The index of the parent entity
+         * @param cascadeManyOp The cascade operation
+         */
+        void add(int index, CascadeManyOp cascadeManyOp) {
+            indexes.add(index);
+            ops.add(cascadeManyOp);
+            sizes.add(CollectionUtils.iterableToList(cascadeManyOp.children).size());
+        }
+
+        /**
+         * @return The children of all the operations in order.
+         */
+        public List<Object> children() {
+            List<Object> children = new ArrayList<>();
+            for (CascadeManyOp op : ops) {
+                for (Object child : op.children) {
+                    children.add(child);
+                }
+            }
+            return children;
+        }
+
+        /**
+         * The same child instance cannot be cascaded twice in one batch.
+         *
+         * @return true if a child is present in multiple operations
+         */
+        public boolean hasDuplicateChildren() {
+            Set<Object> children = new HashSet<>();
+            for (CascadeManyOp op : ops) {
+                for (Object child : op.children) {
+                    if (!children.add(child)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * The cascade context.
      */
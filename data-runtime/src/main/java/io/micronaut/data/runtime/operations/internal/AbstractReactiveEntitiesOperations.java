@@ -26,11 +26,13 @@ import io.micronaut.data.runtime.event.DefaultEntityEventContext;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Abstract reactive entities operations.
@@ -96,14 +98,19 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
     }
 
     private void doCascade(boolean isPost, Relation.Cascade cascadeType) {
-        this.entities = entities.concatMap(d -> {
-            if (d.vetoed) {
-                return Mono.just(d);
+        this.entities = entities.collectList().flatMapMany(list -> {
+            List<Data> notVetoed = list.stream().filter(d -> !d.vetoed).collect(Collectors.toList());
+            if (notVetoed.isEmpty()) {
+                return Flux.fromIterable(list);
             }
-            Mono<T> entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, isPost, cascadeType);
-            return entity.map(e -> {
-                d.entity = e;
-                return d;
+            Mono<List<T>> cascaded = cascadeOperations.cascadeEntities(ctx,
+                    notVetoed.stream().map(d -> d.entity).collect(Collectors.toList()),
+                    persistentEntity, isPost, cascadeType);
+            return cascaded.flatMapMany(entities -> {
+                for (int i = 0; i < notVetoed.size(); i++) {
+                    notVetoed.get(i).entity = entities.get(i);
+                }
+                return Flux.fromIterable(list);
             });
         });
     }
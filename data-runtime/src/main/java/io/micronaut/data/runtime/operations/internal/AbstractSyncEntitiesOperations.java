@@ -97,21 +97,24 @@ public abstract class AbstractSyncEntitiesOperations<Ctx extends OperationContex
 
     @Override
     protected void cascadePre(Relation.Cascade cascadeType) {
-        for (Data d : entities) {
-            if (d.vetoed) {
-                continue;
-            }
-            d.entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, false, cascadeType);
-        }
+        cascade(false, cascadeType);
     }
 
     @Override
     protected void cascadePost(Relation.Cascade cascadeType) {
-        for (Data d : entities) {
-            if (d.vetoed) {
-                continue;
-            }
-            d.entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, true, cascadeType);
+        cascade(true, cascadeType);
+    }
+
+    private void cascade(boolean isPost, Relation.Cascade cascadeType) {
+        List<Data> notVetoed = entities.stream().filter(d -> !d.vetoed).collect(Collectors.toList());
+        if (notVetoed.isEmpty()) {
+            return;
+        }
+        List<T> cascaded = cascadeOperations.cascadeEntities(ctx,
+                notVetoed.stream().map(d -> d.entity).collect(Collectors.toList()),
+                persistentEntity, isPost, cascadeType);
+        for (int i = 0; i < notVetoed.size(); i++) {
+            notVetoed.get(i).entity = cascaded.get(i);
         }
     }
 
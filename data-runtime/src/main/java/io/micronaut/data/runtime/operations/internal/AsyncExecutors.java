@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.runtime.config.DataConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors of the asynchronous operations backed by blocking repository operations.
+ *
+ * @since 3.6.0
+ */
+@Internal
+public final class AsyncExecutors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncExecutors.class);
+    private static final String[] POOL_SIZE_GETTERS = {
+            "getMaximumPoolSize", // Hikari
+            "getMaxTotal", // Commons DBCP 2
+            "getMaxPoolSize", // Oracle UCP
+            "getMaxActive" // Tomcat JDBC
+    };
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Creates the executor of the asynchronous operations configured by {@link DataConfiguration.AsyncConfiguration}.
+     *
+     * @param beanContext    The bean context
+     * @param ioExecutor     The {@code io} executor if present
+     * @param connectionPool The connection pool used to limit the number of threads of the bounded executor
+     * @return The executor
+     */
+    @NonNull
+    public static ExecutorService newExecutor(@Nullable BeanContext beanContext,
+                                              @Nullable ExecutorService ioExecutor,
+                                              @Nullable Object connectionPool) {
+        DataConfiguration.AsyncConfiguration configuration = beanContext == null ? null
+                : beanContext.findBean(DataConfiguration.AsyncConfiguration.class).orElse(null);
+        DataConfiguration.AsyncConfiguration.ExecutorType executorType = configuration == null
+                ? DataConfiguration.AsyncConfiguration.ExecutorType.IO : configuration.getExecutorType();
+        if (executorType == DataConfiguration.AsyncConfiguration.ExecutorType.IO) {
+            return ioExecutor != null ? ioExecutor : Executors.newCachedThreadPool();
+        }
+        if (executorType == DataConfiguration.AsyncConfiguration.ExecutorType.VIRTUAL) {
+            ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+        }
+        int maxThreads = configuration.getMaxThreads();
+        if (maxThreads <= 0) {
+            maxThreads = findMaxPoolSize(connectionPool);
+        }
+        if (maxThreads <= 0) {
+            maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        }
+        return newBoundedExecutor(maxThreads);
+    }
+
+    @Nullable
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (Exception e) {
+            // JDK older than 21 or the virtual threads are a disabled preview feature
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Virtual threads are not available, using a bounded executor: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static ExecutorService newBoundedExecutor(int maxThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "data-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static int findMaxPoolSize(@Nullable Object connectionPool) {
+        if (connectionPool == null) {
+            return -1;
+        }
+        for (String getter : POOL_SIZE_GETTERS) {
+            try {
+                Object size = connectionPool.getClass().getMethod(getter).invoke(connectionPool);
+                if (size instanceof Number) {
+                    return ((Number) size).intValue();
+                }
+            } catch (Exception e) {
+                // Not the getter of this pool
+            }
+        }
+        return -1;
+    }
+}
@@ -28,7 +28,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -81,119 +83,295 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
 
         for (CascadeOp cascadeOp : cascadeOps) {
             if (cascadeOp instanceof CascadeOneOp) {
-                CascadeOneOp cascadeOneOp = (CascadeOneOp) cascadeOp;
-                Object child = cascadeOneOp.child;
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeOneOp.childPersistentEntity;
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
+                monoEntity = cascadeOne(ctx, monoEntity, entity, persistentEntity, cascadeType, (CascadeOneOp) cascadeOp);
+            } else if (cascadeOp instanceof CascadeManyOp) {
+                monoEntity = cascadeMany(ctx, monoEntity, persistentEntity, cascadeType, (CascadeManyOp) cascadeOp);
+            }
+        }
+        return monoEntity;
+    }
 
-                if (ctx.persisted.contains(child)) {
-                    continue;
+    /**
+     * Cascade the operation of multiple entities. The children of the same association are collected across all
+     * the entities and persisted or updated in one batch.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 3.6.0
+     */
+    public <T> Mono<List<T>> cascadeEntities(Ctx ctx,
+                                             List<T> entities,
+                                             RuntimePersistentEntity<T> persistentEntity,
+                                             boolean isPost,
+                                             Relation.Cascade cascadeType) {
+        Map<List<Association>, CascadeManyGroup> groups = new LinkedHashMap<>();
+        Mono<List<T>> monoEntities = Mono.just(new ArrayList<>(entities));
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            List<CascadeOp> cascadeOps = new ArrayList<>();
+            cascade(ctx.annotationMetadata, ctx.repositoryType, isPost, cascadeType,
+                    CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity), persistentEntity, entity, cascadeOps);
+            Mono<T> monoEntity = Mono.just(entity);
+            boolean hasOneOps = false;
+            for (CascadeOp cascadeOp : cascadeOps) {
+                if (cascadeOp instanceof CascadeOneOp) {
+                    monoEntity = cascadeOne(ctx, monoEntity, entity, persistentEntity, cascadeType, (CascadeOneOp) cascadeOp);
+                    hasOneOps = true;
+                } else if (cascadeOp instanceof CascadeManyOp) {
+                    groups.computeIfAbsent(cascadeOp.ctx.associations, associations -> new CascadeManyGroup())
+                            .add(i, (CascadeManyOp) cascadeOp);
                 }
+            }
+            if (hasOneOps) {
+                monoEntities = setEntity(monoEntities, i, monoEntity);
+            }
+        }
+        for (CascadeManyGroup group : groups.values()) {
+            if (isBatchCascade(ctx, group, persistentEntity, cascadeType)) {
+                monoEntities = monoEntities.flatMap(list -> cascadeManyBatch(ctx, list, persistentEntity, cascadeType, group));
+            } else {
+                for (int i = 0; i < group.ops.size(); i++) {
+                    int index = group.indexes.get(i);
+                    CascadeManyOp cascadeManyOp = group.ops.get(i);
+                    monoEntities = monoEntities.flatMap(list ->
+                            setEntity(Mono.just(list), index, cascadeMany(ctx, Mono.just(list.get(index)), persistentEntity, cascadeType, cascadeManyOp)));
+                }
+            }
+        }
+        return monoEntities;
+    }
+
+    private <T> Mono<List<T>> setEntity(Mono<List<T>> monoEntities, int index, Mono<T> monoEntity) {
+        return monoEntities.flatMap(list -> monoEntity.map(e -> {
+            list.set(index, e);
+            return list;
+        }));
+    }
+
+    private <T> boolean isBatchCascade(Ctx ctx, CascadeManyGroup group, RuntimePersistentEntity<T> persistentEntity, Relation.Cascade cascadeType) {
+        if (group.ops.size() < 2 || group.hasDuplicateChildren()) {
+            return false;
+        }
+        if (cascadeType == Relation.Cascade.PERSIST) {
+            return helper.isSupportsBatchInsert(ctx, persistentEntity);
+        }
+        return cascadeType == Relation.Cascade.UPDATE;
+    }
 
-                monoEntity = monoEntity.flatMap(e -> {
+    private <T> Mono<T> cascadeOne(Ctx ctx, Mono<T> monoEntity, T entity, RuntimePersistentEntity<T> persistentEntity,
+                                   Relation.Cascade cascadeType, CascadeOneOp cascadeOp) {
+        Object child = cascadeOp.child;
+        RuntimePersistentEntity<Object> childPersistentEntity = cascadeOp.childPersistentEntity;
+        RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
 
-                RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                boolean hasId = identity.getProperty().get(child) != null;
-                Mono<T> thisEntity;
-                Mono<Object> childMono;
-                if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
+        return monoEntity.flatMap(e -> {
+            if (ctx.persisted.contains(child)) {
+                return Mono.just(e);
+            }
+            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+            boolean hasId = identity.getProperty().get(child) != null;
+            Mono<T> thisEntity;
+            Mono<Object> childMono;
+            if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading one PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
+                }
+                Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity).cache();
+                thisEntity = persisted.map(persistedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, persistedEntity));
+                childMono = persisted;
+            } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading one UPDATE for '{}' ({}) association: '{}'", persistentEntity.getName(),
+                            persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
+                }
+                Mono<Object> updated = helper.updateOne(ctx, child, childPersistentEntity).cache();
+                thisEntity = updated.map(updatedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, updatedEntity));
+                childMono = updated;
+            } else {
+                childMono = Mono.just(child);
+                thisEntity = Mono.just(e);
+            }
+
+            if (!hasId
+                    && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
+                    && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+                return childMono.flatMap(c -> {
+                    if (ctx.persisted.contains(c)) {
+                        return Mono.just(e);
+                    }
+                    ctx.persisted.add(c);
+                    return thisEntity.flatMap(e2 -> {
+                        Mono<Void> op = helper.persistManyAssociation(ctx, association, e2, (RuntimePersistentEntity<Object>) persistentEntity, c, childPersistentEntity);
+                        return op.thenReturn(e2);
+                    });
+                });
+            } else {
+                return childMono.flatMap(c -> {
+                    ctx.persisted.add(c);
+                    return thisEntity;
+                });
+            }
+        });
+    }
+
+    private <T> Mono<T> cascadeMany(Ctx ctx, Mono<T> monoEntity, RuntimePersistentEntity<T> persistentEntity,
+                                    Relation.Cascade cascadeType, CascadeManyOp cascadeManyOp) {
+        RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
+
+        if (cascadeType == Relation.Cascade.UPDATE) {
+            monoEntity = updateChildren(ctx, monoEntity, cascadeManyOp, cascadeManyOp, childPersistentEntity, e -> {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeManyOp.ctx.associations);
+                }
+                Flux<Object> childrenFlux = Flux.empty();
+                for (Object child : cascadeManyOp.children) {
+                    if (ctx.persisted.contains(child)) {
+                        continue;
+                    }
+                    Mono<Object> modifiedEntity;
+                    if (childPersistentEntity.getIdentity().getProperty().get(child) == null) {
+                        modifiedEntity = helper.persistOne(ctx, child, childPersistentEntity);
+                    } else {
+                        modifiedEntity = helper.updateOne(ctx, child, childPersistentEntity);
+                    }
+                    childrenFlux = childrenFlux.concatWith(modifiedEntity);
+                }
+                return childrenFlux.collectList();
+            });
+        } else if (cascadeType == Relation.Cascade.PERSIST) {
+            if (helper.isSupportsBatchInsert(ctx, persistentEntity)) {
+                monoEntity = updateChildren(ctx, monoEntity, cascadeManyOp, cascadeManyOp, childPersistentEntity, e -> {
                     if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading one PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
+                        LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeManyOp.ctx.associations);
                     }
-                    Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity).cache();
-                    thisEntity = persisted.map(persistedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, persistedEntity));
-                    childMono = persisted;
-                } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
+                    RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+                    Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+                    Flux<Object> inserted = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
+                    return inserted.collectList();
+                });
+            } else {
+                monoEntity = updateChildren(ctx, monoEntity, cascadeManyOp, cascadeManyOp, childPersistentEntity, e -> {
                     if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading one UPDATE for '{}' ({}) association: '{}'", persistentEntity.getName(),
-                                persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
+                        LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeManyOp.ctx.associations);
                     }
-                    Mono<Object> updated = helper.updateOne(ctx, child, childPersistentEntity).cache();
-                    thisEntity = updated.map(updatedEntity -> afterCascadedOne(e, cascadeOp.ctx.associations, child, updatedEntity));
-                    childMono = updated;
-                } else {
-                    childMono = Mono.just(child);
-                    thisEntity = Mono.just(e);
-                }
 
-                if (!hasId
-                        && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
-                        && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
-                    return childMono.flatMap(c -> {
-                        if (ctx.persisted.contains(c)) {
-                            return Mono.just(e);
+                    Flux<Object> childrenFlux = Flux.empty();
+                    for (Object child : cascadeManyOp.children) {
+                        if (ctx.persisted.contains(child) || childPersistentEntity.getIdentity().getProperty().get(child) != null) {
+                            childrenFlux = childrenFlux.concatWith(Mono.just(child));
+                            continue;
                         }
-                        ctx.persisted.add(c);
-                        return thisEntity.flatMap(e2 -> {
-                            Mono<Void> op = helper.persistManyAssociation(ctx, association, e2, (RuntimePersistentEntity<Object>) persistentEntity, c, childPersistentEntity);
-                            return op.thenReturn(e2);
-                        });
-                    });
-                } else {
-                    return childMono.flatMap(c -> {
-                        ctx.persisted.add(c);
-                        return thisEntity;
-                    });
-                }
+                        Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity);
+                        childrenFlux = childrenFlux.concatWith(persisted);
+                    }
+                    return childrenFlux.collectList();
                 });
+            }
+        }
+        return monoEntity;
+    }
 
-            } else if (cascadeOp instanceof CascadeManyOp) {
-                CascadeManyOp cascadeManyOp = (CascadeManyOp) cascadeOp;
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
-
-                if (cascadeType == Relation.Cascade.UPDATE) {
-                    monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                        }
-                        Flux<Object> childrenFlux = Flux.empty();
-                        for (Object child : cascadeManyOp.children) {
+    private <T> Mono<List<T>> cascadeManyBatch(Ctx ctx,
+                                               List<T> result,
+                                               RuntimePersistentEntity<T> persistentEntity,
+                                               Relation.Cascade cascadeType,
+                                               CascadeManyGroup group) {
+        CascadeManyOp firstOp = group.ops.get(0);
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        List<Object> children = group.children();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cascading many {} of {} entities for '{}' association: '{}'", cascadeType, group.ops.size(),
+                    persistentEntity.getName(), firstOp.ctx.associations);
+        }
+        Mono<List<Object>> monoChildren;
+        if (cascadeType == Relation.Cascade.PERSIST) {
+            Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+            monoChildren = helper.persistBatch(ctx, children, childPersistentEntity, veto).collectList();
+        } else {
+            List<Integer> newIndexes = new ArrayList<>();
+            List<Object> newChildren = new ArrayList<>();
+            List<Integer> existingIndexes = new ArrayList<>();
+            List<Object> existingChildren = new ArrayList<>();
+            for (int i = 0; i < children.size(); i++) {
+                Object child = children.get(i);
+                if (ctx.persisted.contains(child)) {
+                    continue;
+                }
+                if (identity.getProperty().get(child) == null) {
+                    newIndexes.add(i);
+                    newChildren.add(child);
+                } else {
+                    existingIndexes.add(i);
+                    existingChildren.add(child);
+                }
+            }
+            monoChildren = Mono.just(new ArrayList<>(children));
+            if (!newChildren.isEmpty()) {
+                Flux<Object> persisted;
+                if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                    persisted = helper.persistBatch(ctx, newChildren, childPersistentEntity, null);
+                } else {
+                    persisted = Flux.fromIterable(newChildren).concatMap(child -> helper.persistOne(ctx, child, childPersistentEntity));
+                }
+                monoChildren = replaceChildren(monoChildren, newIndexes, persisted);
+            }
+            if (!existingChildren.isEmpty()) {
+                monoChildren = replaceChildren(monoChildren, existingIndexes, helper.updateBatch(ctx, existingChildren, childPersistentEntity));
+            }
+        }
+        return monoChildren.flatMap(entities -> {
+            List<Object> parents = new ArrayList<>(group.ops.size());
+            List<List<Object>> parentsChildren = new ArrayList<>(group.ops.size());
+            int offset = 0;
+            for (int i = 0; i < group.ops.size(); i++) {
+                CascadeManyOp cascadeManyOp = group.ops.get(i);
+                int index = group.indexes.get(i);
+                int size = group.sizes.get(i);
+                List<Object> newChildren = new ArrayList<>(entities.subList(offset, offset + size));
+                offset += size;
+                result.set(index, afterCascadedMany(result.get(index), cascadeManyOp.ctx.associations, cascadeManyOp.children, newChildren));
+                parents.add(cascadeManyOp.ctx.parent);
+                parentsChildren.add(newChildren);
+            }
+            RuntimeAssociation<Object> association = (RuntimeAssociation) firstOp.ctx.getAssociation();
+            if (SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+                if (helper.isSupportsBatchInsert(ctx, firstOp.ctx.parentPersistentEntity)) {
+                    Predicate<Object> veto = ctx.persisted::contains;
+                    Mono<Void> op = helper.persistManyAssociationsBatch(ctx, association, parents, firstOp.ctx.parentPersistentEntity, parentsChildren, childPersistentEntity, veto);
+                    return op.thenReturn(result);
+                } else {
+                    Mono<List<T>> res = Mono.just(result);
+                    for (int i = 0; i < parents.size(); i++) {
+                        Object parent = parents.get(i);
+                        for (Object child : parentsChildren.get(i)) {
                             if (ctx.persisted.contains(child)) {
                                 continue;
                             }
-                            Mono<Object> modifiedEntity;
-                            if (childPersistentEntity.getIdentity().getProperty().get(child) == null) {
-                                modifiedEntity = helper.persistOne(ctx, child, childPersistentEntity);
-                            } else {
-                                modifiedEntity = helper.updateOne(ctx, child, childPersistentEntity);
-                            }
-                            childrenFlux = childrenFlux.concatWith(modifiedEntity);
+                            Mono<Void> op = helper.persistManyAssociation(ctx, association, parent, firstOp.ctx.parentPersistentEntity, child, childPersistentEntity);
+                            res = res.flatMap(op::thenReturn);
                         }
-                        return childrenFlux.collectList();
-                    });
-                } else if (cascadeType == Relation.Cascade.PERSIST) {
-                    if (helper.isSupportsBatchInsert(ctx, persistentEntity)) {
-                        monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                            }
-                            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                            Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
-                            Flux<Object> inserted = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
-                            return inserted.collectList();
-                        });
-                    } else {
-                        monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
-                            }
-
-                            Flux<Object> childrenFlux = Flux.empty();
-                            for (Object child : cascadeManyOp.children) {
-                                if (ctx.persisted.contains(child) || childPersistentEntity.getIdentity().getProperty().get(child) != null) {
-                                    childrenFlux = childrenFlux.concatWith(Mono.just(child));
-                                    continue;
-                                }
-                                Mono<Object> persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                                childrenFlux = childrenFlux.concatWith(persisted);
-                            }
-                            return childrenFlux.collectList();
-                        });
                     }
+                    return res;
                 }
             }
-        }
-        return monoEntity;
+            ctx.persisted.addAll(entities);
+            return Mono.just(result);
+        });
+    }
+
+    private Mono<List<Object>> replaceChildren(Mono<List<Object>> monoChildren, List<Integer> indexes, Flux<Object> replacements) {
+        return monoChildren.flatMap(children -> replacements.collectList().map(values -> {
+            for (int i = 0; i < indexes.size(); i++) {
+                children.set(indexes.get(i), values.get(i));
+            }
+            return children;
+        }));
     }
 
     private <T> Mono<T> updateChildren(Ctx ctx,
@@ -305,6 +483,20 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
          */
         <T> Mono<T> updateOne(Ctx ctx, T entityValue, RuntimePersistentEntity<T> persistentEntity);
 
+        /**
+         * Update multiple entities in batch during cascade.
+         *
+         * @param ctx              The context
+         * @param entityValues     The entity values
+         * @param persistentEntity The persistent entity
+         * @param <T>              The entity type
+         * @return The entity values
+         * @since 3.6.0
+         */
+        default <T> Flux<T> updateBatch(Ctx ctx, List<T> entityValues, RuntimePersistentEntity<T> persistentEntity) {
+            return Flux.fromIterable(entityValues).concatMap(entityValue -> updateOne(ctx, entityValue, persistentEntity));
+        }
+
         /**
          * Persist JOIN table relationship.
          *
@@ -338,6 +530,31 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                                                Object parentEntityValue, RuntimePersistentEntity<Object> parentPersistentEntity,
                                                Iterable<Object> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity,
                                                Predicate<Object> veto);
+
+        /**
+         * Persist JOIN table relationships of multiple parent entities in batch.
+         *
+         * @param ctx                    The context
+         * @param runtimeAssociation     The association
+         * @param parentEntityValues     The parent entity values
+         * @param parentPersistentEntity The parent persistent entity
+         * @param childEntityValues      The child entity values of every parent
+         * @param childPersistentEntity  The child persistent entity
+         * @param veto                   The veto predicate
+         * @return The empty mono
+         * @since 3.6.0
+         */
+        default Mono<Void> persistManyAssociationsBatch(Ctx ctx,
+                                                        RuntimeAssociation runtimeAssociation,
+                                                        List<Object> parentEntityValues, RuntimePersistentEntity<Object> parentPersistentEntity,
+                                                        List<? extends Iterable<Object>> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity,
+                                                        Predicate<Object> veto) {
+            return Flux.range(0, parentEntityValues.size())
+                    .filter(i -> childEntityValues.get(i).iterator().hasNext())
+                    .concatMap(i -> persistManyAssociationBatch(ctx, runtimeAssociation, parentEntityValues.get(i), parentPersistentEntity,
+                            childEntityValues.get(i), childPersistentEntity, veto))
+                    .then();
+        }
     }
 
 }
@@ -28,8 +28,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -79,104 +81,261 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                 persistentEntity, entity, cascadeOps);
         for (CascadeOp cascadeOp : cascadeOps) {
             if (cascadeOp instanceof CascadeOneOp) {
-                CascadeOneOp cascadeOneOp = (CascadeOneOp) cascadeOp;
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeOp.childPersistentEntity;
-                Object child = cascadeOneOp.child;
+                entity = cascadeOne(ctx, entity, persistentEntity, cascadeType, (CascadeOneOp) cascadeOp);
+            } else if (cascadeOp instanceof CascadeManyOp) {
+                entity = cascadeMany(ctx, entity, cascadeType, (CascadeManyOp) cascadeOp);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Cascade the operation of multiple entities. The children of the same association are collected across all
+     * the entities and persisted or updated in one batch.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 3.6.0
+     */
+    public <T> List<T> cascadeEntities(Ctx ctx,
+                                       List<T> entities,
+                                       RuntimePersistentEntity<T> persistentEntity,
+                                       boolean isPost,
+                                       Relation.Cascade cascadeType) {
+        List<T> result = new ArrayList<>(entities);
+        Map<List<Association>, CascadeManyGroup> groups = new LinkedHashMap<>();
+        for (int i = 0; i < result.size(); i++) {
+            T entity = result.get(i);
+            List<CascadeOp> cascadeOps = new ArrayList<>();
+            cascade(ctx.annotationMetadata, ctx.repositoryType,
+                    isPost, cascadeType,
+                    CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity),
+                    persistentEntity, entity, cascadeOps);
+            for (CascadeOp cascadeOp : cascadeOps) {
+                if (cascadeOp instanceof CascadeOneOp) {
+                    entity = cascadeOne(ctx, entity, persistentEntity, cascadeType, (CascadeOneOp) cascadeOp);
+                } else if (cascadeOp instanceof CascadeManyOp) {
+                    groups.computeIfAbsent(cascadeOp.ctx.associations, associations -> new CascadeManyGroup())
+                            .add(i, (CascadeManyOp) cascadeOp);
+                }
+            }
+            result.set(i, entity);
+        }
+        for (CascadeManyGroup group : groups.values()) {
+            if (isBatchCascade(ctx, group, cascadeType)) {
+                cascadeManyBatch(ctx, result, cascadeType, group);
+            } else {
+                for (int i = 0; i < group.ops.size(); i++) {
+                    int index = group.indexes.get(i);
+                    result.set(index, cascadeMany(ctx, result.get(index), cascadeType, group.ops.get(i)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isBatchCascade(Ctx ctx, CascadeManyGroup group, Relation.Cascade cascadeType) {
+        if (group.ops.size() < 2 || group.hasDuplicateChildren()) {
+            return false;
+        }
+        RuntimePersistentEntity<Object> childPersistentEntity = group.ops.get(0).childPersistentEntity;
+        if (cascadeType == Relation.Cascade.PERSIST) {
+            return helper.isSupportsBatchInsert(ctx, childPersistentEntity);
+        }
+        return cascadeType == Relation.Cascade.UPDATE;
+    }
+
+    private <T> T cascadeOne(Ctx ctx, T entity, RuntimePersistentEntity<T> persistentEntity, Relation.Cascade cascadeType, CascadeOneOp cascadeOneOp) {
+        RuntimePersistentEntity<Object> childPersistentEntity = cascadeOneOp.childPersistentEntity;
+        Object child = cascadeOneOp.child;
+        if (ctx.persisted.contains(child)) {
+            return entity;
+        }
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        boolean hasId = identity.getProperty().get(child) != null;
+        if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOneOp.ctx.associations);
+            }
+            Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
+            entity = afterCascadedOne(entity, cascadeOneOp.ctx.associations, child, persisted);
+            child = persisted;
+        } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cascading MERGE for '{}' ({}) association: '{}'", persistentEntity.getName(),
+                        persistentEntity.getIdentity().getProperty().get(entity), cascadeOneOp.ctx.associations);
+            }
+            Object updated = helper.updateOne(ctx, child, childPersistentEntity);
+            entity = afterCascadedOne(entity, cascadeOneOp.ctx.associations, child, updated);
+            child = updated;
+        }
+        RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOneOp.ctx.getAssociation();
+        if (!hasId
+                && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
+                && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+
+            helper.persistManyAssociation(ctx, association, entity, (RuntimePersistentEntity<Object>) persistentEntity, child, childPersistentEntity);
+        }
+        ctx.persisted.add(child);
+        return entity;
+    }
+
+    private <T> T cascadeMany(Ctx ctx, T entity, Relation.Cascade cascadeType, CascadeManyOp cascadeManyOp) {
+        RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
+
+        List<Object> entities;
+        if (cascadeType == Relation.Cascade.UPDATE) {
+            entities = CollectionUtils.iterableToList(cascadeManyOp.children);
+            for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
+                Object child = iterator.next();
                 if (ctx.persisted.contains(child)) {
                     continue;
                 }
                 RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                boolean hasId = identity.getProperty().get(child) != null;
-                if ((!hasId || identity instanceof Association) && (cascadeType == Relation.Cascade.PERSIST)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
+                Object value;
+                if (identity.getProperty().get(child) == null) {
+                    value = helper.persistOne(ctx, child, childPersistentEntity);
+                } else {
+                    value = helper.updateOne(ctx, child, childPersistentEntity);
+                }
+                iterator.set(value);
+            }
+        } else if (cascadeType == Relation.Cascade.PERSIST) {
+            if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+                Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+                entities = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
+            } else {
+                entities = CollectionUtils.iterableToList(cascadeManyOp.children);
+                for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
+                    Object child = iterator.next();
+                    if (ctx.persisted.contains(child)) {
+                        continue;
                     }
-                    Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                    entity = afterCascadedOne(entity, cascadeOp.ctx.associations, child, persisted);
-                    child = persisted;
-                } else if (hasId && (cascadeType == Relation.Cascade.UPDATE)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cascading MERGE for '{}' ({}) association: '{}'", persistentEntity.getName(),
-                                persistentEntity.getIdentity().getProperty().get(entity), cascadeOp.ctx.associations);
+                    RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+                    if (identity.getProperty().get(child) != null) {
+                        continue;
                     }
-                    Object updated = helper.updateOne(ctx, child, childPersistentEntity);
-                    entity = afterCascadedOne(entity, cascadeOp.ctx.associations, child, updated);
-                    child = updated;
+                    Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
+                    iterator.set(persisted);
                 }
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
-                if (!hasId
-                        && (cascadeType == Relation.Cascade.PERSIST || cascadeType == Relation.Cascade.UPDATE)
-                        && SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+            }
+        } else {
+            return entity;
+        }
 
-                    helper.persistManyAssociation(ctx, association, entity, (RuntimePersistentEntity<Object>) persistentEntity, child, childPersistentEntity);
-                }
-                ctx.persisted.add(child);
-            } else if (cascadeOp instanceof CascadeManyOp) {
-                CascadeManyOp cascadeManyOp = (CascadeManyOp) cascadeOp;
-                RuntimePersistentEntity<Object> childPersistentEntity = cascadeManyOp.childPersistentEntity;
+        entity = afterCascadedMany(entity, cascadeManyOp.ctx.associations, cascadeManyOp.children, entities);
 
-                List<Object> entities;
-                if (cascadeType == Relation.Cascade.UPDATE) {
-                    entities = CollectionUtils.iterableToList(cascadeManyOp.children);
-                    for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
-                        Object child = iterator.next();
-                        if (ctx.persisted.contains(child)) {
-                            continue;
-                        }
-                        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                        Object value;
-                        if (identity.getProperty().get(child) == null) {
-                            value = helper.persistOne(ctx, child, childPersistentEntity);
-                        } else {
-                            value = helper.updateOne(ctx, child, childPersistentEntity);
-                        }
-                        iterator.set(value);
-                    }
-                } else if (cascadeType == Relation.Cascade.PERSIST) {
-                    if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
-                        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                        Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
-                        entities = helper.persistBatch(ctx, cascadeManyOp.children, childPersistentEntity, veto);
-                    } else {
-                        entities = CollectionUtils.iterableToList(cascadeManyOp.children);
-                        for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
-                            Object child = iterator.next();
-                            if (ctx.persisted.contains(child)) {
-                                continue;
-                            }
-                            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                            if (identity.getProperty().get(child) != null) {
-                                continue;
-                            }
-                            Object persisted = helper.persistOne(ctx, child, childPersistentEntity);
-                            iterator.set(persisted);
-                        }
+        RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeManyOp.ctx.getAssociation();
+        if (SqlQueryBuilder.isForeignKeyWithJoinTable(association) && !entities.isEmpty()) {
+            if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                helper.persistManyAssociationBatch(ctx, association,
+                        cascadeManyOp.ctx.parent, cascadeManyOp.ctx.parentPersistentEntity, entities, childPersistentEntity);
+            } else {
+                for (Object e : cascadeManyOp.children) {
+                    if (ctx.persisted.contains(e)) {
+                        continue;
                     }
-                } else {
+                    helper.persistManyAssociation(ctx, association,
+                            cascadeManyOp.ctx.parent, cascadeManyOp.ctx.parentPersistentEntity, e, childPersistentEntity);
+                }
+            }
+        }
+        ctx.persisted.addAll(entities);
+        return entity;
+    }
+
+    private <T> void cascadeManyBatch(Ctx ctx, List<T> result, Relation.Cascade cascadeType, CascadeManyGroup group) {
+        CascadeManyOp firstOp = group.ops.get(0);
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        List<Object> children = group.children();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cascading {} of {} entities for '{}' association: '{}'", cascadeType, group.ops.size(),
+                    firstOp.ctx.parentPersistentEntity.getName(), firstOp.ctx.associations);
+        }
+        List<Object> entities;
+        if (cascadeType == Relation.Cascade.PERSIST) {
+            Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+            entities = helper.persistBatch(ctx, children, childPersistentEntity, veto);
+        } else {
+            entities = new ArrayList<>(children);
+            List<Integer> newIndexes = new ArrayList<>();
+            List<Object> newChildren = new ArrayList<>();
+            List<Integer> existingIndexes = new ArrayList<>();
+            List<Object> existingChildren = new ArrayList<>();
+            for (int i = 0; i < children.size(); i++) {
+                Object child = children.get(i);
+                if (ctx.persisted.contains(child)) {
                     continue;
                 }
+                if (identity.getProperty().get(child) == null) {
+                    newIndexes.add(i);
+                    newChildren.add(child);
+                } else {
+                    existingIndexes.add(i);
+                    existingChildren.add(child);
+                }
+            }
+            if (!newChildren.isEmpty()) {
+                List<Object> persisted;
+                if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                    persisted = helper.persistBatch(ctx, newChildren, childPersistentEntity, val -> false);
+                } else {
+                    persisted = new ArrayList<>(newChildren.size());
+                    for (Object child : newChildren) {
+                        persisted.add(helper.persistOne(ctx, child, childPersistentEntity));
+                    }
+                }
+                for (int i = 0; i < newIndexes.size(); i++) {
+                    entities.set(newIndexes.get(i), persisted.get(i));
+                }
+            }
+            if (!existingChildren.isEmpty()) {
+                List<Object> updated = helper.updateBatch(ctx, existingChildren, childPersistentEntity);
+                for (int i = 0; i < existingIndexes.size(); i++) {
+                    entities.set(existingIndexes.get(i), updated.get(i));
+                }
+            }
+        }
 
-                entity = afterCascadedMany(entity, cascadeOp.ctx.associations, cascadeManyOp.children, entities);
+        List<Object> parents = new ArrayList<>(group.ops.size());
+        List<List<Object>> parentsChildren = new ArrayList<>(group.ops.size());
+        int offset = 0;
+        for (int i = 0; i < group.ops.size(); i++) {
+            CascadeManyOp cascadeManyOp = group.ops.get(i);
+            int index = group.indexes.get(i);
+            int size = group.sizes.get(i);
+            List<Object> newChildren = new ArrayList<>(entities.subList(offset, offset + size));
+            offset += size;
+            result.set(index, afterCascadedMany(result.get(index), cascadeManyOp.ctx.associations, cascadeManyOp.children, newChildren));
+            parents.add(cascadeManyOp.ctx.parent);
+            parentsChildren.add(newChildren);
+        }
 
-                RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
-                if (SqlQueryBuilder.isForeignKeyWithJoinTable(association) && !entities.isEmpty()) {
-                    if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
-                        helper.persistManyAssociationBatch(ctx, association,
-                                cascadeOp.ctx.parent, cascadeOp.ctx.parentPersistentEntity, entities, childPersistentEntity);
-                    } else {
-                        for (Object e : cascadeManyOp.children) {
-                            if (ctx.persisted.contains(e)) {
-                                continue;
-                            }
-                            helper.persistManyAssociation(ctx, association,
-                                    cascadeOp.ctx.parent, cascadeOp.ctx.parentPersistentEntity, e, childPersistentEntity);
+        RuntimeAssociation<Object> association = (RuntimeAssociation) firstOp.ctx.getAssociation();
+        if (SqlQueryBuilder.isForeignKeyWithJoinTable(association) && !entities.isEmpty()) {
+            if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                helper.persistManyAssociationsBatch(ctx, association,
+                        parents, firstOp.ctx.parentPersistentEntity, parentsChildren, childPersistentEntity);
+            } else {
+                for (CascadeManyOp cascadeManyOp : group.ops) {
+                    for (Object e : cascadeManyOp.children) {
+                        if (ctx.persisted.contains(e)) {
+                            continue;
                         }
+                        helper.persistManyAssociation(ctx, association,
+                                cascadeManyOp.ctx.parent, cascadeManyOp.ctx.parentPersistentEntity, e, childPersistentEntity);
                     }
                 }
-                ctx.persisted.addAll(entities);
             }
         }
-        return entity;
+        ctx.persisted.addAll(entities);
     }
 
     /**
@@ -256,6 +415,24 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
          */
         <T> T updateOne(Ctx ctx, T entityValue, RuntimePersistentEntity<T> persistentEntity);
 
+        /**
+         * Update multiple entities in batch during cascade.
+         *
+         * @param ctx              The context
+         * @param entityValues     The entity values
+         * @param persistentEntity The persistent entity
+         * @param <T>              The entity type
+         * @return The entity values
+         * @since 3.6.0
+         */
+        default <T> List<T> updateBatch(Ctx ctx, List<T> entityValues, RuntimePersistentEntity<T> persistentEntity) {
+            List<T> updated = new ArrayList<>(entityValues.size());
+            for (T entityValue : entityValues) {
+                updated.add(updateOne(ctx, entityValue, persistentEntity));
+            }
+            return updated;
+        }
+
         /**
          * Persist JOIN table relationship.
          *
@@ -285,6 +462,29 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                                          RuntimeAssociation runtimeAssociation,
                                          Object parentEntityValue, RuntimePersistentEntity<Object> parentPersistentEntity,
                                          Iterable<Object> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity);
+
+        /**
+         * Persist JOIN table relationships of multiple parent entities in batch.
+         *
+         * @param ctx                    The context
+         * @param runtimeAssociation     The association
+         * @param parentEntityValues     The parent entity values
+         * @param parentPersistentEntity The parent persistent entity
+         * @param childEntityValues      The child entity values of every parent
+         * @param childPersistentEntity  The child persistent entity
+         * @since 3.6.0
+         */
+        default void persistManyAssociationsBatch(Ctx ctx,
+                                                  RuntimeAssociation runtimeAssociation,
+                                                  List<Object> parentEntityValues, RuntimePersistentEntity<Object> parentPersistentEntity,
+                                                  List<? extends Iterable<Object>> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity) {
+            for (int i = 0; i < parentEntityValues.size(); i++) {
+                Iterable<Object> children = childEntityValues.get(i);
+                if (children.iterator().hasNext()) {
+                    persistManyAssociationBatch(ctx, runtimeAssociation, parentEntityValues.get(i), parentPersistentEntity, children, childPersistentEntity);
+                }
+            }
+        }
     }
 
 
@@ -21,17 +21,24 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.QueryResultCache;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.Association;
 import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Embedded;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.QueryModel;
 import io.micronaut.data.model.query.QueryParameter;
 import io.micronaut.data.model.query.builder.QueryResult;
@@ -60,12 +67,16 @@ import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.transaction.support.SynchronousTransactionState;
 import org.slf4j.Logger;
 
 import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +103,8 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         HintsCapableRepository {
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     protected static final SqlQueryBuilder DEFAULT_SQL_BUILDER = new SqlQueryBuilder();
+    // The chunks of the multi-row inserts only have power-of-two sizes or the maximum size
+    private static final int MAX_MULTI_ROW_INSERTS_PER_ENTITY = 32;
     @SuppressWarnings("WeakerAccess")
     protected final ResultReader<RS, String> columnNameResultSetReader;
     @SuppressWarnings("WeakerAccess")
@@ -101,7 +114,15 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final Map<Class, SqlQueryBuilder> queryBuilders = new HashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, Integer> entityMaxInsertRows = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, Map<Integer, String>> entityMultiRowInserts = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, DynamicUpdates> entityDynamicUpdates = new ConcurrentHashMap<>(10);
+    private final EntitySnapshots entitySnapshots = new EntitySnapshots();
+    private final EntityCaches entityCaches = new EntityCaches();
+    private final TransactionCompletionCallbacks transactionCallbacks = new TransactionCompletionCallbacks();
+    @Nullable
+    private final QueryResultCache queryResultCache;
 
     /**
      * Default constructor.
@@ -132,6 +153,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         this.columnNameResultSetReader = columnNameResultSetReader;
         this.columnIndexResultSetReader = columnIndexResultSetReader;
         this.preparedStatementWriter = preparedStatementWriter;
+        this.queryResultCache = beanContext.findBean(QueryResultCache.class).orElse(null);
         Collection<BeanDefinition<GenericRepository>> beanDefinitions = beanContext
                 .getBeanDefinitions(GenericRepository.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<GenericRepository> beanDefinition : beanDefinitions) {
@@ -172,8 +194,32 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
                                          @NonNull PreparedQuery<T, R> preparedQuery,
                                          boolean isUpdate,
                                          boolean isSingleResult) throws Exc {
+        return prepareStatement(statementFunction, preparedQuery, isUpdate, isSingleResult, false);
+    }
+
+    /**
+     * Prepare a statement for execution.
+     *
+     * @param statementFunction The statement function
+     * @param preparedQuery     The prepared query
+     * @param isUpdate          Is this an update
+     * @param isSingleResult    Is it a single result
+     * @param windowCount       Whether to add the {@code COUNT(*) OVER()} window column, see {@link SqlPreparedQuery#attachWindowCount()}
+     * @param <T>               The query declaring type
+     * @param <R>               The query result type
+     * @return The prepared statement
+     * @since 3.6.0
+     */
+    protected <T, R> PS prepareStatement(StatementSupplier<PS> statementFunction,
+                                         @NonNull PreparedQuery<T, R> preparedQuery,
+                                         boolean isUpdate,
+                                         boolean isSingleResult,
+                                         boolean windowCount) throws Exc {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(preparedQuery);
         sqlPreparedQuery.prepare(null);
+        if (windowCount && !sqlPreparedQuery.attachWindowCount()) {
+            throw new IllegalStateException("The query doesn't support the window count column: " + sqlPreparedQuery.getQuery());
+        }
         if (!isUpdate) {
             sqlPreparedQuery.attachPageable(preparedQuery.getPageable(), isSingleResult);
         }
@@ -260,6 +306,85 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * The maximum number of rows of a multi-row insert that can replace the batch of the given insert query.
+     * Only the default entity insert can be replaced.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param storedQuery        The insert query
+     * @param <E>                The entity type
+     * @return The maximum number of rows or 1 if the multi-row insert isn't supported
+     * @since 3.6.0
+     */
+    protected <E> int getMaxMultiRowInsertRows(AnnotationMetadata annotationMetadata,
+                                               Class<?> repositoryType,
+                                               @NonNull SqlStoredQuery<E, ?> storedQuery) {
+        RuntimePersistentEntity<E> persistentEntity = storedQuery.getPersistentEntity();
+        if (!isMultiRowInsert() || !isSupportsMultiRowInsert(persistentEntity, storedQuery.getDialect())) {
+            return 1;
+        }
+        Class<E> rootEntity = persistentEntity.getIntrospection().getBeanType();
+        SqlStoredQuery<E, E> entityInsert = resolveEntityInsert(annotationMetadata, repositoryType, rootEntity, persistentEntity);
+        if (!entityInsert.getQuery().equals(storedQuery.getQuery())) {
+            return 1;
+        }
+        return entityMaxInsertRows.computeIfAbsent(new QueryKey(repositoryType, rootEntity), (queryKey) -> {
+            final SqlQueryBuilder queryBuilder = queryBuilders.getOrDefault(repositoryType, DEFAULT_SQL_BUILDER);
+            return queryBuilder.getMaxInsertRows(persistentEntity);
+        });
+    }
+
+    /**
+     * Resolves a multi-row insert of the given entity. The parameters of the rows are bound in the order of the rows
+     * using the parameter bindings of the default entity insert.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param persistentEntity   The persistent entity
+     * @param rows               The number of rows
+     * @param <E>                The entity type
+     * @return The insert statement
+     * @since 3.6.0
+     */
+    @NonNull
+    protected <E> String resolveEntityMultiRowInsert(AnnotationMetadata annotationMetadata,
+                                                     Class<?> repositoryType,
+                                                     @NonNull RuntimePersistentEntity<E> persistentEntity,
+                                                     int rows) {
+        QueryKey key = new QueryKey(repositoryType, persistentEntity.getIntrospection().getBeanType());
+        return entityMultiRowInserts.computeIfAbsent(key, queryKey -> new ConcurrentLinkedHashMap.Builder<Integer, String>()
+                        .maximumWeightedCapacity(MAX_MULTI_ROW_INSERTS_PER_ENTITY)
+                        .build())
+                .computeIfAbsent(rows, r -> {
+                    final SqlQueryBuilder queryBuilder = queryBuilders.getOrDefault(repositoryType, DEFAULT_SQL_BUILDER);
+                    return queryBuilder.buildInsert(annotationMetadata, persistentEntity, r).getQuery();
+                });
+    }
+
+    /**
+     * Splits the rows of a multi-row insert into chunks of the maximum size followed by power-of-two chunks of the
+     * remaining rows. Only a few distinct statements are built for an entity regardless of the number of inserted rows.
+     *
+     * @param rows    The rows
+     * @param maxRows The maximum number of rows of a statement
+     * @param <R>     The row type
+     * @return The chunks
+     * @since 3.6.0
+     */
+    @NonNull
+    protected static <R> List<List<R>> multiRowInsertChunks(@NonNull List<R> rows, int maxRows) {
+        List<List<R>> chunks = new ArrayList<>();
+        int from = 0;
+        while (from < rows.size()) {
+            int remaining = rows.size() - from;
+            int size = remaining >= maxRows ? maxRows : Integer.highestOneBit(remaining);
+            chunks.add(rows.subList(from, from + size));
+            from += size;
+        }
+        return chunks;
+    }
+
     /**
      * Builds a join table insert.
      *
@@ -321,6 +446,221 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * Is the dynamic update enabled. The snapshots of the loaded and the written entities are kept and the update
+     * of an entity with a snapshot only sets the changed columns.
+     *
+     * @return true if enabled
+     * @since 3.6.0
+     */
+    protected boolean isDynamicUpdate() {
+        return false;
+    }
+
+    /**
+     * Are the multi-row inserts enabled. The batch insert of the entities is executed as multi-row inserts
+     * if the dialect supports it, see {@link #isSupportsMultiRowInsert(PersistentEntity, Dialect)}.
+     *
+     * @return true if enabled
+     * @since 3.6.0
+     */
+    protected boolean isMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * Stores the snapshot of the persisted state of the entity if the dynamic update is enabled.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @since 3.6.0
+     */
+    protected final <E> void snapshotEntity(@NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity) {
+        if (isDynamicUpdate()) {
+            entitySnapshots.snapshot(persistentEntity, entity);
+            // The state read or written in a transaction that rolls back isn't the persisted state
+            TransactionCompletionCallbacks.Callbacks callbacks = transactionCallbacks.find(findTransactionState());
+            if (callbacks != null) {
+                callbacks.onRollback(() -> entitySnapshots.discard(entity));
+            }
+        }
+    }
+
+    /**
+     * Finds the state of the synchronous transaction of the operations bound to the current thread.
+     *
+     * @return The transaction state or null if the transactions aren't synchronous
+     * @since 3.6.0
+     */
+    @Nullable
+    protected SynchronousTransactionState findTransactionState() {
+        return null;
+    }
+
+    /**
+     * Resolves the update of the changed columns of the entity. Only the default entity update of an entity with
+     * a snapshot can be replaced, the statements are cached per set of changed columns.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param storedQuery        The update query
+     * @param entity             The entity
+     * @param <E>                The entity type
+     * @return The update of the changed columns, the given query if it cannot be replaced or null if no column changed
+     * @since 3.6.0
+     */
+    @Nullable
+    protected <E> SqlStoredQuery<E, ?> resolveEntityDynamicUpdate(AnnotationMetadata annotationMetadata,
+                                                                  Class<?> repositoryType,
+                                                                  @NonNull SqlStoredQuery<E, ?> storedQuery,
+                                                                  @NonNull E entity) {
+        if (!isDynamicUpdate() || storedQuery instanceof SqlPreparedQuery) {
+            return storedQuery;
+        }
+        RuntimePersistentEntity<E> persistentEntity = storedQuery.getPersistentEntity();
+        BitSet changed = entitySnapshots.findChangedProperties(persistentEntity, entity);
+        if (changed == null) {
+            return storedQuery;
+        }
+        Class<E> rootEntity = persistentEntity.getIntrospection().getBeanType();
+        DynamicUpdates dynamicUpdates = entityDynamicUpdates.computeIfAbsent(new QueryKey(repositoryType, rootEntity), (queryKey) ->
+                new DynamicUpdates(annotationMetadata, queryBuilders.getOrDefault(repositoryType, DEFAULT_SQL_BUILDER), persistentEntity)
+        );
+        if (!dynamicUpdates.isDefaultUpdate(storedQuery)) {
+            return storedQuery;
+        }
+        if (changed.isEmpty()) {
+            return null;
+        }
+        if (changed.cardinality() == dynamicUpdates.properties.size()) {
+            return storedQuery;
+        }
+        DynamicUpdate dynamicUpdate = dynamicUpdates.resolve(changed);
+        // The bindings of the default update are reused to keep the collected previous values of the auto-populated properties
+        List<QueryParameterBinding> queryBindings = storedQuery.getQueryBindings();
+        List<QueryParameterBinding> bindings = new ArrayList<>(dynamicUpdate.bindingIndexes.length);
+        for (int index : dynamicUpdate.bindingIndexes) {
+            bindings.add(queryBindings.get(index));
+        }
+        return new DefaultSqlStoredQuery<>(
+                new BasicStoredQuery<>(dynamicUpdate.query, null, bindings, rootEntity, rootEntity),
+                persistentEntity,
+                dynamicUpdates.queryBuilder
+        );
+    }
+
+    /**
+     * Looks up the cache of the entity loaded by the query if the query is the find by id of an entity annotated
+     * with {@link io.micronaut.data.annotation.EntityCache}. The cache is neither read nor filled in an active
+     * synchronous transaction, the transaction can see uncommitted state.
+     *
+     * @param preparedQuery The prepared query
+     * @param <E>           The entity type
+     * @param <R>           The result type
+     * @return The cache lookup or null if the result of the query isn't cached
+     * @since 3.6.0
+     */
+    @Nullable
+    protected final <E, R> EntityCacheLookup<R> lookupEntityCache(@NonNull SqlPreparedQuery<E, R> preparedQuery) {
+        RuntimePersistentEntity<E> persistentEntity = preparedQuery.getPersistentEntity();
+        EntityCaches.Cache cache = entityCaches.find(persistentEntity);
+        if (cache == null
+                || isTransactionActive()
+                || persistentEntity.getIdentity() == null
+                || preparedQuery.getResultDataType() != DataType.ENTITY
+                || preparedQuery.getResultType() != persistentEntity.getIntrospection().getBeanType()
+                || preparedQuery.isDtoProjection()
+                || preparedQuery.hasResultConsumer()
+                || preparedQuery.getPageable() != Pageable.UNPAGED) {
+            return null;
+        }
+        List<QueryParameterBinding> queryBindings = preparedQuery.getQueryBindings();
+        if (queryBindings.size() != 1) {
+            return null;
+        }
+        QueryParameterBinding binding = queryBindings.get(0);
+        if (binding.getParameterIndex() == -1 || binding.isAutoPopulated()) {
+            return null;
+        }
+        SqlQueryBuilder queryBuilder = preparedQuery.getQueryBuilder();
+        String findByIdQuery = cache.findByIdQueries.computeIfAbsent(queryBuilder, qb -> {
+            String idName = persistentEntity.getIdentity().getName();
+            QueryModel queryModel = QueryModel.from(persistentEntity).idEq(new QueryParameter(idName));
+            return qb.buildQuery(AnnotationMetadata.EMPTY_METADATA, queryModel).getQuery();
+        });
+        if (!findByIdQuery.equals(preparedQuery.getQuery())) {
+            return null;
+        }
+        Object id = preparedQuery.getParameterArray()[binding.getParameterIndex()];
+        if (id == null) {
+            return null;
+        }
+        return new EntityCacheLookup<>(cache, id);
+    }
+
+    /**
+     * Removes the entity from the cache of its entity type.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @since 3.6.0
+     */
+    protected final <E> void evictCachedEntity(@NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity) {
+        EntityCaches.Cache cache = entityCaches.find(persistentEntity);
+        if (cache != null) {
+            RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+            Object id = identity == null ? null : identity.getProperty().get(entity);
+            Runnable eviction = id != null ? () -> cache.evict(id) : cache::clear;
+            eviction.run();
+            evictAfterTransactionCompletion(eviction);
+        }
+    }
+
+    /**
+     * Removes all the entities from the cache of the entity type, used by the queries that update or delete
+     * entities without knowing their ids.
+     *
+     * @param persistentEntity The persistent entity
+     * @since 3.6.0
+     */
+    protected final void evictCachedEntities(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        EntityCaches.Cache cache = entityCaches.find(persistentEntity);
+        if (cache != null) {
+            cache.clear();
+            evictAfterTransactionCompletion(cache::clear);
+        }
+    }
+
+    /**
+     * Clears the cached results of the query methods depending on the entity written by the operation.
+     * The results are cleared again once the transaction of the operation completes.
+     *
+     * @param persistentEntity The persistent entity
+     * @since 3.6.0
+     */
+    protected final void invalidateQueryResults(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        if (queryResultCache != null && queryResultCache.hasRegions()) {
+            Class<?> entityType = persistentEntity.getIntrospection().getBeanType();
+            queryResultCache.invalidate(entityType);
+            evictAfterTransactionCompletion(() -> queryResultCache.invalidate(entityType));
+        }
+    }
+
+    private void evictAfterTransactionCompletion(Runnable eviction) {
+        // A concurrent reader can cache the previous state until the transaction completes
+        TransactionCompletionCallbacks.Callbacks callbacks = transactionCallbacks.find(findTransactionState());
+        if (callbacks != null) {
+            callbacks.onCompletion(eviction);
+        }
+    }
+
+    private boolean isTransactionActive() {
+        SynchronousTransactionState state = findTransactionState();
+        return state != null && state.isActualTransactionActive();
+    }
+
     /**
      * Resolve SQL insert association operation.
      *
@@ -412,6 +752,37 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         throw new IllegalStateException("Expected for prepared query to be of type: SqlStoredQuery got: " + storedQuery.getClass().getName());
     }
 
+    /**
+     * Checks if the rows of the query are ordered by the id of the root entity, in that case the rows of the same entity
+     * are adjacent and the entity can be completed as soon as the id changes. The order is resolved from the sort of the
+     * stored query or otherwise from the sort of the pageable, custom queries are never considered ordered.
+     *
+     * @param sqlPreparedQuery The prepared query
+     * @return true if the query is ordered by the root id
+     * @since 3.6.0
+     */
+    protected boolean isOrderedByRootId(SqlPreparedQuery<?, ?> sqlPreparedQuery) {
+        RuntimePersistentEntity<?> persistentEntity = sqlPreparedQuery.getPersistentEntity();
+        RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+        if (identity == null || identity instanceof Embedded) {
+            return false;
+        }
+        AnnotationMetadata annotationMetadata = sqlPreparedQuery.getAnnotationMetadata();
+        if (sqlPreparedQuery.isNative() || annotationMetadata.stringValue(Query.class, DataMethod.META_MEMBER_RAW_QUERY).isPresent()) {
+            return false;
+        }
+        String[] sortProperties = annotationMetadata.stringValues(DataMethod.class, DataMethod.META_MEMBER_SORT_PROPERTIES);
+        if (sortProperties.length > 0) {
+            return identity.getName().equals(sortProperties[0]);
+        }
+        Pageable pageable = sqlPreparedQuery.getPageable();
+        if (pageable == null) {
+            return false;
+        }
+        List<Sort.Order> orders = pageable.getSort().getOrderBy();
+        return !orders.isEmpty() && identity.getName().equals(orders.get(0).getProperty());
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -435,6 +806,33 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         }
     }
 
+    /**
+     * Does supports multi-row inserts: {@code INSERT INTO table (...) VALUES (...), (...)}.
+     * The multi-row insert is only used if the batch insert is supported and the driver returns the generated
+     * identities of all the rows.
+     *
+     * @param persistentEntity The persistent entity
+     * @param dialect          The dialect
+     * @return true if supported
+     * @since 3.6.0
+     */
+    protected boolean isSupportsMultiRowInsert(PersistentEntity persistentEntity, Dialect dialect) {
+        if (!isSupportsBatchInsert(persistentEntity, dialect)) {
+            return false;
+        }
+        switch (dialect) {
+            case POSTGRES:
+            case H2:
+                return true;
+            case MYSQL:
+            case ANSI:
+                PersistentProperty identity = persistentEntity.getIdentity();
+                return identity == null || !identity.isGenerated();
+            default:
+                return false;
+        }
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -458,6 +856,141 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     }
 
 
+    /**
+     * The updates of the changed columns of an entity, cached per set of changed properties.
+     */
+    private final class DynamicUpdates {
+        final SqlQueryBuilder queryBuilder;
+        final List<? extends RuntimePersistentProperty<?>> properties;
+        final Map<BitSet, DynamicUpdate> updates = new ConcurrentHashMap<>(10);
+        private final AnnotationMetadata annotationMetadata;
+        private final RuntimePersistentEntity<?> persistentEntity;
+        private final String defaultQuery;
+        private final List<io.micronaut.data.model.query.builder.QueryParameterBinding> defaultBindings;
+
+        DynamicUpdates(AnnotationMetadata annotationMetadata, SqlQueryBuilder queryBuilder, RuntimePersistentEntity<?> persistentEntity) {
+            this.annotationMetadata = annotationMetadata;
+            this.queryBuilder = queryBuilder;
+            this.persistentEntity = persistentEntity;
+            this.properties = entitySnapshots.getTrackedProperties(persistentEntity);
+            if (properties.isEmpty()) {
+                this.defaultQuery = null;
+                this.defaultBindings = Collections.emptyList();
+            } else {
+                QueryResult queryResult = buildUpdate(properties);
+                this.defaultQuery = queryResult.getQuery();
+                this.defaultBindings = queryResult.getParameterBindings();
+            }
+        }
+
+        /**
+         * Checks if the query is the default update of all the properties, the bindings of the dynamic updates
+         * are looked up in the bindings of the default update by their positions.
+         *
+         * @param storedQuery The query
+         * @return true if the query is the default update
+         */
+        boolean isDefaultUpdate(SqlStoredQuery<?, ?> storedQuery) {
+            if (defaultQuery == null || !defaultQuery.equals(storedQuery.getQuery())) {
+                return false;
+            }
+            List<QueryParameterBinding> queryBindings = storedQuery.getQueryBindings();
+            if (queryBindings.size() != defaultBindings.size()) {
+                return false;
+            }
+            for (int i = 0; i < queryBindings.size(); i++) {
+                if (!Arrays.equals(queryBindings.get(i).getPropertyPath(), defaultBindings.get(i).getPropertyPath())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        DynamicUpdate resolve(BitSet changed) {
+            return updates.computeIfAbsent(changed, bitSet -> {
+                List<RuntimePersistentProperty<?>> changedProperties = new ArrayList<>(bitSet.cardinality());
+                for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+                    changedProperties.add(properties.get(i));
+                }
+                QueryResult queryResult = buildUpdate(changedProperties);
+                List<io.micronaut.data.model.query.builder.QueryParameterBinding> bindings = queryResult.getParameterBindings();
+                // The changed properties keep the order of the default update, match the bindings in sequence
+                int[] bindingIndexes = new int[bindings.size()];
+                int index = 0;
+                for (int i = 0; i < bindings.size(); i++) {
+                    String[] propertyPath = bindings.get(i).getPropertyPath();
+                    while (!Arrays.equals(propertyPath, defaultBindings.get(index).getPropertyPath())) {
+                        index++;
+                    }
+                    bindingIndexes[i] = index++;
+                }
+                return new DynamicUpdate(queryResult.getQuery(), bindingIndexes);
+            });
+        }
+
+        private QueryResult buildUpdate(List<? extends RuntimePersistentProperty<?>> updateProperties) {
+            PersistentProperty identity = persistentEntity.getIdentity();
+            String idName = identity != null ? identity.getName() : TypeRole.ID;
+            QueryModel queryModel = QueryModel.from(persistentEntity).idEq(new QueryParameter(idName));
+            PersistentProperty version = persistentEntity.getVersion();
+            if (version != null) {
+                queryModel.eq(version.getName(), new QueryParameter(version.getName()));
+            }
+            List<String> propertyNames = updateProperties.stream().map(PersistentProperty::getName).collect(Collectors.toList());
+            return queryBuilder.buildUpdate(annotationMetadata, queryModel, propertyNames);
+        }
+    }
+
+    /**
+     * The update of the changed columns and the positions of its bindings in the default update.
+     */
+    private static final class DynamicUpdate {
+        final String query;
+        final int[] bindingIndexes;
+
+        DynamicUpdate(String query, int[] bindingIndexes) {
+            this.query = query;
+            this.bindingIndexes = bindingIndexes;
+        }
+    }
+
+    /**
+     * The lookup of an entity in the entity cache.
+     *
+     * @param <R> The entity type
+     * @since 3.6.0
+     */
+    protected static final class EntityCacheLookup<R> {
+        private final EntityCaches.Cache cache;
+        private final Object id;
+        private final long generation;
+
+        private EntityCacheLookup(EntityCaches.Cache cache, Object id) {
+            this.cache = cache;
+            this.id = id;
+            this.generation = cache.getGeneration();
+        }
+
+        /**
+         * @return The cached entity or null
+         */
+        @Nullable
+        public R get() {
+            return (R) cache.get(id);
+        }
+
+        /**
+         * Caches the loaded entity unless the cache was evicted since the lookup.
+         *
+         * @param entity The loaded entity
+         */
+        public void put(@Nullable R entity) {
+            if (entity != null) {
+                cache.put(id, entity, generation);
+            }
+        }
+    }
+
     /**
      * Used to cache queries for entities.
      */
@@ -17,24 +17,22 @@ package io.micronaut.data.runtime.operations.internal.sql;
 
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Internal;
-import io.micronaut.core.annotation.NonNull;
-import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
-import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
+import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
-import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.runtime.query.internal.DefaultPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 
-import java.lang.reflect.Array;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -52,6 +50,16 @@ final class DefaultSqlPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, Del
     private final InvocationContext<?, ?> invocationContext;
     private final SqlStoredQuery<E, R> sqlStoredQuery;
     private String query;
+    private int queryParameterCount = -1;
+    @Nullable
+    private int[] parameterSizes;
+    @Nullable
+    private QueryResult cursoredQuery;
+    @Nullable
+    private List<Object> cursor;
+    @Nullable
+    private List<io.micronaut.data.model.query.builder.QueryParameterBinding> paginationBindings;
+    private Pageable pagination;
 
     protected DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
         this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate());
@@ -101,6 +109,31 @@ final class DefaultSqlPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, Del
         return query;
     }
 
+    @Override
+    public int[] getExpandedParameterSizes(Object[] parameterValues) {
+        return sqlStoredQuery.getExpandedParameterSizes(parameterValues);
+    }
+
+    @Override
+    public String getExpandedQuery(int[] parameterSizes) {
+        return sqlStoredQuery.getExpandedQuery(parameterSizes);
+    }
+
+    @Override
+    public QueryResult getPaginatedQuery(String query, Sort sort, boolean paged, int parameterIndex) {
+        return sqlStoredQuery.getPaginatedQuery(query, sort, paged, parameterIndex);
+    }
+
+    @Override
+    public QueryResult getCursoredQuery(Sort sort, int[] parameterSizes) {
+        return sqlStoredQuery.getCursoredQuery(sort, parameterSizes);
+    }
+
+    @Override
+    public String getWindowCountQuery(int[] parameterSizes) {
+        return sqlStoredQuery.getWindowCountQuery(parameterSizes);
+    }
+
     @Override
     public Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity) {
         return sqlStoredQuery.collectAutoPopulatedPreviousValues(entity);
@@ -113,129 +146,103 @@ final class DefaultSqlPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, Del
      */
     public void prepare(E entity) {
         if (isExpandableQuery()) {
-            SqlQueryBuilder queryBuilder = sqlStoredQuery.getQueryBuilder();
-            String positionalParameterFormat = queryBuilder.positionalParameterFormat();
-            StringBuilder q = new StringBuilder(sqlStoredQuery.getExpandableQueryParts()[0]);
-            int queryParamIndex = 1;
-            int inx = 1;
-            for (QueryParameterBinding parameter : sqlStoredQuery.getQueryBindings()) {
-                if (!parameter.isExpandable()) {
-                    q.append(String.format(positionalParameterFormat, inx++));
-                } else {
-                    int size = Math.max(1, getQueryParameterValueSize(parameter));
-                    for (int k = 0; k < size; k++) {
-                        q.append(String.format(positionalParameterFormat, inx++));
-                        if (k + 1 != size) {
-                            q.append(",");
-                        }
-                    }
-                }
-                q.append(sqlStoredQuery.getExpandableQueryParts()[queryParamIndex++]);
+            int[] parameterSizes = sqlStoredQuery.getExpandedParameterSizes(preparedQuery.getParameterArray());
+            int parameterCount = 0;
+            for (int size : parameterSizes) {
+                parameterCount += size == ARRAY_PARAMETER ? 1 : size;
             }
-            this.query = q.toString();
+            // The expanded queries are cached by the stored query
+            this.query = sqlStoredQuery.getExpandedQuery(parameterSizes);
+            this.queryParameterCount = parameterCount;
+            this.parameterSizes = parameterSizes;
         }
     }
 
     @Override
     public void bindParameters(Binder binder, E entity, Map<QueryParameterBinding, Object> previousValues) {
-        sqlStoredQuery.bindParameters(binder, this.invocationContext, entity, previousValues);
+        bindParameters(binder, this.invocationContext, entity, previousValues);
     }
 
     @Override
     public void bindParameters(Binder binder, InvocationContext<?, ?> invocationContext, E entity, Map<QueryParameterBinding, Object> previousValues) {
-        sqlStoredQuery.bindParameters(binder, this.invocationContext, entity, previousValues);
+        if (cursoredQuery == null) {
+            sqlStoredQuery.bindParameters(binder, this.invocationContext, entity, previousValues);
+        } else {
+            sqlStoredQuery.bindParameters(binder, this.invocationContext, entity, previousValues, cursoredQuery, cursor);
+        }
+        bindPaginationParameters(binder);
+    }
+
+    @Override
+    public void bindParameters(Binder binder, InvocationContext<?, ?> invocationContext, E entity, Map<QueryParameterBinding, Object> previousValues,
+                               QueryResult cursoredQuery, List<Object> cursor) {
+        sqlStoredQuery.bindParameters(binder, this.invocationContext, entity, previousValues, cursoredQuery, cursor);
     }
 
-    private int getQueryParameterValueSize(QueryParameterBinding parameter) {
-        int parameterIndex = parameter.getParameterIndex();
-        if (parameterIndex == -1) {
-            return 1;
+    private void bindPaginationParameters(Binder binder) {
+        if (paginationBindings != null) {
+            for (io.micronaut.data.model.query.builder.QueryParameterBinding paginationBinding : paginationBindings) {
+                if (paginationBinding.getDataType() == DataType.INTEGER) {
+                    binder.bind(DataType.INTEGER, pagination.getSize());
+                } else {
+                    binder.bind(DataType.LONG, pagination.getOffset());
+                }
+            }
         }
-        return sizeOf(preparedQuery.getParameterArray()[parameterIndex]);
     }
 
     public void attachPageable(Pageable pageable, boolean isSingleResult) {
         if (pageable != Pageable.UNPAGED) {
-            RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
-            SqlQueryBuilder queryBuilder = sqlStoredQuery.getQueryBuilder();
-            StringBuilder added = new StringBuilder();
             Sort sort = pageable.getSort();
-            if (sort.isSorted()) {
-                added.append(queryBuilder.buildOrderBy(persistentEntity, sort).getQuery());
-            } else if (isSqlServerWithoutOrderBy(query, sqlStoredQuery.getDialect())) {
-                // SQL server requires order by
-                sort = sortById(persistentEntity);
-                added.append(queryBuilder.buildOrderBy(persistentEntity, sort).getQuery());
+            if (pageable instanceof CursoredPageable && ((CursoredPageable) pageable).getCursor() != null) {
+                // The queries without the position of the predicate fall back to the offset of the page
+                if (attachCursor(sort, ((CursoredPageable) pageable).getCursor())) {
+                    // The rows of the previous pages are excluded by the cursor predicate
+                    pageable = Pageable.from(0, isSingleResult ? 1 : pageable.getSize());
+                }
             }
             if (isSingleResult && pageable.getOffset() > 0) {
                 pageable = Pageable.from(pageable.getNumber(), 1);
             }
-            added.append(queryBuilder.buildPagination(pageable).getQuery());
-            int forUpdateIndex = query.lastIndexOf(SqlQueryBuilder.STANDARD_FOR_UPDATE_CLAUSE);
-            if (forUpdateIndex == -1) {
-                forUpdateIndex = query.lastIndexOf(SqlQueryBuilder.SQL_SERVER_FOR_UPDATE_CLAUSE);
+            boolean paged = pageable.getSize() > 0;
+            int parameterCount = queryParameterCount == -1 ? sqlStoredQuery.getQueryBindings().size() : queryParameterCount;
+            if (cursoredQuery != null) {
+                parameterCount += cursoredQuery.getParameterBindings().size();
             }
-            if (forUpdateIndex > -1) {
-                query = query.substring(0, forUpdateIndex) + added + query.substring(forUpdateIndex);
-            } else {
-                query += added;
+            // The offset and the limit are bound as parameters, the same pages share the cached query
+            QueryResult paginatedQuery = sqlStoredQuery.getPaginatedQuery(query, sort, paged, parameterCount + 1);
+            query = paginatedQuery.getQuery();
+            if (paged) {
+                paginationBindings = paginatedQuery.getParameterBindings();
+                pagination = pageable;
             }
         }
     }
 
-    /**
-     * Build a sort for ID for the given entity.
-     *
-     * @param persistentEntity The entity
-     * @param <K>              The entity type
-     * @return The sort
-     */
-    @NonNull
-    private <K> Sort sortById(RuntimePersistentEntity<K> persistentEntity) {
-        Sort sort;
-        RuntimePersistentProperty<K> identity = persistentEntity.getIdentity();
-        if (identity == null) {
-            throw new DataAccessException("Pagination requires an entity ID on SQL Server");
+    @Override
+    public boolean attachWindowCount() {
+        // The queries with the window column are cached by the stored query
+        String windowCountQuery = sqlStoredQuery.getWindowCountQuery(parameterSizes);
+        if (windowCountQuery == null) {
+            return false;
         }
-        sort = Sort.unsorted().order(Sort.Order.asc(identity.getName()));
-        return sort;
+        this.query = windowCountQuery;
+        return true;
     }
 
-    /**
-     * In the dialect SQL server and is order by required.
-     *
-     * @param query   The query
-     * @param dialect The dialect
-     * @return True if it is
-     */
-    private boolean isSqlServerWithoutOrderBy(String query, Dialect dialect) {
-        return dialect == Dialect.SQL_SERVER && !query.contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE);
-    }
-
-    /**
-     * Compute the size of the given object.
-     *
-     * @param value The value
-     * @return The size
-     */
-    private int sizeOf(Object value) {
-        if (value == null) {
-            return 1;
+    private boolean attachCursor(Sort sort, List<Object> cursor) {
+        if (sort.getOrderBy().size() != cursor.size()) {
+            throw new IllegalArgumentException("The cursor must contain a value for every sort order");
         }
-        if (value instanceof Collection) {
-            return ((Collection) value).size();
-        } else if (value instanceof Iterable) {
-            int i = 0;
-            Iterator<?> iterator = ((Iterable<?>) value).iterator();
-            while (iterator.hasNext()) {
-                iterator.next();
-                i++;
-            }
-            return i;
-        } else if (value.getClass().isArray()) {
-            return Array.getLength(value);
+        // The query with the keyset pagination predicate is cached by the stored query
+        QueryResult cursoredQuery = sqlStoredQuery.getCursoredQuery(sort, parameterSizes);
+        if (cursoredQuery == null) {
+            return false;
         }
-        return 1;
+        this.cursoredQuery = cursoredQuery;
+        this.cursor = cursor;
+        this.query = cursoredQuery.getQuery();
+        return true;
     }
 
 }
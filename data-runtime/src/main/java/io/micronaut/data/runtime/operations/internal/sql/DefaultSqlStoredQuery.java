@@ -17,12 +17,19 @@ package io.micronaut.data.runtime.operations.internal.sql;
 
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
+import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
@@ -39,6 +46,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -52,10 +61,28 @@ import java.util.stream.Collectors;
 @Internal
 final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, DelegateStoredQuery<E, R> {
 
+    private static final Pattern IN_LIST_START = Pattern.compile("(?i)(\\bNOT\\s+)?\\bIN\\s*\\(\\s*$");
+    private static final Pattern IN_LIST_END = Pattern.compile("^\\s*\\)");
+    private static final int MAX_CACHED_QUERIES = 64;
+    private static final String WHERE_CLAUSE = " WHERE ";
+    private static final String LOGICAL_AND = " AND ";
+
     private final StoredQuery<E, R> storedQuery;
     private final RuntimePersistentEntity<E> runtimePersistentEntity;
     private final boolean expandableQuery;
     private final SqlQueryBuilder queryBuilder;
+    private final ParameterExpansion[] parameterExpansions;
+    private final String[] arrayQueryParts;
+    private final Map<ExpandedQueryKey, String> expandedQueries;
+    @Nullable
+    private final int[] whereClauseEnd;
+    private final Map<CursoredQueryKey, QueryResult> cursoredQueries;
+    @Nullable
+    private final int[] selectionEnd;
+    private final Map<ExpandedQueryKey, String> windowCountQueries;
+    private final Map<PaginatedQueryKey, QueryResult> paginatedQueries = new ConcurrentLinkedHashMap.Builder<PaginatedQueryKey, QueryResult>()
+            .maximumWeightedCapacity(MAX_CACHED_QUERIES)
+            .build();
 
     /**
      * @param storedQuery             The stored query
@@ -74,6 +101,67 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
         if (expandableQuery && expandableQueryParts.length != queryParameterBindings.size() + 1) {
             throw new IllegalStateException("Expandable query parts size should be the same as parameters size + 1. " + expandableQueryParts.length + " != 1 + " + queryParameterBindings.size() + " " + storedQuery.getQuery() + " " + Arrays.toString(expandableQueryParts));
         }
+        if (expandableQuery) {
+            this.parameterExpansions = new ParameterExpansion[queryParameterBindings.size()];
+            this.arrayQueryParts = expandableQueryParts.clone();
+            for (int i = 0; i < parameterExpansions.length; i++) {
+                parameterExpansions[i] = resolveParameterExpansion(queryParameterBindings.get(i), expandableQueryParts[i], expandableQueryParts[i + 1]);
+                if (parameterExpansions[i] == ParameterExpansion.ARRAY) {
+                    Matcher matcher = IN_LIST_START.matcher(expandableQueryParts[i]);
+                    if (matcher.find()) {
+                        arrayQueryParts[i] = expandableQueryParts[i].substring(0, matcher.start()) + (matcher.group(1) == null ? "= ANY (" : "<> ALL (");
+                    }
+                }
+            }
+            this.expandedQueries = new ConcurrentLinkedHashMap.Builder<ExpandedQueryKey, String>()
+                    .maximumWeightedCapacity(MAX_CACHED_QUERIES)
+                    .build();
+        } else {
+            this.parameterExpansions = null;
+            this.arrayQueryParts = null;
+            this.expandedQueries = null;
+        }
+        int[] whereClauseEnd = storedQuery.getAnnotationMetadata()
+                .getValue(DataMethod.class, DataMethod.META_MEMBER_WHERE_CLAUSE_END, int[].class)
+                .orElse(null);
+        if (whereClauseEnd != null && whereClauseEnd.length == 3 && expandableQueryParts.length == queryParameterBindings.size() + 1) {
+            this.whereClauseEnd = whereClauseEnd;
+            this.cursoredQueries = new ConcurrentLinkedHashMap.Builder<CursoredQueryKey, QueryResult>()
+                    .maximumWeightedCapacity(MAX_CACHED_QUERIES)
+                    .build();
+        } else {
+            this.whereClauseEnd = null;
+            this.cursoredQueries = null;
+        }
+        int[] selectionEnd = storedQuery.getAnnotationMetadata()
+                .getValue(DataMethod.class, DataMethod.META_MEMBER_SELECTION_END, int[].class)
+                .orElse(null);
+        if (selectionEnd != null && selectionEnd.length == 2 && expandableQueryParts.length == queryParameterBindings.size() + 1) {
+            this.selectionEnd = selectionEnd;
+            this.windowCountQueries = new ConcurrentLinkedHashMap.Builder<ExpandedQueryKey, String>()
+                    .maximumWeightedCapacity(MAX_CACHED_QUERIES)
+                    .build();
+        } else {
+            this.selectionEnd = null;
+            this.windowCountQueries = null;
+        }
+    }
+
+    private ParameterExpansion resolveParameterExpansion(QueryParameterBinding binding, String partBefore, String partAfter) {
+        if (!binding.isExpandable()
+                || binding.getParameterIndex() == -1
+                || binding.getValue() != null
+                || binding.getParameterBindingPath() != null
+                || binding.isAutoPopulated()
+                || !IN_LIST_START.matcher(partBefore).find()
+                || !IN_LIST_END.matcher(partAfter).find()) {
+            // Not an IN list of the values of a method parameter, the values are expanded as they are
+            return ParameterExpansion.VALUES;
+        }
+        if (getDialect() == Dialect.POSTGRES && binding.getParameterConverterClass() == null && toArrayType(binding.getDataType()) != null) {
+            return ParameterExpansion.ARRAY;
+        }
+        return ParameterExpansion.PADDED_VALUES;
     }
 
     @Override
@@ -101,6 +189,222 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
         return queryBuilder;
     }
 
+    @Override
+    public int[] getExpandedParameterSizes(@Nullable Object[] parameterValues) {
+        List<QueryParameterBinding> queryBindings = storedQuery.getQueryBindings();
+        int[] sizes = new int[queryBindings.size()];
+        int[] paddedSizes = new int[sizes.length];
+        int parameterCount = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            QueryParameterBinding binding = queryBindings.get(i);
+            int size = 1;
+            if (binding.isExpandable() && binding.getParameterIndex() != -1 && parameterValues != null) {
+                List<Object> values = expandValue(parameterValues[binding.getParameterIndex()], binding.getDataType());
+                ParameterExpansion expansion = parameterExpansions == null ? ParameterExpansion.VALUES : parameterExpansions[i];
+                if (expansion == ParameterExpansion.ARRAY && toArray(values, binding.getDataType()) != null) {
+                    size = ARRAY_PARAMETER;
+                } else if (values != null) {
+                    size = Math.max(1, values.size());
+                }
+                sizes[i] = size;
+                paddedSizes[i] = expansion == ParameterExpansion.PADDED_VALUES ? paddedSize(size, getDialect()) : size;
+            } else {
+                sizes[i] = size;
+                paddedSizes[i] = size;
+            }
+            parameterCount += paddedSizes[i] == ARRAY_PARAMETER ? 1 : paddedSizes[i];
+        }
+        // The padding must not turn a statement within the parameter limit into one exceeding it
+        return parameterCount > parameterLimit(getDialect()) ? sizes : paddedSizes;
+    }
+
+    @Override
+    public String getExpandedQuery(int[] parameterSizes) {
+        if (!expandableQuery) {
+            return getQuery();
+        }
+        return expandedQueries.computeIfAbsent(new ExpandedQueryKey(parameterSizes), key -> buildQuery(parameterSizes, null, null, null));
+    }
+
+    @Override
+    public QueryResult getCursoredQuery(Sort sort, @Nullable int[] parameterSizes) {
+        if (whereClauseEnd == null) {
+            return null;
+        }
+        return cursoredQueries.computeIfAbsent(new CursoredQueryKey(sort, parameterSizes), key -> {
+            List<io.micronaut.data.model.query.builder.QueryParameterBinding> cursorBindings = new ArrayList<>(sort.getOrderBy().size());
+            String query = buildQuery(parameterSizes, sort, cursorBindings, null);
+            return QueryResult.of(query, Collections.emptyList(), cursorBindings, Collections.emptyMap());
+        });
+    }
+
+    @Override
+    public String getWindowCountQuery(@Nullable int[] parameterSizes) {
+        if (selectionEnd == null) {
+            return null;
+        }
+        String windowCountColumn = queryBuilder.buildWindowCountColumn();
+        if (windowCountColumn == null) {
+            return null;
+        }
+        return windowCountQueries.computeIfAbsent(new ExpandedQueryKey(parameterSizes), key -> buildQuery(parameterSizes, null, null, windowCountColumn));
+    }
+
+    /**
+     * Builds the query from the query parts.
+     *
+     * @param parameterSizes The sizes of the query bindings or null if the parameters aren't expanded
+     * @param cursorSort     The sort of the keyset pagination predicate or null
+     * @param cursorBindings The list collecting the bindings of the cursor values
+     * @param windowCountColumn The window count column added after the selected columns or null
+     * @return The query
+     */
+    private String buildQuery(@Nullable int[] parameterSizes,
+                              @Nullable Sort cursorSort,
+                              @Nullable List<io.micronaut.data.model.query.builder.QueryParameterBinding> cursorBindings,
+                              @Nullable String windowCountColumn) {
+        String[] queryParts = storedQuery.getExpandableQueryParts();
+        String positionalParameterFormat = queryBuilder.positionalParameterFormat();
+        StringBuilder q = new StringBuilder();
+        int inx = 1;
+        for (int i = 0; i < queryParts.length; i++) {
+            boolean hasParameter = i + 1 < queryParts.length;
+            int size = parameterSizes == null || !hasParameter ? 1 : parameterSizes[i];
+            String part = queryParts[i];
+            if (size == ARRAY_PARAMETER) {
+                // Replaces the IN list start of the part
+                part = arrayQueryParts[i];
+                size = 1;
+            }
+            if (cursorSort != null && i == whereClauseEnd[0]) {
+                QueryResult predicate = queryBuilder.buildCursorPredicate(runtimePersistentEntity, cursorSort, inx);
+                int offset = whereClauseEnd[1];
+                part = part.substring(0, offset)
+                        + (whereClauseEnd[2] == 1 ? LOGICAL_AND : WHERE_CLAUSE)
+                        + predicate.getQuery()
+                        + part.substring(offset);
+                inx += predicate.getParameterBindings().size();
+                cursorBindings.addAll(predicate.getParameterBindings());
+            }
+            if (windowCountColumn != null && i == selectionEnd[0]) {
+                // The selected columns precede the where clause, the offset isn't moved by the cursor predicate
+                int offset = selectionEnd[1];
+                part = part.substring(0, offset) + windowCountColumn + part.substring(offset);
+            }
+            q.append(part);
+            if (hasParameter) {
+                for (int k = 0; k < size; k++) {
+                    q.append(String.format(positionalParameterFormat, inx++));
+                    if (k + 1 != size) {
+                        q.append(",");
+                    }
+                }
+            }
+        }
+        return q.toString();
+    }
+
+    @Override
+    public QueryResult getPaginatedQuery(String query, Sort sort, boolean paged, int parameterIndex) {
+        return paginatedQueries.computeIfAbsent(new PaginatedQueryKey(query, sort, paged, parameterIndex), key -> {
+            RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+            StringBuilder added = new StringBuilder();
+            if (sort.isSorted()) {
+                added.append(queryBuilder.buildOrderBy(persistentEntity, sort).getQuery());
+            } else if (isSqlServerWithoutOrderBy(query, getDialect())) {
+                // SQL server requires order by
+                added.append(queryBuilder.buildOrderBy(persistentEntity, sortById(persistentEntity)).getQuery());
+            }
+            List<io.micronaut.data.model.query.builder.QueryParameterBinding> parameterBindings = Collections.emptyList();
+            if (paged) {
+                QueryResult pagination = queryBuilder.buildPagination(parameterIndex);
+                added.append(pagination.getQuery());
+                parameterBindings = pagination.getParameterBindings();
+            }
+            String paginatedQuery;
+            int forUpdateIndex = query.lastIndexOf(SqlQueryBuilder.STANDARD_FOR_UPDATE_CLAUSE);
+            if (forUpdateIndex == -1) {
+                forUpdateIndex = query.lastIndexOf(SqlQueryBuilder.SQL_SERVER_FOR_UPDATE_CLAUSE);
+            }
+            if (forUpdateIndex > -1) {
+                paginatedQuery = query.substring(0, forUpdateIndex) + added + query.substring(forUpdateIndex);
+            } else {
+                paginatedQuery = query + added;
+            }
+            return QueryResult.of(paginatedQuery, Collections.emptyList(), parameterBindings, Collections.emptyMap());
+        });
+    }
+
+    /**
+     * Build a sort for ID for the given entity.
+     *
+     * @param persistentEntity The entity
+     * @param <K>              The entity type
+     * @return The sort
+     */
+    @NonNull
+    private <K> Sort sortById(RuntimePersistentEntity<K> persistentEntity) {
+        RuntimePersistentProperty<K> identity = persistentEntity.getIdentity();
+        if (identity == null) {
+            throw new DataAccessException("Pagination requires an entity ID on SQL Server");
+        }
+        return Sort.unsorted().order(Sort.Order.asc(identity.getName()));
+    }
+
+    /**
+     * In the dialect SQL server and is order by required.
+     *
+     * @param query   The query
+     * @param dialect The dialect
+     * @return True if it is
+     */
+    private boolean isSqlServerWithoutOrderBy(String query, Dialect dialect) {
+        return dialect == Dialect.SQL_SERVER && !query.contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE);
+    }
+
+    /**
+     * The number of the placeholders of an {@code IN} list with the given number of values. The size is rounded up
+     * to a power of two to limit the number of the distinct statements, the padded placeholders repeat the last value.
+     *
+     * @param size    The number of the values
+     * @param dialect The dialect
+     * @return The padded size
+     */
+    static int paddedSize(int size, Dialect dialect) {
+        int limit;
+        switch (dialect) {
+            case ORACLE:
+                // ORA-01795: maximum number of expressions in a list is 1000
+                limit = 1000;
+                break;
+            case SQL_SERVER:
+                // Leaves space for the other parameters of the 2100 parameters limit
+                limit = 2000;
+                break;
+            default:
+                limit = Short.MAX_VALUE;
+        }
+        if (size <= 1 || size >= limit) {
+            return size;
+        }
+        int padded = Integer.highestOneBit(size - 1) << 1;
+        return Math.min(padded, limit);
+    }
+
+    /**
+     * The maximum number of the parameters of a statement.
+     *
+     * @param dialect The dialect
+     * @return The limit
+     */
+    static int parameterLimit(Dialect dialect) {
+        if (dialect == Dialect.SQL_SERVER) {
+            return 2100;
+        }
+        // The Postgres wire protocol limits the number of the parameters to a signed short
+        return Short.MAX_VALUE;
+    }
+
     @Override
     public Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity) {
         if (storedQuery.getQueryBindings().isEmpty()) {
@@ -133,8 +437,41 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
                               E entity,
                                @Nullable
                               Map<QueryParameterBinding, Object> previousValues) {
-        for (QueryParameterBinding queryParameterBinding : storedQuery.getQueryBindings()) {
-            bindParameter(binder, invocationContext, entity, previousValues, queryParameterBinding);
+        bindParameters(binder, invocationContext, entity, previousValues, null, null);
+    }
+
+    @Override
+    public void bindParameters(Binder binder,
+                               @Nullable InvocationContext<?, ?> invocationContext,
+                               @Nullable E entity,
+                               @Nullable Map<QueryParameterBinding, Object> previousValues,
+                               @Nullable QueryResult cursoredQuery,
+                               @Nullable List<Object> cursor) {
+        List<QueryParameterBinding> queryBindings = storedQuery.getQueryBindings();
+        // The sizes are resolved by the same rules as the placeholders of the prepared query
+        int[] parameterSizes = parameterExpansions == null
+                ? null
+                : getExpandedParameterSizes(invocationContext == null ? null : invocationContext.getParameterValues());
+        // The number of the query bindings preceding the keyset pagination predicate
+        int cursorIndex = cursoredQuery == null ? -1 : whereClauseEnd[0];
+        for (int i = 0; i < queryBindings.size(); i++) {
+            if (i == cursorIndex) {
+                bindCursor(binder, cursoredQuery, cursor);
+            }
+            bindParameter(binder, invocationContext, entity, previousValues, queryBindings.get(i), i, parameterSizes);
+        }
+        if (cursorIndex == queryBindings.size()) {
+            bindCursor(binder, cursoredQuery, cursor);
+        }
+    }
+
+    private void bindCursor(Binder binder, QueryResult cursoredQuery, List<Object> cursor) {
+        for (io.micronaut.data.model.query.builder.QueryParameterBinding cursorBinding : cursoredQuery.getParameterBindings()) {
+            PersistentPropertyPath pp = runtimePersistentEntity.getPropertyPath(cursorBinding.getPropertyPath());
+            RuntimePersistentProperty<?> persistentProperty = pp == null ? null : (RuntimePersistentProperty<?>) pp.getProperty();
+            // The parameter index of a cursor binding is the index of the sort order
+            Object value = cursor.get(cursorBinding.getParameterIndex());
+            binder.bind(cursorBinding.getDataType(), binder.convert(value, persistentProperty));
         }
     }
 
@@ -142,7 +479,9 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
                                @Nullable InvocationContext<?, ?> invocationContext,
                                @Nullable E entity,
                                @Nullable Map<QueryParameterBinding, Object> previousValues,
-                               QueryParameterBinding binding) {
+                               QueryParameterBinding binding,
+                               int bindingIndex,
+                               @Nullable int[] parameterSizes) {
         RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
         Class<?> parameterConverter = binding.getParameterConverterClass();
         DataType dataType = binding.getDataType();
@@ -194,6 +533,14 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
         }
 
         List<Object> values = binding.isExpandable() ? expandValue(value, dataType) : Collections.singletonList(value);
+        int size = -1;
+        if (parameterSizes != null && parameterExpansions[bindingIndex] != ParameterExpansion.VALUES) {
+            size = parameterSizes[bindingIndex];
+            if (size == ARRAY_PARAMETER) {
+                binder.bind(toArrayType(dataType), toArray(values, dataType));
+                return;
+            }
+        }
         if (values != null && values.isEmpty()) {
             // Empty collections / array should always set at least one value
             value = null;
@@ -207,7 +554,9 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
             }
             binder.bind(dataType, value);
         } else {
-            for (Object v : values) {
+            Object v = null;
+            for (Object o : values) {
+                v = o;
                 if (parameterConverter != null) {
                     v = binder.convert(parameterConverter, v, argument);
                 } else if (persistentProperty != null) {
@@ -215,6 +564,10 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
                 }
                 binder.bind(dataType, v);
             }
+            for (int k = values.size(); k < size; k++) {
+                // Padding of the IN list
+                binder.bind(dataType, v);
+            }
         }
     }
 
@@ -258,6 +611,73 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
         }
     }
 
+    @Nullable
+    private static DataType toArrayType(DataType dataType) {
+        switch (dataType) {
+            case LONG:
+                return DataType.LONG_ARRAY;
+            case INTEGER:
+                return DataType.INTEGER_ARRAY;
+            case SHORT:
+                return DataType.SHORT_ARRAY;
+            case STRING:
+                return DataType.STRING_ARRAY;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts the values of an {@code IN} list to an array parameter.
+     *
+     * @param values   The values
+     * @param dataType The data type of the values
+     * @return The array or null if the values cannot be bound as an array
+     */
+    @Nullable
+    private static Object[] toArray(@Nullable List<Object> values, DataType dataType) {
+        if (values == null || values.isEmpty()) {
+            // Empty IN list is bound as NULL
+            return null;
+        }
+        Object[] array;
+        switch (dataType) {
+            case LONG:
+                array = new Long[values.size()];
+                break;
+            case INTEGER:
+                array = new Integer[values.size()];
+                break;
+            case SHORT:
+                array = new Short[values.size()];
+                break;
+            case STRING:
+                array = new String[values.size()];
+                break;
+            default:
+                return null;
+        }
+        for (int i = 0; i < array.length; i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                return null;
+            }
+            if (dataType == DataType.STRING) {
+                if (!(value instanceof CharSequence || value instanceof Enum)) {
+                    return null;
+                }
+                array[i] = value.toString();
+            } else if (value instanceof Number) {
+                Number number = (Number) value;
+                array[i] = dataType == DataType.LONG ? Long.valueOf(number.longValue())
+                        : dataType == DataType.INTEGER ? Integer.valueOf(number.intValue()) : Short.valueOf(number.shortValue());
+            } else {
+                return null;
+            }
+        }
+        return array;
+    }
+
     private <T> PersistentPropertyPath getRequiredPropertyPath(QueryParameterBinding queryParameterBinding, RuntimePersistentEntity<T> persistentEntity) {
         String[] propertyPath = queryParameterBinding.getRequiredPropertyPath();
         PersistentPropertyPath pp = persistentEntity.getPropertyPath(propertyPath);
@@ -273,4 +693,126 @@ final class DefaultSqlStoredQuery<E, R> implements SqlStoredQuery<E, R>, Delegat
         }
     }
 
+    /**
+     * The binding of the values of an expandable parameter.
+     */
+    private enum ParameterExpansion {
+        /**
+         * A placeholder for each value.
+         */
+        VALUES,
+        /**
+         * A placeholder for each value of an {@code IN} list, padded to the bucket size.
+         */
+        PADDED_VALUES,
+        /**
+         * The values of an {@code IN} list are bound as a single array if possible.
+         */
+        ARRAY
+    }
+
+    /**
+     * The key of a paginated query.
+     */
+    private static final class PaginatedQueryKey {
+
+        private final String query;
+        private final Sort sort;
+        private final boolean paged;
+        private final int parameterIndex;
+        private final int hash;
+
+        PaginatedQueryKey(String query, Sort sort, boolean paged, int parameterIndex) {
+            this.query = query;
+            this.sort = sort;
+            this.paged = paged;
+            this.parameterIndex = parameterIndex;
+            this.hash = Objects.hash(query, sort, paged, parameterIndex);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PaginatedQueryKey)) {
+                return false;
+            }
+            PaginatedQueryKey that = (PaginatedQueryKey) o;
+            return paged == that.paged
+                    && parameterIndex == that.parameterIndex
+                    && query.equals(that.query)
+                    && sort.equals(that.sort);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The key of a cursored query.
+     */
+    private static final class CursoredQueryKey {
+
+        private final Sort sort;
+        @Nullable
+        private final int[] parameterSizes;
+        private final int hash;
+
+        CursoredQueryKey(Sort sort, @Nullable int[] parameterSizes) {
+            this.sort = sort;
+            this.parameterSizes = parameterSizes;
+            this.hash = 31 * sort.hashCode() + Arrays.hashCode(parameterSizes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CursoredQueryKey)) {
+                return false;
+            }
+            CursoredQueryKey that = (CursoredQueryKey) o;
+            return sort.equals(that.sort) && Arrays.equals(parameterSizes, that.parameterSizes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The key of an expanded query.
+     */
+    private static final class ExpandedQueryKey {
+
+        private final int[] parameterSizes;
+        private final int hash;
+
+        ExpandedQueryKey(int[] parameterSizes) {
+            this.parameterSizes = parameterSizes;
+            this.hash = Arrays.hashCode(parameterSizes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExpandedQueryKey)) {
+                return false;
+            }
+            return Arrays.equals(parameterSizes, ((ExpandedQueryKey) o).parameterSizes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
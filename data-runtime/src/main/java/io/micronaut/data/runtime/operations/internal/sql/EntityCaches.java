@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.annotation.EntityCache;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The caches of the entities annotated with {@link EntityCache}, keyed by the entity id. The caches are bounded by
+ * the {@link ConcurrentLinkedHashMap} of Micronaut core like the other caches of the module, the expiry is checked
+ * when an entity is read.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class EntityCaches {
+
+    private final Map<RuntimePersistentEntity<?>, Optional<Cache>> caches = new ConcurrentHashMap<>(10);
+
+    /**
+     * Finds the cache of the entity.
+     *
+     * @param persistentEntity The persistent entity
+     * @return The cache or null if the entity isn't cached
+     */
+    @Nullable
+    Cache find(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return caches.computeIfAbsent(persistentEntity, pe -> {
+            AnnotationValue<EntityCache> entityCache = pe.getAnnotationMetadata().getAnnotation(EntityCache.class);
+            if (entityCache == null) {
+                return Optional.empty();
+            }
+            int maxSize = entityCache.intValue("maxSize").orElse(1000);
+            Duration expireAfterWrite = entityCache.stringValue("expireAfterWrite")
+                    .filter(StringUtils::isNotEmpty)
+                    .map(value -> parseDuration(pe, value))
+                    .orElse(null);
+            return Optional.of(new Cache(maxSize, expireAfterWrite));
+        }).orElse(null);
+    }
+
+    private static Duration parseDuration(RuntimePersistentEntity<?> persistentEntity, String value) {
+        return ConversionService.SHARED.convert(value, Duration.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid expireAfterWrite [" + value + "] of the entity cache of: " + persistentEntity.getName()));
+    }
+
+    /**
+     * The cache of an entity, bounded by the number of entities and the duration after write.
+     */
+    static final class Cache {
+
+        /**
+         * The find by id query of the entity built by each query builder.
+         */
+        final Map<SqlQueryBuilder, String> findByIdQueries = new ConcurrentHashMap<>(2);
+        private final Map<Object, Entry> entries;
+        private final long expireAfterWriteNanos;
+        private final AtomicLong generation = new AtomicLong();
+
+        private Cache(int maxSize, @Nullable Duration expireAfterWrite) {
+            this.entries = new ConcurrentLinkedHashMap.Builder<Object, Entry>()
+                    .maximumWeightedCapacity(Math.max(1, maxSize))
+                    .build();
+            this.expireAfterWriteNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+        }
+
+        /**
+         * The generation is incremented by every eviction, an entity loaded before the eviction isn't cached.
+         *
+         * @return The current generation
+         */
+        long getGeneration() {
+            return generation.get();
+        }
+
+        @Nullable
+        Object get(@NonNull Object id) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (expireAfterWriteNanos > 0 && System.nanoTime() - entry.writeNanos >= expireAfterWriteNanos) {
+                entries.remove(id, entry);
+                return null;
+            }
+            return entry.entity;
+        }
+
+        void put(@NonNull Object id, @NonNull Object entity, long loadGeneration) {
+            if (generation.get() == loadGeneration) {
+                entries.put(id, new Entry(entity, System.nanoTime()));
+                if (generation.get() != loadGeneration) {
+                    // Evicted concurrently
+                    entries.remove(id);
+                }
+            }
+        }
+
+        void evict(@NonNull Object id) {
+            generation.incrementAndGet();
+            entries.remove(id);
+        }
+
+        void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * The cached entity.
+     */
+    private static final class Entry {
+        final Object entity;
+        final long writeNanos;
+
+        Entry(Object entity, long writeNanos) {
+            this.entity = entity;
+            this.writeNanos = writeNanos;
+        }
+    }
+}
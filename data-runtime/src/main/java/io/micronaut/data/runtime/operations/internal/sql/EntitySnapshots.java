@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.Embedded;
+import io.micronaut.data.model.runtime.RuntimeAssociation;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshots of the persisted state of entities, used to update only the changed columns of an entity.
+ * The entities are referenced weakly by their identity, the snapshot of an entity is discarded once the entity
+ * is garbage collected.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class EntitySnapshots {
+
+    private static final Object NOT_COMPARABLE = new Object();
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final Map<EntityKey, Object[]> snapshots = new ConcurrentHashMap<>(16);
+    private final Map<RuntimePersistentEntity<?>, List<RuntimePersistentProperty<?>>> trackedProperties = new ConcurrentHashMap<>(10);
+
+    /**
+     * The properties of the entity that are written by the default entity update, in the order of the update.
+     *
+     * @param persistentEntity The persistent entity
+     * @param <E>              The entity type
+     * @return The tracked properties
+     */
+    @NonNull
+    <E> List<RuntimePersistentProperty<E>> getTrackedProperties(@NonNull RuntimePersistentEntity<E> persistentEntity) {
+        //noinspection unchecked
+        return (List) trackedProperties.computeIfAbsent(persistentEntity, pe -> {
+            List<RuntimePersistentProperty<?>> properties = new ArrayList<>();
+            for (RuntimePersistentProperty<?> property : pe.getPersistentProperties()) {
+                if (((property instanceof Association) && ((Association) property).isForeignKey()) || property.isGenerated()) {
+                    continue;
+                }
+                if (!property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATEABLE).orElse(true)) {
+                    continue;
+                }
+                properties.add(property);
+            }
+            if (pe.getVersion() != null) {
+                properties.add(pe.getVersion());
+            }
+            return Collections.unmodifiableList(properties);
+        });
+    }
+
+    /**
+     * Stores the current state of the entity.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     */
+    <E> void snapshot(@NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity) {
+        List<RuntimePersistentProperty<E>> properties = getTrackedProperties(persistentEntity);
+        Object[] values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = snapshotValue(properties.get(i), entity);
+        }
+        expunge();
+        snapshots.put(new EntityKey(entity, queue), values);
+    }
+
+    /**
+     * Discards the snapshot of the entity, the next update of the entity writes all the tracked properties.
+     *
+     * @param entity The entity
+     */
+    void discard(@NonNull Object entity) {
+        snapshots.remove(new EntityKey(entity, null));
+    }
+
+    /**
+     * Finds the tracked properties whose value differs from the snapshot of the entity.
+     * The version, the embedded and the possibly mutable values are always considered as changed.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @return The indexes of the changed tracked properties or null if the entity has no snapshot
+     */
+    @Nullable
+    <E> BitSet findChangedProperties(@NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity) {
+        Object[] values = snapshots.get(new EntityKey(entity, null));
+        if (values == null) {
+            return null;
+        }
+        List<RuntimePersistentProperty<E>> properties = getTrackedProperties(persistentEntity);
+        BitSet changed = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == NOT_COMPARABLE || !Objects.equals(value, snapshotValue(properties.get(i), entity))) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    private <E> Object snapshotValue(RuntimePersistentProperty<E> property, E entity) {
+        if (property == property.getOwner().getVersion() || property instanceof Embedded) {
+            return NOT_COMPARABLE;
+        }
+        Object value = property.getProperty().get(entity);
+        if (value == null) {
+            return null;
+        }
+        if (property instanceof RuntimeAssociation) {
+            // Only the foreign key is written
+            RuntimePersistentProperty identity = ((RuntimeAssociation<E>) property).getAssociatedEntity().getIdentity();
+            if (identity == null || identity instanceof Embedded) {
+                return NOT_COMPARABLE;
+            }
+            Object id = identity.getProperty().get(value);
+            return id == null || isImmutable(id) ? id : NOT_COMPARABLE;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        return isImmutable(value) ? value : NOT_COMPARABLE;
+    }
+
+    private boolean isImmutable(Object value) {
+        return value instanceof String
+                || value instanceof Number && (value.getClass().getName().startsWith("java.lang.") || value instanceof BigDecimal || value instanceof BigInteger)
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum
+                || value instanceof UUID
+                || value.getClass().getName().startsWith("java.time.");
+    }
+
+    private void expunge() {
+        EntityKey key;
+        while ((key = (EntityKey) queue.poll()) != null) {
+            snapshots.remove(key);
+        }
+    }
+
+    /**
+     * Weak reference to an entity compared by the identity of the entity.
+     */
+    private static final class EntityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        EntityKey(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntityKey)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == ((EntityKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
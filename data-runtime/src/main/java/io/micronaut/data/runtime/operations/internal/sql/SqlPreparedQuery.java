@@ -56,6 +56,16 @@ public interface SqlPreparedQuery<E, R> extends PreparedQuery<E, R>, SqlStoredQu
      */
     void attachPageable(Pageable pageable, boolean isSingleResult);
 
+    /**
+     * Modify the query to read the total size of the rows from the {@code COUNT(*) OVER()} window column,
+     * see {@link #getWindowCountQuery(int[])}. Must be called after {@link #prepare(Object)} and before
+     * {@link #attachPageable(Pageable, boolean)}.
+     *
+     * @return true if the window column was added
+     * @since 3.6.0
+     */
+    boolean attachWindowCount();
+
     /**
      * Bind query parameters.
      *
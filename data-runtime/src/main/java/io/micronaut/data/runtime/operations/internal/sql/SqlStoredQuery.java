@@ -21,6 +21,8 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
@@ -28,6 +30,7 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,6 +44,13 @@ import java.util.Map;
 @Internal
 public interface SqlStoredQuery<E, R> extends StoredQuery<E, R> {
 
+    /**
+     * The size of an expandable parameter whose values are bound as a single array.
+     *
+     * @since 3.6.0
+     */
+    int ARRAY_PARAMETER = -1;
+
     /**
      * @return The persistent entity
      */
@@ -63,6 +73,67 @@ public interface SqlStoredQuery<E, R> extends StoredQuery<E, R> {
      */
     SqlQueryBuilder getQueryBuilder();
 
+    /**
+     * Resolves the number of the placeholders of the query bindings. The placeholders of an {@code IN} list
+     * are padded to limit the number of the distinct statements unless the padding would exceed the parameter limit
+     * of the dialect, the dialects supporting arrays bind the values as a single array.
+     *
+     * @param parameterValues The values of the method parameters
+     * @return The number of the placeholders or {@link #ARRAY_PARAMETER} for each query binding
+     * @since 3.6.0
+     */
+    @NonNull
+    int[] getExpandedParameterSizes(@Nullable Object[] parameterValues);
+
+    /**
+     * Expands the expandable parameters of the query.
+     *
+     * @param parameterSizes The sizes of the query bindings resolved by {@link #getExpandedParameterSizes(Object[])}
+     * @return The expanded query
+     * @since 3.6.0
+     */
+    @NonNull
+    String getExpandedQuery(int[] parameterSizes);
+
+    /**
+     * Resolves the query with the order by and the pagination clauses. The offset and the limit are bound as parameters,
+     * the paginated queries are cached by the stored query.
+     *
+     * @param query          The query
+     * @param sort           The sort
+     * @param paged          Whether to add the pagination clause
+     * @param parameterIndex The index of the first pagination parameter
+     * @return The paginated query with the bindings of the pagination parameters
+     * @since 3.6.0
+     */
+    @NonNull
+    QueryResult getPaginatedQuery(@NonNull String query, @NonNull Sort sort, boolean paged, int parameterIndex);
+
+    /**
+     * Resolves the query with the keyset pagination predicate of the sort added to the top level where clause.
+     * The predicate is added at the end of the where clause recorded by the query builder when the query was built,
+     * the queries are cached by the stored query.
+     *
+     * @param sort           The sort of the cursored pageable
+     * @param parameterSizes The sizes of the query bindings resolved by {@link #getExpandedParameterSizes(Object[])} or null
+     * @return The query with the bindings of the cursor values or null if the query doesn't support the keyset pagination
+     * @since 3.6.0
+     */
+    @Nullable
+    QueryResult getCursoredQuery(@NonNull Sort sort, @Nullable int[] parameterSizes);
+
+    /**
+     * Resolves the query with the {@code COUNT(*) OVER()} window column added after the selected columns.
+     * The column is added at the end of the selection recorded by the query builder when the query was built,
+     * the queries are cached by the stored query.
+     *
+     * @param parameterSizes The sizes of the query bindings resolved by {@link #getExpandedParameterSizes(Object[])} or null
+     * @return The query with the window column or null if the query or the dialect doesn't support it
+     * @since 3.6.0
+     */
+    @Nullable
+    String getWindowCountQuery(@Nullable int[] parameterSizes);
+
     /**
      * Collect auto-populated property values before pre-actions are triggered and property values are modified.
      *
@@ -84,6 +155,25 @@ public interface SqlStoredQuery<E, R> extends StoredQuery<E, R> {
                         @Nullable E entity,
                         @Nullable Map<QueryParameterBinding, Object> previousValues);
 
+    /**
+     * Bind the parameters of a query resolved by {@link #getCursoredQuery(Sort, int[])}. The cursor values are bound
+     * after the query parameters preceding the keyset pagination predicate.
+     *
+     * @param binder            The binder
+     * @param invocationContext The invocation context
+     * @param entity            The entity
+     * @param previousValues    The previous auto-populated collected values
+     * @param cursoredQuery     The cursored query
+     * @param cursor            The values of the sort properties of the last row of the previous page
+     * @since 3.6.0
+     */
+    void bindParameters(Binder binder,
+                        @Nullable InvocationContext<?, ?> invocationContext,
+                        @Nullable E entity,
+                        @Nullable Map<QueryParameterBinding, Object> previousValues,
+                        @NonNull QueryResult cursoredQuery,
+                        @NonNull List<Object> cursor);
+
     /**
      * Parameters binder.
      */
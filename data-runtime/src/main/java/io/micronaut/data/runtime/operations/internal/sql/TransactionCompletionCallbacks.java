@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.support.SynchronousTransactionState;
+import io.micronaut.transaction.support.TransactionSynchronization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The callbacks to run once the active transactions of the synchronous transaction states complete.
+ * A single synchronization collecting the callbacks is registered per transaction.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class TransactionCompletionCallbacks {
+
+    private final Map<SynchronousTransactionState, Callbacks> active = new ConcurrentHashMap<>(16);
+
+    /**
+     * Finds the callbacks of the active transaction of the state.
+     *
+     * @param state The transaction state
+     * @return The callbacks or null if there is no active transaction with synchronization
+     */
+    @Nullable
+    Callbacks find(@Nullable SynchronousTransactionState state) {
+        if (state == null || !state.isActualTransactionActive() || !state.isSynchronizationActive()) {
+            return null;
+        }
+        return active.computeIfAbsent(state, s -> {
+            Callbacks callbacks = new Callbacks(s);
+            s.registerSynchronization(callbacks);
+            return callbacks;
+        });
+    }
+
+    /**
+     * The callbacks of a transaction. A suspended transaction takes its callbacks along.
+     */
+    final class Callbacks implements TransactionSynchronization {
+
+        private final SynchronousTransactionState state;
+        private final List<Runnable> onRollback = new ArrayList<>();
+        private final List<Runnable> onCompletion = new ArrayList<>();
+
+        private Callbacks(SynchronousTransactionState state) {
+            this.state = state;
+        }
+
+        /**
+         * Adds a callback run if the transaction doesn't commit.
+         *
+         * @param callback The callback
+         */
+        void onRollback(@NonNull Runnable callback) {
+            onRollback.add(callback);
+        }
+
+        /**
+         * Adds a callback run once the transaction completes, whatever the outcome.
+         *
+         * @param callback The callback
+         */
+        void onCompletion(@NonNull Runnable callback) {
+            onCompletion.add(callback);
+        }
+
+        @Override
+        public void suspend() {
+            active.remove(state, this);
+        }
+
+        @Override
+        public void resume() {
+            active.put(state, this);
+        }
+
+        @Override
+        public void afterCompletion(@NonNull Status status) {
+            active.remove(state, this);
+            if (status != Status.COMMITTED) {
+                onRollback.forEach(Runnable::run);
+            }
+            onCompletion.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.micronaut.data.runtime.intercept.criteria
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.event.EntityEventListener
+import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot
+import io.micronaut.data.model.query.builder.QueryResult
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.model.runtime.RuntimePersistentProperty
+import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder
+import io.micronaut.data.runtime.criteria.Test
+import spock.lang.Specification
+
+class CriteriaQueryResultCacheSpec extends Specification {
+
+    RuntimeCriteriaBuilder criteriaBuilder
+    SqlQueryBuilder queryBuilder = new SqlQueryBuilder()
+
+    void setup() {
+        Map<Class, RuntimePersistentEntity> map = new HashMap<>()
+        criteriaBuilder = new RuntimeCriteriaBuilder(new RuntimeEntityRegistry() {
+            @Override
+            EntityEventListener<Object> getEntityEventListener() {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            <T> RuntimePersistentEntity<T> getEntity(Class<T> type) {
+                return map.computeIfAbsent(type, RuntimePersistentEntity::new)
+            }
+
+            @Override
+            <T> RuntimePersistentEntity<T> newEntity(Class<T> type) {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            ApplicationContext getApplicationContext() {
+                throw new IllegalStateException()
+            }
+        })
+    }
+
+    void "test the query of the same shape is reused with new values"() {
+        given:
+            def cache = new CriteriaQueryResultCache(10)
+        when:
+            def first = build(cache, findByNameAndAge("A", 10L))
+            def second = build(cache, findByNameAndAge("B", 20L))
+        then:
+            first.query == second.query
+            first.parameterBindings*.value == ["A", 10L]
+            second.parameterBindings*.value == ["B", 20L]
+            second.parameterBindings*.propertyPath == first.parameterBindings*.propertyPath
+        when:
+            def third = build(cache, findByName("C"))
+        then:
+            third.query != first.query
+            third.parameterBindings*.value == ["C"]
+    }
+
+    void "test the query with not distinguishable values is not cached"() {
+        given:
+            def cache = new CriteriaQueryResultCache(10)
+        when:
+            def first = build(cache, findByNameAndOtherName("A", "A"))
+            def second = build(cache, findByNameAndOtherName("B", "C"))
+            def third = build(cache, findByNameAndOtherName("D", "E"))
+        then:
+            first.parameterBindings*.value == ["A", "A"]
+            second.parameterBindings*.value == ["B", "C"]
+            third.parameterBindings*.value == ["D", "E"]
+    }
+
+    void "test disabled cache"() {
+        given:
+            def cache = new CriteriaQueryResultCache(0)
+        when:
+            def first = build(cache, findByName("A"))
+            def second = build(cache, findByName("B"))
+        then:
+            first.query == second.query
+            first.parameterBindings*.value == ["A"]
+            second.parameterBindings*.value == ["B"]
+    }
+
+    private QueryResult build(CriteriaQueryResultCache cache, PersistentEntityCriteriaQuery<Test> criteriaQuery) {
+        def queryModel = criteriaQuery.getQueryModel()
+        return cache.buildQuery(["test"], queryModel, null, () -> queryBuilder.buildQuery(queryModel))
+    }
+
+    private PersistentEntityCriteriaQuery<Test> findByName(String name) {
+        def query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.equal(root.get("name"), name))
+        return query
+    }
+
+    private PersistentEntityCriteriaQuery<Test> findByNameAndAge(String name, Long age) {
+        def query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("name"), name),
+                criteriaBuilder.greaterThan(root.get("age"), age)
+        ))
+        return query
+    }
+
+    private PersistentEntityCriteriaQuery<Test> findByNameAndOtherName(String name, String otherName) {
+        def query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.or(
+                criteriaBuilder.equal(root.get("name"), name),
+                criteriaBuilder.equal(root.get("name"), otherName)
+        ))
+        return query
+    }
+}
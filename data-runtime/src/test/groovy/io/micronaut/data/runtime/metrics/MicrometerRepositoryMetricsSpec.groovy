@@ -0,0 +1,134 @@
+package io.micronaut.data.runtime.metrics
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.aop.MethodInvocationContext
+import io.micronaut.data.intercept.DataInterceptor
+import io.micronaut.data.intercept.RepositoryMethodKey
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class MicrometerRepositoryMetricsSpec extends Specification {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    MicrometerRepositoryMetrics metrics = new MicrometerRepositoryMetrics(meterRegistry)
+
+    void "test find method is timed and rows are recorded"() {
+        given:
+        def context = context("findAll")
+        def interceptor = metrics.instrument(new FindBooksInterceptor(result: [1, 2, 3]), context, null)
+
+        when:
+        interceptor.intercept(null, context)
+
+        then:
+        def timer = meterRegistry.get(MicrometerRepositoryMetrics.METHOD_TIMER)
+                .tags("repository", "BookRepository", "method", "findAll", "operation", "find-books", "datasource", "default", "outcome", "success")
+                .timer()
+        timer.count() == 1
+        meterRegistry.get(MicrometerRepositoryMetrics.ROWS_SUMMARY).summary().totalAmount() == 3
+    }
+
+    void "test failed invocation is timed with the exception outcome"() {
+        given:
+        def context = context("findAll")
+        def interceptor = metrics.instrument(new FindBooksInterceptor(error: new IllegalStateException()), context, "other")
+
+        when:
+        interceptor.intercept(null, context)
+
+        then:
+        thrown(IllegalStateException)
+        meterRegistry.get(MicrometerRepositoryMetrics.METHOD_TIMER)
+                .tags("datasource", "other", "outcome", "IllegalStateException")
+                .timer()
+                .count() == 1
+    }
+
+    void "test batch size is recorded"() {
+        given:
+        def context = context("saveAll", [1, 2, 3, 4])
+        def interceptor = metrics.instrument(new SaveAllBooksInterceptor(), context, null)
+
+        when:
+        interceptor.intercept(null, context)
+
+        then:
+        meterRegistry.get(MicrometerRepositoryMetrics.BATCH_SIZE_SUMMARY).summary().totalAmount() == 4
+        meterRegistry.find(MicrometerRepositoryMetrics.ROWS_SUMMARY).summary() == null
+    }
+
+    void "test a one-shot iterable is not consumed by the batch size"() {
+        given:
+        def iterator = [1, 2, 3].iterator()
+        def context = context("saveAll", { iterator } as Iterable)
+        def interceptor = metrics.instrument(new SaveAllBooksInterceptor(), context, null)
+
+        when:
+        def saved = interceptor.intercept(null, context).collect()
+
+        then:
+        saved == [1, 2, 3]
+        meterRegistry.get(MicrometerRepositoryMetrics.BATCH_SIZE_SUMMARY).summary().count() == 0
+    }
+
+    void "test asynchronous and reactive results are timed on completion"() {
+        given:
+        def context = context("findAll")
+        def future = new CompletableFuture()
+        def asyncInterceptor = metrics.instrument(new FindBooksInterceptor(result: future), context, null)
+        def reactiveInterceptor = metrics.instrument(new FindBooksInterceptor(result: Flux.just(1, 2)), context, null)
+
+        when:
+        def stage = asyncInterceptor.intercept(null, context)
+
+        then:
+        meterRegistry.get(MicrometerRepositoryMetrics.METHOD_TIMER).timer().count() == 0
+
+        when:
+        future.complete([1])
+        stage.toCompletableFuture().get()
+
+        then:
+        meterRegistry.get(MicrometerRepositoryMetrics.METHOD_TIMER).timer().count() == 1
+
+        when:
+        Flux.from(reactiveInterceptor.intercept(null, context)).collectList().block()
+
+        then:
+        meterRegistry.get(MicrometerRepositoryMetrics.METHOD_TIMER).timer().count() == 2
+        meterRegistry.get(MicrometerRepositoryMetrics.ROWS_SUMMARY).summary().totalAmount() == 3
+    }
+
+    private MethodInvocationContext<Object, Object> context(String methodName, Object... parameterValues) {
+        Mock(MethodInvocationContext) {
+            getTarget() >> new BookRepository()
+            getMethodName() >> methodName
+            getParameterValues() >> parameterValues
+        }
+    }
+
+    static class BookRepository {
+    }
+
+    static class FindBooksInterceptor implements DataInterceptor<Object, Object> {
+        Object result
+        RuntimeException error
+
+        @Override
+        Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+            if (error != null) {
+                throw error
+            }
+            return result
+        }
+    }
+
+    static class SaveAllBooksInterceptor implements DataInterceptor<Object, Object> {
+        @Override
+        Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+            return context.getParameterValues()[0]
+        }
+    }
+}
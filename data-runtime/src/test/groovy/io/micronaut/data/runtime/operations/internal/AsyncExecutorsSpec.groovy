@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal
+
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadPoolExecutor
+
+class AsyncExecutorsSpec extends Specification {
+
+    void "test the io executor is used by default"() {
+        given:
+        def context = ApplicationContext.run()
+        def ioExecutor = Executors.newSingleThreadExecutor()
+
+        expect:
+        AsyncExecutors.newExecutor(context, ioExecutor, null).is(ioExecutor)
+        AsyncExecutors.newExecutor(null, ioExecutor, null).is(ioExecutor)
+
+        cleanup:
+        ioExecutor.shutdown()
+        context.close()
+    }
+
+    void "test bounded executor"() {
+        given:
+        def context = ApplicationContext.run(
+                'micronaut.data.async.executor-type': 'bounded',
+                'micronaut.data.async.max-threads': 3
+        )
+
+        when:
+        ExecutorService executor = AsyncExecutors.newExecutor(context, null, null)
+
+        then:
+        executor instanceof ThreadPoolExecutor
+        ((ThreadPoolExecutor) executor).maximumPoolSize == 3
+
+        cleanup:
+        executor?.shutdown()
+        context.close()
+    }
+
+    void "test bounded executor limited by the connection pool"() {
+        given:
+        def context = ApplicationContext.run(
+                'micronaut.data.async.executor-type': 'bounded'
+        )
+
+        when:
+        ExecutorService executor = AsyncExecutors.newExecutor(context, null, new TestPool())
+
+        then:
+        ((ThreadPoolExecutor) executor).maximumPoolSize == 7
+
+        cleanup:
+        executor?.shutdown()
+        context.close()
+    }
+
+    void "test virtual thread executor"() {
+        given:
+        def context = ApplicationContext.run(
+                'micronaut.data.async.executor-type': 'virtual'
+        )
+
+        when:
+        ExecutorService executor = AsyncExecutors.newExecutor(context, null, null)
+
+        then:
+        executor.submit({ -> "done" } as Callable).get() == "done"
+        executor instanceof ThreadPoolExecutor || executor.class.name.contains("ThreadPerTaskExecutor")
+
+        cleanup:
+        executor?.shutdown()
+        context.close()
+    }
+
+    static class TestPool {
+        int getMaximumPoolSize() {
+            return 7
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql
+
+import io.micronaut.data.model.DataType
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder
+import io.micronaut.data.model.runtime.QueryParameterBinding
+import io.micronaut.data.model.runtime.StoredQuery
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class DefaultSqlStoredQuerySpec extends Specification {
+
+    @Unroll
+    void "test IN list of #size values is padded to #padded on #dialect"() {
+        expect:
+        DefaultSqlStoredQuery.paddedSize(size, dialect) == padded
+
+        where:
+        size  | dialect            | padded
+        1     | Dialect.H2         | 1
+        2     | Dialect.H2         | 2
+        3     | Dialect.H2         | 4
+        5     | Dialect.MYSQL      | 8
+        1000  | Dialect.POSTGRES   | 1024
+        1025  | Dialect.POSTGRES   | 2048
+        600   | Dialect.ORACLE     | 1000
+        1200  | Dialect.ORACLE     | 1200
+        1500  | Dialect.SQL_SERVER | 2000
+        40000 | Dialect.MYSQL      | 40000
+    }
+
+    @Unroll
+    void "test IN lists of #first and #second values use #sizes placeholders"() {
+        given:
+        def query = new DefaultSqlStoredQuery(storedQuery(), null, new SqlQueryBuilder(Dialect.MYSQL))
+
+        expect:
+        query.getExpandedParameterSizes([(1..first).toList(), (1..second).toList()] as Object[]) == sizes as int[]
+
+        where:
+        first | second | sizes
+        3     | 5      | [4, 8]
+        1000  | 1000   | [1024, 1024]
+        10000 | 10000  | [10000, 10000]
+        20000 | 1      | [20000, 1]
+    }
+
+    private StoredQuery storedQuery() {
+        def first = binding(0)
+        def second = binding(1)
+        return Mock(StoredQuery) {
+            getQuery() >> "SELECT * FROM item WHERE a IN (?) AND b NOT IN (?)"
+            getExpandableQueryParts() >> (["SELECT * FROM item WHERE a IN (", ") AND b NOT IN (", ")"] as String[])
+            getQueryBindings() >> [first, second]
+        }
+    }
+
+    private QueryParameterBinding binding(int parameterIndex) {
+        return Mock(QueryParameterBinding) {
+            isExpandable() >> true
+            getParameterIndex() >> parameterIndex
+            getDataType() >> DataType.INTEGER
+        }
+    }
+}
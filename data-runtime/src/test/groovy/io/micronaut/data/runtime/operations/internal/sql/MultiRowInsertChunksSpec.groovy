@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class MultiRowInsertChunksSpec extends Specification {
+
+    @Unroll
+    void "test #rows rows are split into chunks of #sizes with at most #maxRows rows"() {
+        when:
+        def chunks = AbstractSqlRepositoryOperations.multiRowInsertChunks((1..rows).toList(), maxRows)
+
+        then:
+        chunks*.size() == sizes
+        chunks.flatten() == (1..rows).toList()
+
+        where:
+        rows | maxRows | sizes
+        1    | 100     | [1]
+        7    | 100     | [4, 2, 1]
+        100  | 100     | [100]
+        250  | 100     | [100, 100, 32, 16, 2]
+        5    | 3       | [3, 2]
+    }
+
+    void "test no chunks are created without rows"() {
+        expect:
+        AbstractSqlRepositoryOperations.multiRowInsertChunks([], 10).isEmpty()
+    }
+}
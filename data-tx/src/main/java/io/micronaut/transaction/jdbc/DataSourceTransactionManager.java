@@ -197,7 +197,12 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
 
         try {
             if (!txObject.hasConnectionHolder() || txObject.getConnectionHolder().isSynchronizedWithTransaction()) {
-                Connection newCon = dataSource.getConnection();
+                Connection newCon;
+                if (definition.isReadOnly() && dataSource instanceof ReadReplicaRoutingDataSource) {
+                    newCon = ((ReadReplicaRoutingDataSource) dataSource).getReadConnection();
+                } else {
+                    newCon = dataSource.getConnection();
+                }
                 if (logger.isDebugEnabled()) {
                     logger.debug("Acquired Connection [" + newCon + "] for JDBC transaction");
                 }
@@ -267,6 +272,9 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         } catch (SQLException ex) {
             throw new TransactionSystemException("Could not commit JDBC transaction", ex);
         }
+        if (!status.isReadOnly() && dataSource instanceof ReadReplicaRoutingDataSource) {
+            ((ReadReplicaRoutingDataSource) dataSource).markWrite();
+        }
     }
 
     @Override
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.jdbc;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The read replicas of a data source. The read-only transactions and the non-transactional reads of a data source
+ * with read replicas are routed to one of the replicas.
+ *
+ * @since 3.6.0
+ */
+@EachProperty(value = ReadReplicaConfiguration.PREFIX, primary = "default")
+public class ReadReplicaConfiguration implements Named {
+    /**
+     * The prefix to use.
+     */
+    public static final String PREFIX = "datasources";
+
+    private final String name;
+    private List<String> readReplicas = new ArrayList<>(3);
+    private LoadBalancing readReplicaLoadBalancing = LoadBalancing.ROUND_ROBIN;
+    private Duration readYourWritesWindow;
+
+    /**
+     * The configuration.
+     * @param name The configuration name
+     */
+    public ReadReplicaConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The names of the data sources that are the read replicas of this data source.
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the data sources that are the read replicas of this data source.
+     *
+     * @param readReplicas The names of the data sources
+     */
+    public void setReadReplicas(List<String> readReplicas) {
+        if (readReplicas != null) {
+            this.readReplicas = readReplicas;
+        }
+    }
+
+    /**
+     * @return How a read replica is selected.
+     */
+    @NonNull
+    public LoadBalancing getReadReplicaLoadBalancing() {
+        return readReplicaLoadBalancing;
+    }
+
+    /**
+     * Sets how a read replica is selected.
+     *
+     * @param readReplicaLoadBalancing The load balancing
+     */
+    public void setReadReplicaLoadBalancing(LoadBalancing readReplicaLoadBalancing) {
+        if (readReplicaLoadBalancing != null) {
+            this.readReplicaLoadBalancing = readReplicaLoadBalancing;
+        }
+    }
+
+    /**
+     * @return The duration after a write during which the reads of the same thread stay on this data source.
+     */
+    @Nullable
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    /**
+     * Sets the duration after a write during which the reads of the same thread stay on this data source,
+     * allowing to read the written data before it is replicated.
+     *
+     * @param readYourWritesWindow The duration
+     */
+    public void setReadYourWritesWindow(@Nullable Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    /**
+     * The read replica load balancing.
+     */
+    public enum LoadBalancing {
+        /**
+         * The replicas are used in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * The replica with the fewest connections in use is used.
+         */
+        LEAST_CONNECTIONS
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.jdbc;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDBC {@link DataSource} that routes the reads to read replicas of the primary data source.
+ *
+ * <p>The connections obtained by {@link #getConnection()} are connections of the primary data source.
+ * The read-only transactions of {@link DataSourceTransactionManager} and the non-transactional reads
+ * use {@link #getReadConnection()} that selects a read replica, unless a write was done by the current thread
+ * within the read-your-writes window.</p>
+ *
+ * @since 3.6.0
+ */
+public final class ReadReplicaRoutingDataSource implements DataSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadReplicaConfiguration.LoadBalancing loadBalancing;
+    private final long readYourWritesWindowNanos;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final AtomicInteger[] activeConnections;
+    private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+
+    /**
+     * Creates a new routing data source.
+     *
+     * @param primary              The primary data source
+     * @param replicas             The read replicas
+     * @param loadBalancing        The load balancing of the read replicas
+     * @param readYourWritesWindow The duration after a write during which the reads stay on the primary data source
+     */
+    public ReadReplicaRoutingDataSource(@NonNull DataSource primary,
+                                        @NonNull List<DataSource> replicas,
+                                        @NonNull ReadReplicaConfiguration.LoadBalancing loadBalancing,
+                                        @Nullable Duration readYourWritesWindow) {
+        Objects.requireNonNull(primary, "The primary data source cannot be null");
+        Objects.requireNonNull(replicas, "The read replicas cannot be null");
+        Objects.requireNonNull(loadBalancing, "The load balancing cannot be null");
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+        this.loadBalancing = loadBalancing;
+        this.readYourWritesWindowNanos = readYourWritesWindow == null ? 0 : readYourWritesWindow.toNanos();
+        this.activeConnections = new AtomicInteger[replicas.size()];
+        for (int i = 0; i < activeConnections.length; i++) {
+            activeConnections[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * @return The primary data source
+     */
+    @NonNull
+    public DataSource getPrimaryDataSource() {
+        return primary;
+    }
+
+    /**
+     * @return The read replicas
+     */
+    @NonNull
+    public List<DataSource> getReadReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Obtains a connection of a read replica. The connection of the primary data source is returned if a write
+     * was done by the current thread within the read-your-writes window or if the replica is unavailable.
+     *
+     * @return The connection
+     * @throws SQLException if the connection of the primary data source cannot be obtained
+     */
+    @NonNull
+    public Connection getReadConnection() throws SQLException {
+        if (replicas.isEmpty() || isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        int index = selectReplica();
+        try {
+            Connection connection = replicas.get(index).getConnection();
+            if (loadBalancing == ReadReplicaConfiguration.LoadBalancing.LEAST_CONNECTIONS) {
+                return trackActiveConnection(connection, activeConnections[index]);
+            }
+            return connection;
+        } catch (SQLException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Cannot obtain a connection of the read replica [" + index + "], using the primary data source: " + e.getMessage(), e);
+            }
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Marks that a write was done by the current thread, the reads of the thread use the primary data source
+     * during the read-your-writes window.
+     */
+    public void markWrite() {
+        if (readYourWritesWindowNanos > 0) {
+            lastWrite.set(System.nanoTime());
+        }
+    }
+
+    private boolean isPinnedToPrimary() {
+        if (readYourWritesWindowNanos <= 0) {
+            return false;
+        }
+        Long lastWriteNanos = lastWrite.get();
+        if (lastWriteNanos == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWriteNanos < readYourWritesWindowNanos) {
+            return true;
+        }
+        lastWrite.remove();
+        return false;
+    }
+
+    private int selectReplica() {
+        int size = replicas.size();
+        int next = Math.floorMod(counter.getAndIncrement(), size);
+        if (loadBalancing == ReadReplicaConfiguration.LoadBalancing.ROUND_ROBIN || size == 1) {
+            return next;
+        }
+        // Start from the round-robin position to spread the replicas with the same number of connections
+        int selected = next;
+        int fewest = activeConnections[next].get();
+        for (int i = 1; i < size && fewest > 0; i++) {
+            int index = (next + i) % size;
+            int active = activeConnections[index].get();
+            if (active < fewest) {
+                selected = index;
+                fewest = active;
+            }
+        }
+        return selected;
+    }
+
+    private Connection trackActiveConnection(Connection connection, AtomicInteger active) {
+        active.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (closed.compareAndSet(false, true)) {
+                                active.decrementAndGet();
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+}
@@ -20,12 +20,15 @@ import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.event.BeanCreatedEvent;
 import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.inject.BeanIdentifier;
 import io.micronaut.inject.qualifiers.Qualifiers;
 
 import jakarta.inject.Singleton;
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Transaction aware data source implementation.
@@ -55,7 +58,28 @@ public class TransactionAwareDataSource implements BeanCreatedEventListener<Data
         if (name.equalsIgnoreCase("primary")) {
             name = "default";
         }
-        return new DataSourceProxy(event.getBean(), name);
+        return new DataSourceProxy(routeReadReplicas(event.getBean(), name), name);
+    }
+
+    private DataSource routeReadReplicas(DataSource dataSource, String name) {
+        ReadReplicaConfiguration configuration = beanLocator.findBean(ReadReplicaConfiguration.class, Qualifiers.byName(name)).orElse(null);
+        if (configuration == null || configuration.getReadReplicas().isEmpty()) {
+            return dataSource;
+        }
+        List<DataSource> replicas = new ArrayList<>(configuration.getReadReplicas().size());
+        for (String replicaName : configuration.getReadReplicas()) {
+            if (replicaName.equalsIgnoreCase(name)) {
+                throw new ConfigurationException("Data source [" + name + "] cannot be its own read replica");
+            }
+            DataSource replica = beanLocator.getBean(DataSource.class, Qualifiers.byName(replicaName));
+            replicas.add(DelegatingDataSource.unwrapDataSource(replica));
+        }
+        return new ReadReplicaRoutingDataSource(
+                dataSource,
+                replicas,
+                configuration.getReadReplicaLoadBalancing(),
+                configuration.getReadYourWritesWindow()
+        );
     }
 
     /**
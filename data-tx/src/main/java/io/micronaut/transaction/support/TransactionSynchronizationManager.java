@@ -22,8 +22,9 @@ import io.micronaut.transaction.TransactionDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +75,8 @@ public abstract class TransactionSynchronizationManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(TransactionSynchronizationManager.class);
 
+    private static final SynchronousTransactionState EMPTY_DEFAULT_STATE = new DefaultSynchronousTransactionState();
+
     private static final ThreadLocal<MutableTransactionSynchronizationState> STATE = new ThreadLocal<MutableTransactionSynchronizationState>() {
         @Override
         public String toString() {
@@ -91,13 +94,16 @@ public abstract class TransactionSynchronizationManager {
         return mutableState;
     }
 
-    @NonNull
-    private static MutableTransactionSynchronizationState getInternalState() {
+    @Nullable
+    private static ResourceSlots<Object> findResources() {
         MutableTransactionSynchronizationState mutableState = STATE.get();
-        if (mutableState == null) {
-            mutableState = new MutableTransactionSynchronizationState();
-        }
-        return mutableState;
+        return mutableState == null ? null : mutableState.resources;
+    }
+
+    @Nullable
+    private static ResourceSlots<SynchronousTransactionState> findStates() {
+        MutableTransactionSynchronizationState mutableState = STATE.get();
+        return mutableState == null ? null : mutableState.states;
     }
 
     //-------------------------------------------------------------------------
@@ -115,7 +121,8 @@ public abstract class TransactionSynchronizationManager {
      * @see #hasResource
      */
     public static Map<Object, Object> getResourceMap() {
-        return Collections.unmodifiableMap(getInternalState().getResources());
+        ResourceSlots<Object> resources = findResources();
+        return resources == null ? Collections.emptyMap() : Collections.unmodifiableMap(resources.toMap());
     }
 
     /**
@@ -127,7 +134,7 @@ public abstract class TransactionSynchronizationManager {
      */
     public static boolean hasResource(Object key) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        Object value = doGetResource(getInternalState().getResources(), actualKey);
+        Object value = doGetResource(findResources(), actualKey);
         return (value != null);
     }
 
@@ -142,7 +149,7 @@ public abstract class TransactionSynchronizationManager {
     @Nullable
     public static Object getResource(Object key) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        Object value = doGetResource(getInternalState().getResources(), actualKey);
+        Object value = doGetResource(findResources(), actualKey);
         if (value != null && LOG.isTraceEnabled()) {
             LOG.trace("Retrieved value [" + value + "] for key [" + actualKey + "] bound to thread [" +
                 Thread.currentThread().getName() + "]");
@@ -160,14 +167,14 @@ public abstract class TransactionSynchronizationManager {
      * Actually check the value of the resource that is bound for the given key.
      */
     @Nullable
-    private static <T> T doGetResource(@Nullable Map<Object, T> map, @NonNull Object actualKey) {
-        if (map == null) {
+    private static <T> T doGetResource(@Nullable ResourceSlots<T> slots, @NonNull Object actualKey) {
+        if (slots == null) {
             return null;
         }
-        T value = map.get(actualKey);
+        T value = slots.get(actualKey);
         // Transparently remove ResourceHolder that was marked as void...
         if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
-            map.remove(actualKey);
+            slots.remove(actualKey);
             value = null;
         }
         return value;
@@ -182,7 +189,7 @@ public abstract class TransactionSynchronizationManager {
      * @see ResourceTransactionManager#getResourceFactory()
      */
     public static void bindResource(Object key, Object value) throws IllegalStateException {
-        bindResource(getOrCreateInternalState().getResources(), key, value);
+        bindResource(getOrCreateInternalState().resources, key, value);
     }
 
     public static void rebindResource(Object key, Object value) throws IllegalStateException {
@@ -195,10 +202,10 @@ public abstract class TransactionSynchronizationManager {
         }
     }
 
-    private static <T> void bindResource(Map<Object, T> map, Object key, T value) {
+    private static <T> void bindResource(ResourceSlots<T> slots, Object key, T value) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
         Objects.requireNonNull(value, "Value must not be null");
-        Object oldValue = map.put(actualKey, value);
+        Object oldValue = slots.put(actualKey, value);
         // Transparently suppress a ResourceHolder that was marked as void...
         if (oldValue instanceof ResourceHolder && ((ResourceHolder) oldValue).isVoid()) {
             oldValue = null;
@@ -223,7 +230,7 @@ public abstract class TransactionSynchronizationManager {
      */
     public static Object unbindResource(Object key) throws IllegalStateException {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        Object value = doUnbindResource(getInternalState().getResources(), actualKey);
+        Object value = doUnbindResource(findResources(), actualKey);
         if (value == null) {
             throw new IllegalStateException(
                 "No value for key [" + actualKey + "] bound to thread [" + Thread.currentThread().getName() + "]");
@@ -240,15 +247,15 @@ public abstract class TransactionSynchronizationManager {
     @Nullable
     public static Object unbindResourceIfPossible(Object key) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        return doUnbindResource(getInternalState().getResources(), actualKey);
+        return doUnbindResource(findResources(), actualKey);
     }
 
     /**
      * Actually remove the value of the resource that is bound for the given key.
      */
     @Nullable
-    private static <T> T doUnbindResource(@Nullable Map<Object, T> map, @NonNull Object actualKey) {
-        T value = map == null ? null : map.remove(actualKey);
+    private static <T> T doUnbindResource(@Nullable ResourceSlots<T> slots, @NonNull Object actualKey) {
+        T value = slots == null ? null : slots.remove(actualKey);
         // Transparently suppress a ResourceHolder that was marked as void...
         if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
             value = null;
@@ -265,12 +272,12 @@ public abstract class TransactionSynchronizationManager {
     //-------------------------------------------------------------------------
 
     public static void bindSynchronousTransactionState(@NonNull Object key, @NonNull SynchronousTransactionState state) {
-        bindResource(getOrCreateInternalState().getStates(), key, state);
+        bindResource(getOrCreateInternalState().states, key, state);
     }
 
     public static SynchronousTransactionState unbindSynchronousTransactionState(Object key) throws IllegalStateException {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        SynchronousTransactionState value = doUnbindResource(getInternalState().getStates(), actualKey);
+        SynchronousTransactionState value = doUnbindResource(findStates(), actualKey);
         if (value == null) {
             throw new IllegalStateException(
                 "No value for key [" + actualKey + "] bound to thread [" + Thread.currentThread().getName() + "]");
@@ -281,7 +288,7 @@ public abstract class TransactionSynchronizationManager {
     @Nullable
     public static SynchronousTransactionState getSynchronousTransactionState(@NonNull Object key) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        SynchronousTransactionState value = doGetResource(getInternalState().getStates(), actualKey);
+        SynchronousTransactionState value = doGetResource(findStates(), actualKey);
         if (value != null && LOG.isTraceEnabled()) {
             LOG.trace("Retrieved value [" + value + "] for key [" + actualKey + "] bound to thread [" + Thread.currentThread().getName() + "]");
         }
@@ -291,7 +298,7 @@ public abstract class TransactionSynchronizationManager {
     @NonNull
     public static SynchronousTransactionState getRequiredSynchronousTransactionState(@NonNull Object key) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        SynchronousTransactionState value = doGetResource(getInternalState().getStates(), actualKey);
+        SynchronousTransactionState value = doGetResource(findStates(), actualKey);
         if (value == null) {
             throw new IllegalStateException("No value for key [" + actualKey + "] bound to thread [" + Thread.currentThread().getName() + "]");
         }
@@ -304,7 +311,7 @@ public abstract class TransactionSynchronizationManager {
     @NonNull
     public static SynchronousTransactionState getSynchronousTransactionStateOrCreate(@NonNull Object key, Supplier<SynchronousTransactionState> creator) {
         Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
-        SynchronousTransactionState value = doGetResource(getOrCreateInternalState().getStates(), actualKey);
+        SynchronousTransactionState value = doGetResource(findStates(), actualKey);
         if (value != null && LOG.isTraceEnabled()) {
             LOG.trace("Retrieved value [" + value + "] for key [" + actualKey + "] bound to thread [" + Thread.currentThread().getName() + "]");
         }
@@ -317,24 +324,18 @@ public abstract class TransactionSynchronizationManager {
 
     @Nullable
     private static SynchronousTransactionState findDefaultState() {
-        Map<Object, SynchronousTransactionState> states = getInternalState().getStates();
-        if (states.isEmpty()) {
+        ResourceSlots<SynchronousTransactionState> states = findStates();
+        if (states == null) {
             return null;
         }
-        if (states.size() == 1) {
-            return states.values().iterator().next();
-        }
-        SynchronousTransactionState synchronousTransactionState = states.get(DEFAULT_STATE_KEY);
-        if (synchronousTransactionState != null) {
-            return synchronousTransactionState;
-        }
-        throw new IllegalStateException("Multiple synchronous transaction states found!");
+        return states.getSingleOrDefault(DEFAULT_STATE_KEY);
     }
 
     @NonNull
     private static SynchronousTransactionState getOrEmptyDefaultState() {
         SynchronousTransactionState synchronousTransactionState = findDefaultState();
-        return synchronousTransactionState == null ? new DefaultSynchronousTransactionState() : synchronousTransactionState;
+        // The empty state is only read
+        return synchronousTransactionState == null ? EMPTY_DEFAULT_STATE : synchronousTransactionState;
     }
 
     @NonNull
@@ -777,31 +778,137 @@ public abstract class TransactionSynchronizationManager {
      * @since 3.4.0
      */
     private static final class MutableTransactionSynchronizationState implements TransactionSynchronizationState {
-        private final Map<Object, Object> resources;
-        private final Map<Object, SynchronousTransactionState> states;
+        private final ResourceSlots<Object> resources;
+        private final ResourceSlots<SynchronousTransactionState> states;
 
         private MutableTransactionSynchronizationState() {
-            this(new HashMap<>(2, 1), new HashMap<>(2, 1));
+            this(new ResourceSlots<>(), new ResourceSlots<>());
         }
 
-        private MutableTransactionSynchronizationState(Map<Object, Object> resources, Map<Object, SynchronousTransactionState> states) {
+        private MutableTransactionSynchronizationState(ResourceSlots<Object> resources, ResourceSlots<SynchronousTransactionState> states) {
             this.resources = resources;
             this.states = states;
         }
 
+        @Override
+        public MutableTransactionSynchronizationState copy() {
+            return new MutableTransactionSynchronizationState(resources.copy(), states.copy());
+        }
+    }
+
+    /**
+     * The values bound to the keys, stored in flat arrays in the binding order.
+     * Only a few resources are bound at the same time, scanning the keys by identity, which is how the resource
+     * factories are matched in practice, is cheaper than hashing them.
+     * The slots aren't synchronized: a state is used by the thread it's bound to, a state handed off to another thread
+     * is either copied or used by one thread at a time.
+     *
+     * @param <V> The value type
+     * @since 3.6.0
+     */
+    private static final class ResourceSlots<V> {
+        private Object[] keys;
+        private Object[] values;
+        private int size;
+
+        private ResourceSlots() {
+            this(new Object[2], new Object[2], 0);
+        }
+
+        private ResourceSlots(Object[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        @Nullable
+        V get(@NonNull Object key) {
+            int index = indexOf(key);
+            return index == -1 ? null : (V) values[index];
+        }
+
+        @Nullable
+        V put(@NonNull Object key, @NonNull V value) {
+            int index = indexOf(key);
+            if (index != -1) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            return null;
+        }
+
+        @Nullable
+        V remove(@NonNull Object key) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return null;
+            }
+            V oldValue = (V) values[index];
+            int last = --size;
+            System.arraycopy(keys, index + 1, keys, index, last - index);
+            System.arraycopy(values, index + 1, values, index, last - index);
+            keys[last] = null;
+            values[last] = null;
+            return oldValue;
+        }
+
+        /**
+         * Find the only value or the value of the default key if there are multiple values.
+         *
+         * @param defaultKey The default key
+         * @return The value or null if there are no values
+         * @throws IllegalStateException if there are multiple values and none is bound to the default key
+         */
+        @Nullable
+        V getSingleOrDefault(@NonNull Object defaultKey) {
+            if (size == 0) {
+                return null;
+            }
+            if (size == 1) {
+                return (V) values[0];
+            }
+            V value = get(defaultKey);
+            if (value != null) {
+                return value;
+            }
+            throw new IllegalStateException("Multiple synchronous transaction states found!");
+        }
+
         @NonNull
-        public synchronized Map<Object, Object> getResources() {
-            return resources;
+        Map<Object, V> toMap() {
+            Map<Object, V> map = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], (V) values[i]);
+            }
+            return map;
         }
 
         @NonNull
-        public synchronized Map<Object, SynchronousTransactionState> getStates() {
-            return states;
+        ResourceSlots<V> copy() {
+            int length = Math.max(size, 2);
+            return new ResourceSlots<>(Arrays.copyOf(keys, length), Arrays.copyOf(values, length), size);
         }
 
-        @Override
-        public MutableTransactionSynchronizationState copy() {
-            return new MutableTransactionSynchronizationState(new HashMap<>(resources), new HashMap<>(states));
+        private int indexOf(Object key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
         }
     }
 
@@ -0,0 +1,77 @@
+package io.micronaut.transaction.jdbc
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.transaction.SynchronousTransactionManager
+import io.micronaut.transaction.TransactionCallback
+import io.micronaut.transaction.TransactionStatus
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+class ReadReplicaRoutingSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run([
+            'datasources.default.name'                       : 'primarydb',
+            'datasources.default.read-replicas'              : ['replica1', 'replica2'],
+            'datasources.default.read-replica-load-balancing': 'least-connections',
+            'datasources.replica1.name'                      : 'replica1db',
+            'datasources.replica2.name'                      : 'replica2db'
+    ])
+
+    void "test read-only transactions use the read replicas"() {
+        given:
+        SynchronousTransactionManager<Connection> transactionManager = context.getBean(SynchronousTransactionManager)
+        DataSource dataSource = context.getBean(DataSource)
+
+        expect:
+        DelegatingDataSource.unwrapDataSource(dataSource) instanceof ReadReplicaRoutingDataSource
+        transactionManager.executeWrite({ TransactionStatus<Connection> status ->
+            databaseName(status.connection)
+        } as TransactionCallback) == 'PRIMARYDB'
+        (1..4).collect {
+            transactionManager.executeRead({ TransactionStatus<Connection> status ->
+                databaseName(status.connection)
+            } as TransactionCallback)
+        } as Set == ['REPLICA1DB', 'REPLICA2DB'] as Set
+        transactionManager.executeWrite({ TransactionStatus<Connection> status ->
+            transactionManager.executeRead({ TransactionStatus<Connection> nested ->
+                databaseName(nested.connection)
+            } as TransactionCallback)
+        } as TransactionCallback) == 'PRIMARYDB'
+    }
+
+    void "test read your writes window"() {
+        given:
+        def primary = context.getBean(DataSource, Qualifiers.byName("replica1"))
+        def replica = context.getBean(DataSource, Qualifiers.byName("replica2"))
+        def routing = new ReadReplicaRoutingDataSource(
+                DelegatingDataSource.unwrapDataSource(primary),
+                [DelegatingDataSource.unwrapDataSource(replica)],
+                ReadReplicaConfiguration.LoadBalancing.ROUND_ROBIN,
+                java.time.Duration.ofMinutes(1)
+        )
+
+        expect:
+        routing.readConnection.withCloseable { databaseName(it) } == 'REPLICA2DB'
+
+        when:
+        routing.markWrite()
+
+        then:
+        routing.readConnection.withCloseable { databaseName(it) } == 'REPLICA1DB'
+    }
+
+    private static String databaseName(Connection connection) {
+        def rs = connection.createStatement().executeQuery("SELECT DATABASE()")
+        rs.withCloseable {
+            it.next()
+            it.getString(1)
+        }
+    }
+}
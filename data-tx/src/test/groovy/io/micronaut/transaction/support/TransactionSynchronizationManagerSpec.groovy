@@ -0,0 +1,114 @@
+package io.micronaut.transaction.support
+
+import spock.lang.Specification
+
+class TransactionSynchronizationManagerSpec extends Specification {
+
+    void cleanup() {
+        TransactionSynchronizationManager.setState(null)
+    }
+
+    void "test bind and unbind resources"() {
+        given:
+        def key1 = new Object()
+        def key2 = "key2"
+        def key3 = new Object()
+
+        expect:
+        TransactionSynchronizationManager.getResource(key1) == null
+        TransactionSynchronizationManager.getResourceMap().isEmpty()
+        TransactionSynchronizationManager.getState() == null
+
+        when:
+        TransactionSynchronizationManager.bindResource(key1, "value1")
+        TransactionSynchronizationManager.bindResource(key2, "value2")
+        TransactionSynchronizationManager.bindResource(key3, "value3")
+
+        then:
+        TransactionSynchronizationManager.getResource(key1) == "value1"
+        TransactionSynchronizationManager.getResource(new String("key2")) == "value2"
+        TransactionSynchronizationManager.getResource(key3) == "value3"
+        TransactionSynchronizationManager.getResourceMap().values() as List == ["value1", "value2", "value3"]
+
+        when:
+        TransactionSynchronizationManager.bindResource(key2, "other")
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        def value = TransactionSynchronizationManager.unbindResource(key2)
+
+        then:
+        value == "value2"
+        !TransactionSynchronizationManager.hasResource(key2)
+        TransactionSynchronizationManager.getResourceMap() == [(key1): "value1", (key3): "value3"]
+        TransactionSynchronizationManager.unbindResourceIfPossible(key2) == null
+    }
+
+    void "test void resource holders are removed"() {
+        given:
+        def key = new Object()
+        def holder = new ResourceHolderSupport() {}
+        TransactionSynchronizationManager.bindResource(key, holder)
+
+        when:
+        holder.unbound()
+
+        then:
+        TransactionSynchronizationManager.getResource(key) == null
+        TransactionSynchronizationManager.getResourceMap().isEmpty()
+
+        when:
+        TransactionSynchronizationManager.bindResource(key, "value")
+
+        then:
+        TransactionSynchronizationManager.getResource(key) == "value"
+    }
+
+    void "test copied state is independent"() {
+        given:
+        def key = new Object()
+        TransactionSynchronizationManager.bindResource(key, "value")
+        def state = TransactionSynchronizationManager.getState()
+        def copy = state.copy()
+
+        when:
+        TransactionSynchronizationManager.unbindResource(key)
+
+        then:
+        TransactionSynchronizationManager.getResource(key) == null
+        TransactionSynchronizationManager.withState(copy, { TransactionSynchronizationManager.getResource(key) }) == "value"
+    }
+
+    void "test default synchronous transaction state"() {
+        given:
+        def state = new DefaultSynchronousTransactionState()
+
+        expect:
+        !TransactionSynchronizationManager.isSynchronizationActive()
+        !TransactionSynchronizationManager.isActualTransactionActive()
+
+        when:
+        TransactionSynchronizationManager.bindSynchronousTransactionState("tx", state)
+        state.setActualTransactionActive(true)
+
+        then:
+        TransactionSynchronizationManager.isActualTransactionActive()
+
+        when:
+        TransactionSynchronizationManager.bindSynchronousTransactionState("other", new DefaultSynchronousTransactionState())
+        TransactionSynchronizationManager.isActualTransactionActive()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        TransactionSynchronizationManager.bindSynchronousTransactionState(TransactionSynchronizationManager.DEFAULT_STATE_KEY, state)
+
+        then:
+        TransactionSynchronizationManager.isActualTransactionActive()
+        TransactionSynchronizationManager.unbindSynchronousTransactionState("other") != null
+        TransactionSynchronizationManager.unbindSynchronousTransactionState("tx") == state
+    }
+}